@@ -0,0 +1,63 @@
+package io.learn.lexigeek.security.domain;
+
+import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.account.dto.AccountDto;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"JWT", "JWT_REFRESH"})
+    private String cookieName;
+
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter filter;
+    private Cookie cookie;
+
+    @Setup
+    public void setUp() {
+        final JwtSigningKey signingKey = new JwtSigningKey();
+        signingKey.setKid(UUID.randomUUID().toString());
+        signingKey.setSecret(UUID.randomUUID().toString().getBytes());
+        signingKey.setCreated(LocalDateTime.now().minusDays(1));
+        final JwtKeyring jwtKeyring = new JwtKeyring(null, null, Duration.ofDays(7), Duration.ofMinutes(10));
+        jwtKeyring.load(List.of(signingKey), LocalDateTime.now());
+
+        final AccountDto account = new AccountDto(1L, UUID.randomUUID(), "user", "user@example.com", null);
+        final AccountFacade accountFacade = (AccountFacade) Proxy.newProxyInstance(AccountFacade.class.getClassLoader(),
+                new Class<?>[]{AccountFacade.class}, (proxy, method, args) -> account);
+        filter = new JwtAuthenticationFilter(jwtKeyring, accountFacade);
+        cookie = new Cookie(cookieName, jwtKeyring.generateToken(account, JwtUtils.ACCESS_TTL_SECONDS));
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/languages");
+        request.setCookies(cookie);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.learn.lexigeek.statistics.domain;
+
+import io.learn.lexigeek.statistics.dto.UserStatDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticsAssemblerBenchmark {
+
+    @Param({"1", "3", "5"})
+    private int years;
+
+    @Param({"3", "10"})
+    private int languages;
+
+    private LocalDate start;
+    private LocalDate end;
+    private List<DailyLanguageStatisticsProjection> languageRows;
+    private List<DailyStarsProjection> starsRows;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        end = LocalDate.of(2025, 12, 31);
+        start = end.minusYears(years).plusDays(1);
+
+        final List<UUID> languageUuids = new ArrayList<>();
+        for (int i = 0; i < languages; i++) {
+            languageUuids.add(UUID.randomUUID());
+        }
+
+        languageRows = new ArrayList<>();
+        starsRows = new ArrayList<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            for (final UUID languageUuid : languageUuids) {
+                if (random.nextInt(3) > 0) {
+                    languageRows.add(new LanguageRow(day, languageUuid, random.nextInt(200),
+                            random.nextInt(50), random.nextInt(20)));
+                }
+            }
+            if (random.nextBoolean()) {
+                starsRows.add(new StarsRow(day, random.nextInt(30)));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<UserStatDto> assemble() {
+        final StatisticsAssembler assembler = new StatisticsAssembler(start, end);
+        languageRows.forEach(assembler::addLanguageStatistics);
+        starsRows.forEach(assembler::addStars);
+        return assembler.assemble(true, true);
+    }
+
+    private record LanguageRow(LocalDate getDay, UUID getLanguageUuid, Integer getCorrectRepeats,
+                               Integer getIncorrectRepeats, Integer getWordsAdded)
+            implements DailyLanguageStatisticsProjection {
+    }
+
+    private record StarsRow(LocalDate getDay, Integer getStars) implements DailyStarsProjection {
+    }
+}
@@ -0,0 +1,60 @@
+package io.learn.lexigeek.word.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OfflineDictionaryBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int entries;
+
+    private Path directory;
+    private OfflineDictionary dictionary;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("dictionary-benchmark");
+        final Path tsv = directory.resolve("en-pl.tsv");
+        try (BufferedWriter writer = Files.newBufferedWriter(tsv)) {
+            for (int i = 0; i < entries; i++) {
+                writer.write("word" + i + "\tslowo" + i + "\n");
+            }
+        }
+        final Path index = directory.resolve("en-pl.idx");
+        OfflineDictionary.build(tsv, index);
+        dictionary = OfflineDictionary.open(index);
+
+        final Random random = new Random(42);
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = random.nextInt(4) == 0 ? "missing" + i : "word" + random.nextInt(entries);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("en-pl.tsv"));
+        Files.deleteIfExists(directory.resolve("en-pl.idx"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public String lookup() {
+        next = (next + 1) & (queries.length - 1);
+        return dictionary.lookup(queries[next]);
+    }
+}
@@ -13,9 +13,11 @@ public interface AccountFacade {
 
     AccountDto getAccountByEmail(final String email);
 
+    AccountDto getAccountById(final Long accountId);
+
     void createAccount(final AccountForm form);
 
-    void addStars(final AccountDto account, final Integer stars);
+    void addStars(final Long accountId, final Integer stars);
 
     Integer getStars();
 
@@ -25,4 +25,7 @@ class Account extends AbstractUuidEntity {
 
     @Column(name = "password", nullable = false, length = 70)
     private String password;
+
+    @Column(name = "stars_balance", nullable = false, insertable = false, updatable = false)
+    private Integer starsBalance = 0;
 }
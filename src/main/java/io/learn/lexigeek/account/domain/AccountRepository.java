@@ -2,6 +2,9 @@ package io.learn.lexigeek.account.domain;
 
 import io.learn.lexigeek.common.repository.UUIDAwareJpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +13,8 @@ import java.util.Optional;
 interface AccountRepository extends UUIDAwareJpaRepository<Account, Long>, JpaSpecificationExecutor<Account> {
 
     Optional<Account> findByEmail(final String email);
+
+    @Modifying
+    @Query("UPDATE Account a SET a.starsBalance = a.starsBalance + :stars WHERE a.id = :accountId")
+    int addToStarsBalance(@Param("accountId") final Long accountId, @Param("stars") final Integer stars);
 }
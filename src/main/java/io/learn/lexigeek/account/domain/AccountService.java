@@ -8,7 +8,9 @@ import io.learn.lexigeek.common.dto.DateRangeForm;
 import io.learn.lexigeek.common.exception.AlreadyExistsException;
 import io.learn.lexigeek.common.exception.AuthorizationException;
 import io.learn.lexigeek.common.exception.NotFoundException;
+import io.learn.lexigeek.common.request.RequestMemo;
 import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.learn.lexigeek.statistics.DailyStatisticsFacade;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,11 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -38,11 +37,15 @@ public class AccountService implements AccountFacade {
     private final AccountRepository accountRepository;
     private final AccountStarsRepository accountStarsRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DailyStatisticsFacade dailyStatisticsFacade;
 
     @Override
     public AccountDto getLoggedAccount() {
-        final Account account = getAccount();
-        return AccountMapper.entityToDto(account);
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AccountDto account) {
+            return account;
+        }
+        return RequestMemo.computeIfAbsent(new LoggedAccount(), () -> AccountMapper.entityToDto(getAccount()));
     }
 
     @Override
@@ -51,6 +54,13 @@ public class AccountService implements AccountFacade {
         return AccountMapper.entityToDto(account);
     }
 
+    @Override
+    public AccountDto getAccountById(final Long accountId) {
+        final Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new NotFoundException(ErrorCodes.USER_NOT_FOUND, accountId));
+        return AccountMapper.entityToDto(account);
+    }
+
     @Override
     public void createAccount(final AccountForm form) {
         accountRepository.findByEmail(form.email()).ifPresent(a -> {
@@ -65,19 +75,25 @@ public class AccountService implements AccountFacade {
 
     @Override
     @Transactional
-    public void addStars(final AccountDto account, final Integer stars) {
-        final Account accountEntity = getAccount(account.uuid());
+    public void addStars(final Long accountId, final Integer stars) {
+        final Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new NotFoundException(ErrorCodes.USER_NOT_FOUND, accountId));
+        saveStars(account, stars);
+    }
+
+    private void saveStars(final Account accountEntity, final Integer stars) {
         final AccountStars accountStars = new AccountStars();
         accountStars.setAccount(accountEntity);
         accountStars.setStars(stars);
         accountStars.setCreated(LocalDateTime.now());
         accountStarsRepository.save(accountStars);
+        accountRepository.addToStarsBalance(accountEntity.getId(), stars);
+        dailyStatisticsFacade.addStars(accountEntity.getId(), accountStars.getCreated().toLocalDate(), stars);
     }
 
     @Override
     public Integer getStars() {
-        final Account account = getAccount();
-        return accountStarsRepository.getTotalStarsByAccount(account);
+        return getAccount().getStarsBalance();
     }
 
     @Override
@@ -85,12 +101,7 @@ public class AccountService implements AccountFacade {
         final Account account = getAccount();
 
         final Map<LocalDate, Integer> starsPerDay =
-                accountStarsRepository.findByAccountAndCreatedBetweenOrderByCreatedAsc(
-                                account, range.min().atStartOfDay(), range.max().atTime(LocalTime.MAX)).stream()
-                        .collect(Collectors.groupingBy(
-                                as -> as.getCreated().toLocalDate(),
-                                Collectors.summingInt(AccountStars::getStars)
-                        ));
+                dailyStatisticsFacade.getStarsPerDay(account.getId(), range.min(), range.max());
 
         return range.min()
                 .datesUntil(range.max().plusDays(1))
@@ -116,8 +127,6 @@ public class AccountService implements AccountFacade {
                 .orElseThrow(() -> new NotFoundException(ErrorCodes.USER_NOT_FOUND, email));
     }
 
-    private Account getAccount(final UUID uuid) {
-        return accountRepository.findByUuid(uuid)
-                .orElseThrow(() -> new NotFoundException(ErrorCodes.USER_NOT_FOUND, uuid));
+    private record LoggedAccount() {
     }
 }
@@ -0,0 +1,73 @@
+package io.learn.lexigeek.category.domain;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.learn.lexigeek.common.transaction.CacheWriteGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+class CategoryOwnershipCache {
+
+    private static final String CACHE_NAME = "category-languages";
+
+    private final CategoryRepository categoryRepository;
+    private final Cache<UUID, UUID> cache;
+    private final CacheWriteGuard writeGuard = new CacheWriteGuard();
+
+    CategoryOwnershipCache(final CategoryRepository categoryRepository,
+                           final MeterRegistry meterRegistry,
+                           @Value("${lexigeek.ownership.cache.maximum-size:100000}") final long maximumSize,
+                           @Value("${lexigeek.ownership.cache.expire-after-write:PT10M}") final Duration expireAfterWrite) {
+        this.categoryRepository = categoryRepository;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    Optional<UUID> getLanguage(final UUID categoryUuid) {
+        final UUID cached = cache.getIfPresent(categoryUuid);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        final long readVersion = writeGuard.readVersion();
+        final Optional<UUID> language = categoryRepository.findLanguageUuidByUuid(categoryUuid);
+        if (writeGuard.canPopulate(readVersion)) {
+            language.ifPresent(languageUuid -> cache.put(categoryUuid, languageUuid));
+        }
+        return language;
+    }
+
+    Map<UUID, UUID> getAllPresent(final Collection<UUID> categoryUuids) {
+        return cache.getAllPresent(categoryUuids);
+    }
+
+    long readVersion() {
+        return writeGuard.readVersion();
+    }
+
+    void remember(final Collection<UUID> categoryUuids, final UUID languageUuid, final long readVersion) {
+        if (writeGuard.canPopulate(readVersion)) {
+            categoryUuids.forEach(categoryUuid -> cache.put(categoryUuid, languageUuid));
+        }
+    }
+
+    void put(final UUID categoryUuid, final UUID languageUuid) {
+        writeGuard.write(() -> cache.put(categoryUuid, languageUuid));
+    }
+
+    void evict(final UUID categoryUuid) {
+        writeGuard.write(() -> cache.invalidate(categoryUuid));
+    }
+}
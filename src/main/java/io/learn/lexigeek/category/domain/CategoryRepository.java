@@ -15,6 +15,11 @@ import java.util.UUID;
 interface CategoryRepository extends UUIDAwareJpaRepository<Category, Long>, JpaSpecificationExecutor<Category> {
     Optional<Category> findByUuidAndLanguageUuid(final UUID uuid, final UUID languageUuid);
 
+    @Query("""
+            SELECT c.language.uuid FROM Category c WHERE c.uuid = :uuid
+            """)
+    Optional<UUID> findLanguageUuidByUuid(@Param("uuid") final UUID uuid);
+
     @Query("""
             SELECT COALESCE(MAX(c.position), -1) FROM Category c WHERE c.language.uuid = :languageUuid
             """)
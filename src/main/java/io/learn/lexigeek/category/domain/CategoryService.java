@@ -11,6 +11,7 @@ import io.learn.lexigeek.common.pageable.PageDto;
 import io.learn.lexigeek.common.pageable.PageableRequest;
 import io.learn.lexigeek.common.pageable.PageableUtils;
 import io.learn.lexigeek.common.pageable.SortOrder;
+import io.learn.lexigeek.common.request.RequestMemo;
 import io.learn.lexigeek.common.validation.ErrorCodes;
 import io.learn.lexigeek.language.LanguageFacade;
 import lombok.AccessLevel;
@@ -20,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -29,6 +31,7 @@ public class CategoryService implements CategoryFacade {
     private final CategoryRepository categoryRepository;
     private final LanguageRepository languageRepository;
     private final LanguageFacade languageFacade;
+    private final CategoryOwnershipCache categoryOwnershipCache;
 
     @Override
     public PageDto<CategoryDto> getCategories(final UUID languageUuid, final CategoryFilterForm form, final PageableRequest pageableRequest) {
@@ -59,6 +62,7 @@ public class CategoryService implements CategoryFacade {
         category.setPosition(maxPosition + 1);
 
         categoryRepository.save(category);
+        categoryOwnershipCache.put(category.getUuid(), languageUuid);
     }
 
     @Override
@@ -97,6 +101,8 @@ public class CategoryService implements CategoryFacade {
         final Integer deletedPosition = category.getPosition();
 
         categoryRepository.delete(category);
+        categoryOwnershipCache.evict(uuid);
+        RequestMemo.forget(new CategoryAccess(languageUuid, uuid));
         categoryRepository.decrementPositionsAfter(languageUuid, deletedPosition);
     }
 
@@ -133,21 +139,38 @@ public class CategoryService implements CategoryFacade {
 
     @Override
     public void verifyCategoryAccess(final UUID languageUuid, final UUID categoryUuid) {
-        languageFacade.verifyLanguageOwnership(languageUuid);
+        RequestMemo.verifyOnce(new CategoryAccess(languageUuid, categoryUuid), () -> {
+            languageFacade.verifyLanguageOwnership(languageUuid);
 
-        categoryRepository.findByUuidAndLanguageUuid(categoryUuid, languageUuid)
-                .orElseThrow(() -> new NotFoundException(ErrorCodes.CATEGORY_NOT_FOUND, categoryUuid));
+            categoryOwnershipCache.getLanguage(categoryUuid)
+                    .filter(languageUuid::equals)
+                    .orElseThrow(() -> new NotFoundException(ErrorCodes.CATEGORY_NOT_FOUND, categoryUuid));
+        });
     }
 
     @Override
     public void verifyCategoriesAccess(final UUID languageUuid, final List<UUID> categoryUuids) {
         languageFacade.verifyLanguageOwnership(languageUuid);
 
-        final long count = categoryRepository.countByUuidInAndLanguageUuid(categoryUuids, languageUuid);
+        final Map<UUID, UUID> cached = categoryOwnershipCache.getAllPresent(categoryUuids);
+        if (cached.values().stream().anyMatch(cachedLanguageUuid -> !cachedLanguageUuid.equals(languageUuid))) {
+            throw new NotFoundException(ErrorCodes.CATEGORY_NOT_FOUND);
+        }
 
-        if (count != categoryUuids.size()) {
+        final List<UUID> uncached = categoryUuids.stream()
+                .filter(categoryUuid -> !cached.containsKey(categoryUuid))
+                .toList();
+        if (uncached.isEmpty()) {
+            return;
+        }
+
+        final long readVersion = categoryOwnershipCache.readVersion();
+        final long count = categoryRepository.countByUuidInAndLanguageUuid(uncached, languageUuid);
+
+        if (count != uncached.size()) {
             throw new NotFoundException(ErrorCodes.CATEGORY_NOT_FOUND);
         }
+        categoryOwnershipCache.remember(uncached, languageUuid, readVersion);
     }
 
     private Category validateAndGetParent(final UUID languageUuid, final UUID categoryUuid, final UUID parentUuid) {
@@ -172,4 +195,7 @@ public class CategoryService implements CategoryFacade {
 
         return categoryRepository.isInParentHierarchy(newParentUuid.toString(), categoryUuid.toString());
     }
+
+    private record CategoryAccess(UUID languageUuid, UUID categoryUuid) {
+    }
 }
@@ -0,0 +1,13 @@
+package io.learn.lexigeek.common.exception;
+
+import io.learn.lexigeek.common.validation.ErrorCodes;
+
+public class ServiceUnavailableException extends ErrorDtoException {
+    public ServiceUnavailableException(final ErrorCodes error, final Throwable cause, final Object... args) {
+        super(error, cause, args);
+    }
+
+    public ServiceUnavailableException(final ErrorCodes error, final Object... args) {
+        super(error, args);
+    }
+}
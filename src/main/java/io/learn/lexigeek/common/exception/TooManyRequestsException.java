@@ -0,0 +1,9 @@
+package io.learn.lexigeek.common.exception;
+
+import io.learn.lexigeek.common.validation.ErrorCodes;
+
+public class TooManyRequestsException extends ErrorDtoException {
+    public TooManyRequestsException(final ErrorCodes error, final Object... args) {
+        super(error, args);
+    }
+}
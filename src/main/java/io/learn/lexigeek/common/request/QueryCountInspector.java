@@ -0,0 +1,12 @@
+package io.learn.lexigeek.common.request;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(final String sql) {
+        QueryCounter.increment();
+        return sql;
+    }
+}
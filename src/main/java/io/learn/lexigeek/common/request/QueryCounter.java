@@ -0,0 +1,26 @@
+package io.learn.lexigeek.common.request;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+class QueryCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    void start() {
+        COUNT.set(new int[1]);
+    }
+
+    int stop() {
+        final int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    void increment() {
+        final int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
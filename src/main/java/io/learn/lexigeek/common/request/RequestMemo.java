@@ -0,0 +1,60 @@
+package io.learn.lexigeek.common.request;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@UtilityClass
+public class RequestMemo {
+
+    private static final String ATTRIBUTE = RequestMemo.class.getName();
+
+    @SuppressWarnings("unchecked")
+    public <T> T computeIfAbsent(final Object key, final Supplier<T> loader) {
+        final Map<Object, Object> memo = memo();
+        if (memo == null) {
+            return loader.get();
+        }
+        final Object cached = memo.get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        final T loaded = loader.get();
+        if (loaded != null) {
+            memo.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public void verifyOnce(final Object key, final Runnable verification) {
+        computeIfAbsent(key, () -> {
+            verification.run();
+            return Boolean.TRUE;
+        });
+    }
+
+    public void forget(final Object key) {
+        final Map<Object, Object> memo = memo();
+        if (memo != null) {
+            memo.remove(key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> memo() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<Object, Object> memo = (Map<Object, Object>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
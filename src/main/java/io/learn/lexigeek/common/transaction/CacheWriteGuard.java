@@ -0,0 +1,32 @@
+package io.learn.lexigeek.common.transaction;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps read-through cache population from racing writes that are applied after commit. A reader takes
+ * {@link #readVersion()} before loading and may only cache the loaded value if {@link #canPopulate(long)}
+ * still holds, i.e. no write was in flight or completed in the meantime.
+ */
+public final class CacheWriteGuard {
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicInteger writesInFlight = new AtomicInteger();
+
+    public long readVersion() {
+        return version.get();
+    }
+
+    public boolean canPopulate(final long readVersion) {
+        return writesInFlight.get() == 0 && version.get() == readVersion;
+    }
+
+    public void write(final Runnable action) {
+        writesInFlight.incrementAndGet();
+        version.incrementAndGet();
+        TransactionCallbacks.afterCompletion(action, () -> {
+            version.incrementAndGet();
+            writesInFlight.decrementAndGet();
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package io.learn.lexigeek.common.transaction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class OptimisticLockRetryExecutor {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MILLIS = 10;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public OptimisticLockRetryExecutor(final PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> T execute(final Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (final OptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict on attempt {}, retrying: {}", attempt, e.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(final int attempt) {
+        final long maxDelay = BASE_BACKOFF_MILLIS * (1L << (attempt - 1));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, maxDelay + 1));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.learn.lexigeek.common.transaction;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@UtilityClass
+public class TransactionCallbacks {
+
+    /**
+     * Runs the action once the current transaction commits, or immediately when no transaction is active.
+     */
+    public void afterCommit(final Runnable action) {
+        afterCompletion(action, () -> {
+        });
+    }
+
+    /**
+     * Runs {@code onCommit} if the current transaction commits and {@code onCompletion} once it completes
+     * either way. Both run immediately when no transaction is active.
+     */
+    public void afterCompletion(final Runnable onCommit, final Runnable onCompletion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                onCommit.run();
+            } finally {
+                onCompletion.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        onCommit.run();
+                    }
+                } finally {
+                    onCompletion.run();
+                }
+            }
+        });
+    }
+}
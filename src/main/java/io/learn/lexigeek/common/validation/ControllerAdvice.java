@@ -3,6 +3,8 @@ package io.learn.lexigeek.common.validation;
 import io.learn.lexigeek.common.exception.AlreadyExistsException;
 import io.learn.lexigeek.common.exception.AuthorizationException;
 import io.learn.lexigeek.common.exception.NotFoundException;
+import io.learn.lexigeek.common.exception.ServiceUnavailableException;
+import io.learn.lexigeek.common.exception.TooManyRequestsException;
 import io.learn.lexigeek.common.exception.ValidationException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +51,20 @@ class ControllerAdvice {
         return new ErrorDto(e.getError(), e.getArgs());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    ErrorDto serviceUnavailableException(final ServiceUnavailableException e) {
+        log.warn("{} - {}", e.getMessage(), e.getArgs());
+        return new ErrorDto(e.getError(), e.getArgs());
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    ErrorDto tooManyRequestsException(final TooManyRequestsException e) {
+        log.warn("{} - {}", e.getMessage(), e.getArgs());
+        return new ErrorDto(e.getError(), e.getArgs());
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     ErrorDto constraintValidationException(final ConstraintViolationException e) {
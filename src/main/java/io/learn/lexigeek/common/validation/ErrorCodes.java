@@ -17,6 +17,7 @@ public enum ErrorCodes {
     WORD_NOT_FOUND,
     WORD_ALREADY_ACCEPTED,
     WORD_PART_INVALID,
+    TRANSLATION_JOB_NOT_FOUND,
 
     //REPEAT SESSION
     REPEAT_SESSION_ALREADY_EXISTS,
@@ -29,6 +30,9 @@ public enum ErrorCodes {
     TASK_SETTINGS_NOT_FOUND,
     TASK_SCHEDULE_NOT_FOUND,
 
+    //STATISTICS
+    STATISTICS_TIMEOUT,
+
     //GENERAL
     EXTERNAL_SERVICE_ERROR,
     GENERAL_ERROR,
@@ -39,4 +43,6 @@ public enum ErrorCodes {
     //SECURITY
     INVALID_CREDENTIALS,
     UNAUTHORIZED,
+    TOO_MANY_LOGIN_ATTEMPTS,
+    AUTHENTICATION_BUSY,
 }
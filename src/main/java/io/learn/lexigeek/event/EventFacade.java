@@ -0,0 +1,8 @@
+package io.learn.lexigeek.event;
+
+import io.learn.lexigeek.event.dto.DomainEvent;
+
+public interface EventFacade {
+
+    void publish(final DomainEvent event);
+}
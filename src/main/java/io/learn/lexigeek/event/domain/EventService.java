@@ -0,0 +1,25 @@
+package io.learn.lexigeek.event.domain;
+
+import io.learn.lexigeek.common.utils.DateTimeUtils;
+import io.learn.lexigeek.event.EventFacade;
+import io.learn.lexigeek.event.dto.DomainEvent;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+class EventService implements EventFacade {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(final DomainEvent event) {
+        final OutboxEvent outboxEvent = OutboxEventMapper.eventToEntity(event);
+        outboxEvent.setCreated(DateTimeUtils.timestampUTC());
+        outboxEventRepository.save(outboxEvent);
+    }
+}
@@ -0,0 +1,53 @@
+package io.learn.lexigeek.event.domain;
+
+import io.learn.lexigeek.common.entity.AbstractEntity;
+import io.learn.lexigeek.task.dto.TaskType;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldNameConstants;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "outbox_events")
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Setter
+@Getter
+@FieldNameConstants
+class OutboxEvent extends AbstractEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30)
+    private OutboxEventType type;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "language_uuid")
+    private UUID languageUuid;
+
+    @Column(name = "language_name", length = 20)
+    private String languageName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "task_type", length = 50)
+    private TaskType taskType;
+
+    @Column(name = "correct")
+    private Boolean correct;
+
+    @Column(name = "points")
+    private Integer points;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created", nullable = false)
+    private LocalDateTime created;
+}
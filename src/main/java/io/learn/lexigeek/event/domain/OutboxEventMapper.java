@@ -0,0 +1,57 @@
+package io.learn.lexigeek.event.domain;
+
+import io.learn.lexigeek.event.dto.*;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+class OutboxEventMapper {
+
+    OutboxEvent eventToEntity(final DomainEvent event) {
+        final OutboxEvent entity = new OutboxEvent();
+        entity.setAccountId(event.accountId());
+        switch (event) {
+            case WordAnsweredEvent e -> {
+                entity.setType(OutboxEventType.WORD_ANSWERED);
+                entity.setLanguageUuid(e.languageUuid());
+                entity.setTaskType(e.taskType());
+                entity.setCorrect(e.correct());
+            }
+            case WordAcceptedEvent e -> {
+                entity.setType(OutboxEventType.WORD_ACCEPTED);
+                entity.setLanguageUuid(e.languageUuid());
+                entity.setTaskType(e.taskType());
+            }
+            case WordCreatedEvent e -> {
+                entity.setType(OutboxEventType.WORD_CREATED);
+                entity.setLanguageUuid(e.languageUuid());
+            }
+            case SessionFinishedEvent e -> {
+                entity.setType(OutboxEventType.SESSION_FINISHED);
+                entity.setLanguageUuid(e.languageUuid());
+                entity.setLanguageName(e.languageName());
+            }
+            case StarsAwardedEvent e -> {
+                entity.setType(OutboxEventType.STARS_AWARDED);
+                entity.setLanguageUuid(e.languageUuid());
+                entity.setLanguageName(e.languageName());
+                entity.setTaskType(e.taskType());
+                entity.setPoints(e.stars());
+            }
+        }
+        return entity;
+    }
+
+    DomainEvent entityToEvent(final OutboxEvent entity) {
+        return switch (entity.getType()) {
+            case WORD_ANSWERED -> new WordAnsweredEvent(entity.getAccountId(), entity.getLanguageUuid(),
+                    entity.getTaskType(), Boolean.TRUE.equals(entity.getCorrect()));
+            case WORD_ACCEPTED -> new WordAcceptedEvent(entity.getAccountId(), entity.getLanguageUuid(),
+                    entity.getTaskType());
+            case WORD_CREATED -> new WordCreatedEvent(entity.getAccountId(), entity.getLanguageUuid());
+            case SESSION_FINISHED -> new SessionFinishedEvent(entity.getAccountId(), entity.getLanguageUuid(),
+                    entity.getLanguageName());
+            case STARS_AWARDED -> new StarsAwardedEvent(entity.getAccountId(), entity.getLanguageUuid(),
+                    entity.getLanguageName(), entity.getTaskType(), entity.getPoints());
+        };
+    }
+}
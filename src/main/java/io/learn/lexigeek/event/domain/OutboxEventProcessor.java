@@ -0,0 +1,214 @@
+package io.learn.lexigeek.event.domain;
+
+import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.activity.ActivityFacade;
+import io.learn.lexigeek.activity.domain.ActivityType;
+import io.learn.lexigeek.activity.dto.ActivityForm;
+import io.learn.lexigeek.event.dto.*;
+import io.learn.lexigeek.statistics.DailyStatisticsFacade;
+import io.learn.lexigeek.task.TaskFacade;
+import io.learn.lexigeek.task.dto.TaskProgressDto;
+import io.learn.lexigeek.task.dto.TaskType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+class OutboxEventProcessor {
+
+    private static final String BATCH_TIMER = "lexigeek.event.batch";
+    private static final String PROCESSED_COUNTER = "lexigeek.event.processed";
+    private static final String FAILED_COUNTER = "lexigeek.event.failed";
+    private static final String BACKLOG_GAUGE = "lexigeek.event.backlog";
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TaskFacade taskFacade;
+    private final ActivityFacade activityFacade;
+    private final AccountFacade accountFacade;
+    private final DailyStatisticsFacade dailyStatisticsFacade;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong backlog = new AtomicLong();
+
+    OutboxEventProcessor(final OutboxEventRepository outboxEventRepository,
+                         final TaskFacade taskFacade,
+                         final ActivityFacade activityFacade,
+                         final AccountFacade accountFacade,
+                         final DailyStatisticsFacade dailyStatisticsFacade,
+                         final PlatformTransactionManager transactionManager,
+                         final MeterRegistry meterRegistry,
+                         @Value("${lexigeek.event.processor.batch-size:500}") final int batchSize,
+                         @Value("${lexigeek.event.processor.max-attempts:5}") final int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.taskFacade = taskFacade;
+        this.activityFacade = activityFacade;
+        this.accountFacade = accountFacade;
+        this.dailyStatisticsFacade = dailyStatisticsFacade;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.processedCounter = meterRegistry.counter(PROCESSED_COUNTER);
+        this.failedCounter = meterRegistry.counter(FAILED_COUNTER);
+        Gauge.builder(BACKLOG_GAUGE, backlog, AtomicLong::get)
+                .description("Outbox events waiting to be processed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${lexigeek.event.processor.poll-interval:PT1S}")
+    public void processPendingEvents() {
+        int processed;
+        do {
+            processed = processBatch();
+        } while (processed >= batchSize);
+
+        backlog.set(outboxEventRepository.countByAttemptsLessThan(maxAttempts));
+    }
+
+    int processBatch() {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            final Integer processed = transactionTemplate.execute(status -> {
+                final List<OutboxEvent> events = outboxEventRepository.findClaimableEvents(maxAttempts, batchSize);
+                if (events.isEmpty()) {
+                    return 0;
+                }
+
+                apply(events);
+                outboxEventRepository.deleteAllByIdIn(events.stream()
+                        .map(OutboxEvent::getId)
+                        .toList());
+                return events.size();
+            });
+            processedCounter.increment(processed == null ? 0 : processed);
+            return processed == null ? 0 : processed;
+        } catch (final Exception e) {
+            log.warn("Failed to process outbox batch, retrying events one by one: {}", e.getMessage());
+            return processIndividually();
+        } finally {
+            sample.stop(meterRegistry.timer(BATCH_TIMER));
+        }
+    }
+
+    private int processIndividually() {
+        int processed = 0;
+        for (final Long id : outboxEventRepository.findPendingEventIds(maxAttempts, batchSize)) {
+            try {
+                final Boolean applied = transactionTemplate.execute(status -> outboxEventRepository
+                        .findClaimableEventById(id, maxAttempts)
+                        .map(event -> {
+                            apply(List.of(event));
+                            outboxEventRepository.delete(event);
+                            return true;
+                        })
+                        .orElse(false));
+                if (Boolean.TRUE.equals(applied)) {
+                    processed++;
+                    processedCounter.increment();
+                }
+            } catch (final Exception e) {
+                log.error("Failed to process outbox event {}: {}", id, e.getMessage(), e);
+                failedCounter.increment();
+                transactionTemplate.executeWithoutResult(status ->
+                        outboxEventRepository.markFailed(id, abbreviate(e.getMessage())));
+            }
+        }
+        return processed;
+    }
+
+    private void apply(final List<OutboxEvent> events) {
+        final Map<TaskProgressKey, TaskProgress> taskProgress = new LinkedHashMap<>();
+        final Map<DailyStatisticsKey, DailyCounts> dailyCounts = new LinkedHashMap<>();
+        final Map<Long, Integer> starsPerAccount = new LinkedHashMap<>();
+
+        dailyStatisticsFacade.lockAccounts(events.stream().map(OutboxEvent::getAccountId).toList());
+        for (final OutboxEvent outboxEvent : events) {
+            final LocalDateTime created = outboxEvent.getCreated();
+            final LocalDate day = created.toLocalDate();
+            switch (OutboxEventMapper.entityToEvent(outboxEvent)) {
+                case WordAnsweredEvent e -> {
+                    if (e.correct()) {
+                        taskProgress.merge(new TaskProgressKey(e.accountId(), e.taskType(), e.languageUuid(), day),
+                                new TaskProgress(1, created), TaskProgress::add);
+                    }
+                    dailyCounts.merge(new DailyStatisticsKey(e.accountId(), e.languageUuid(), day),
+                            e.correct() ? new DailyCounts(1, 0, 0) : new DailyCounts(0, 1, 0), DailyCounts::add);
+                }
+                case WordAcceptedEvent e -> taskProgress.merge(
+                        new TaskProgressKey(e.accountId(), e.taskType(), e.languageUuid(), day),
+                        new TaskProgress(1, created), TaskProgress::add);
+                case WordCreatedEvent e -> dailyCounts.merge(
+                        new DailyStatisticsKey(e.accountId(), e.languageUuid(), day), new DailyCounts(0, 0, 1),
+                        DailyCounts::add);
+                case SessionFinishedEvent e -> activityFacade.addActivity(e.accountId(),
+                        new ActivityForm(ActivityType.REPEATING_FINISHED, e.languageName(), null, null));
+                case StarsAwardedEvent e -> {
+                    activityFacade.addActivity(e.accountId(), new ActivityForm(ActivityType.STARS_ADDED,
+                            e.languageName(), e.taskType().name(), String.valueOf(e.stars())));
+                    starsPerAccount.merge(e.accountId(), e.stars(), Integer::sum);
+                }
+            }
+        }
+
+        if (!taskProgress.isEmpty()) {
+            taskFacade.fillTasks(taskProgress.entrySet().stream()
+                    .map(entry -> new TaskProgressDto(entry.getKey().accountId(), entry.getKey().taskType(),
+                            entry.getKey().languageUuid(), entry.getValue().points(), entry.getValue().occurredAt()))
+                    .toList());
+        }
+        dailyCounts.forEach((key, counts) -> dailyStatisticsFacade.addLanguageStatistics(key.accountId(),
+                key.languageUuid(), key.day(), counts.correctRepeats(), counts.incorrectRepeats(), counts.wordsAdded()));
+        starsPerAccount.forEach(accountFacade::addStars);
+    }
+
+    private static String abbreviate(final String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record TaskProgressKey(Long accountId, TaskType taskType, UUID languageUuid, LocalDate day) {
+    }
+
+    private record TaskProgress(int points, LocalDateTime occurredAt) {
+
+        TaskProgress add(final TaskProgress other) {
+            return new TaskProgress(points + other.points,
+                    occurredAt.isAfter(other.occurredAt) ? occurredAt : other.occurredAt);
+        }
+    }
+
+    private record DailyStatisticsKey(Long accountId, UUID languageUuid, LocalDate day) {
+    }
+
+    private record DailyCounts(int correctRepeats, int incorrectRepeats, int wordsAdded) {
+
+        DailyCounts add(final DailyCounts other) {
+            return new DailyCounts(correctRepeats + other.correctRepeats,
+                    incorrectRepeats + other.incorrectRepeats,
+                    wordsAdded + other.wordsAdded);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.learn.lexigeek.event.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(value = """
+            SELECT * FROM outbox_events
+            WHERE attempts < :maxAttempts
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> findClaimableEvents(@Param("maxAttempts") final int maxAttempts,
+                                          @Param("limit") final int limit);
+
+    @Query(value = """
+            SELECT * FROM outbox_events
+            WHERE id = :id
+              AND attempts < :maxAttempts
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<OutboxEvent> findClaimableEventById(@Param("id") final Long id,
+                                                 @Param("maxAttempts") final int maxAttempts);
+
+    @Query(value = """
+            SELECT id FROM outbox_events
+            WHERE attempts < :maxAttempts
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findPendingEventIds(@Param("maxAttempts") final int maxAttempts,
+                                   @Param("limit") final int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") final List<Long> ids);
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.attempts = e.attempts + 1, e.lastError = :lastError
+            WHERE e.id = :id
+            """)
+    int markFailed(@Param("id") final Long id, @Param("lastError") final String lastError);
+
+    long countByAttemptsLessThan(final int maxAttempts);
+}
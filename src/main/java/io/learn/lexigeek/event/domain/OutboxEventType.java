@@ -0,0 +1,9 @@
+package io.learn.lexigeek.event.domain;
+
+enum OutboxEventType {
+    WORD_ANSWERED,
+    WORD_ACCEPTED,
+    WORD_CREATED,
+    SESSION_FINISHED,
+    STARS_AWARDED
+}
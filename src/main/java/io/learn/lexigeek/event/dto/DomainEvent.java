@@ -0,0 +1,7 @@
+package io.learn.lexigeek.event.dto;
+
+public sealed interface DomainEvent
+        permits WordAnsweredEvent, WordAcceptedEvent, WordCreatedEvent, SessionFinishedEvent, StarsAwardedEvent {
+
+    Long accountId();
+}
@@ -0,0 +1,8 @@
+package io.learn.lexigeek.event.dto;
+
+import java.util.UUID;
+
+public record SessionFinishedEvent(Long accountId,
+                                   UUID languageUuid,
+                                   String languageName) implements DomainEvent {
+}
@@ -0,0 +1,12 @@
+package io.learn.lexigeek.event.dto;
+
+import io.learn.lexigeek.task.dto.TaskType;
+
+import java.util.UUID;
+
+public record StarsAwardedEvent(Long accountId,
+                                UUID languageUuid,
+                                String languageName,
+                                TaskType taskType,
+                                Integer stars) implements DomainEvent {
+}
@@ -0,0 +1,10 @@
+package io.learn.lexigeek.event.dto;
+
+import io.learn.lexigeek.task.dto.TaskType;
+
+import java.util.UUID;
+
+public record WordAcceptedEvent(Long accountId,
+                                UUID languageUuid,
+                                TaskType taskType) implements DomainEvent {
+}
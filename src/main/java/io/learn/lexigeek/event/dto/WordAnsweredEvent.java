@@ -0,0 +1,11 @@
+package io.learn.lexigeek.event.dto;
+
+import io.learn.lexigeek.task.dto.TaskType;
+
+import java.util.UUID;
+
+public record WordAnsweredEvent(Long accountId,
+                                UUID languageUuid,
+                                TaskType taskType,
+                                boolean correct) implements DomainEvent {
+}
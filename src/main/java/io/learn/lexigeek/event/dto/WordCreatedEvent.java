@@ -0,0 +1,7 @@
+package io.learn.lexigeek.event.dto;
+
+import java.util.UUID;
+
+public record WordCreatedEvent(Long accountId,
+                               UUID languageUuid) implements DomainEvent {
+}
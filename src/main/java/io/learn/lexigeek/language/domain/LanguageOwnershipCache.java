@@ -0,0 +1,57 @@
+package io.learn.lexigeek.language.domain;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.learn.lexigeek.common.transaction.CacheWriteGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+class LanguageOwnershipCache {
+
+    private static final String CACHE_NAME = "language-owners";
+
+    private final LanguageRepository languageRepository;
+    private final Cache<UUID, Long> cache;
+    private final CacheWriteGuard writeGuard = new CacheWriteGuard();
+
+    LanguageOwnershipCache(final LanguageRepository languageRepository,
+                           final MeterRegistry meterRegistry,
+                           @Value("${lexigeek.ownership.cache.maximum-size:100000}") final long maximumSize,
+                           @Value("${lexigeek.ownership.cache.expire-after-write:PT10M}") final Duration expireAfterWrite) {
+        this.languageRepository = languageRepository;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    Optional<Long> getOwner(final UUID languageUuid) {
+        final Long cached = cache.getIfPresent(languageUuid);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        final long readVersion = writeGuard.readVersion();
+        final Optional<Long> owner = languageRepository.findAccountIdByUuid(languageUuid);
+        if (writeGuard.canPopulate(readVersion)) {
+            owner.ifPresent(accountId -> cache.put(languageUuid, accountId));
+        }
+        return owner;
+    }
+
+    void put(final UUID languageUuid, final Long accountId) {
+        writeGuard.write(() -> cache.put(languageUuid, accountId));
+    }
+
+    void evict(final UUID languageUuid) {
+        writeGuard.write(() -> cache.invalidate(languageUuid));
+    }
+}
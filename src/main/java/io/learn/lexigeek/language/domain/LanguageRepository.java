@@ -16,6 +16,9 @@ import java.util.UUID;
 interface LanguageRepository extends UUIDAwareJpaRepository<Language, Long>, JpaSpecificationExecutor<Language> {
     Optional<Language> findByUuidAndAccountId(final UUID uuid, final Long accountId);
 
+    @Query("SELECT l.account.id FROM Language l WHERE l.uuid = :uuid")
+    Optional<Long> findAccountIdByUuid(@Param("uuid") final UUID uuid);
+
     @Query("SELECT new io.learn.lexigeek.language.dto.ShortcutDto(MIN(l.name), l.shortcut, CAST(COUNT(l.shortcut) AS int)) " +
             "FROM Language l " +
             "WHERE (:shortcut IS NULL OR :shortcut = '' OR LOWER(l.shortcut) LIKE LOWER(CONCAT('%', :shortcut, '%'))) " +
@@ -7,6 +7,7 @@ import io.learn.lexigeek.common.pageable.PageDto;
 import io.learn.lexigeek.common.pageable.PageableRequest;
 import io.learn.lexigeek.common.pageable.PageableUtils;
 import io.learn.lexigeek.common.pageable.SortOrder;
+import io.learn.lexigeek.common.request.RequestMemo;
 import io.learn.lexigeek.common.validation.ErrorCodes;
 import io.learn.lexigeek.language.LanguageFacade;
 import io.learn.lexigeek.language.dto.LanguageDto;
@@ -32,6 +33,7 @@ public class LanguageService implements LanguageFacade {
     private final AccountRepository accountRepository;
     private final AccountFacade accountFacade;
     private final TaskFacade taskFacade;
+    private final LanguageOwnershipCache languageOwnershipCache;
 
     @Override
     public PageDto<LanguageDto> getLanguages(final LanguageFilterForm form, final PageableRequest pageableRequest) {
@@ -53,6 +55,7 @@ public class LanguageService implements LanguageFacade {
                 .orElseThrow(() -> new NotFoundException(ErrorCodes.USER_NOT_FOUND, accountDto.id()));
         language.setAccount(account);
         languageRepository.save(language);
+        languageOwnershipCache.put(language.getUuid(), account.getId());
         taskFacade.initializeTasksForLanguage(language.getUuid());
     }
 
@@ -72,6 +75,8 @@ public class LanguageService implements LanguageFacade {
         final Language language = languageRepository.findByUuidAndAccountId(uuid, account.id())
                 .orElseThrow(() -> new NotFoundException(ErrorCodes.LANGUAGE_NOT_FOUND, uuid));
         languageRepository.delete(language);
+        languageOwnershipCache.evict(uuid);
+        RequestMemo.forget(new LanguageOwnership(uuid));
     }
 
     @Override
@@ -81,8 +86,14 @@ public class LanguageService implements LanguageFacade {
 
     @Override
     public void verifyLanguageOwnership(final UUID languageUuid) {
-        final AccountDto account = accountFacade.getLoggedAccount();
-        languageRepository.findByUuidAndAccountId(languageUuid, account.id())
-                .orElseThrow(() -> new NotFoundException(ErrorCodes.LANGUAGE_NOT_FOUND, languageUuid));
+        RequestMemo.verifyOnce(new LanguageOwnership(languageUuid), () -> {
+            final AccountDto account = accountFacade.getLoggedAccount();
+            languageOwnershipCache.getOwner(languageUuid)
+                    .filter(account.id()::equals)
+                    .orElseThrow(() -> new NotFoundException(ErrorCodes.LANGUAGE_NOT_FOUND, languageUuid));
+        });
+    }
+
+    private record LanguageOwnership(UUID languageUuid) {
     }
 }
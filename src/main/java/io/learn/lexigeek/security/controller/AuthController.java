@@ -3,6 +3,7 @@ package io.learn.lexigeek.security.controller;
 import io.learn.lexigeek.account.dto.AccountForm;
 import io.learn.lexigeek.security.AuthFacade;
 import io.learn.lexigeek.security.dto.LoginForm;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
@@ -29,8 +30,10 @@ class AuthController {
 
     @PostMapping(Routes.LOGIN)
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    void login(@RequestBody @Valid final LoginForm form, final HttpServletResponse response) {
-        authFacade.login(form, response);
+    void login(@RequestBody @Valid final LoginForm form,
+               final HttpServletRequest request,
+               final HttpServletResponse response) {
+        authFacade.login(form, request, response);
     }
 
     @PostMapping(value = Routes.LOGOUT)
@@ -0,0 +1,33 @@
+package io.learn.lexigeek.security.domain;
+
+import io.learn.lexigeek.account.dto.AccountDto;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+class AccountAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final AccountDto account;
+
+    AccountAuthenticationToken(final AccountDto account) {
+        super(List.of(new SimpleGrantedAuthority("USER")));
+        this.account = account;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public AccountDto getPrincipal() {
+        return account;
+    }
+
+    @Override
+    public String getName() {
+        return account.email();
+    }
+}
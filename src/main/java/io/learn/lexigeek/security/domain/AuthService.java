@@ -1,10 +1,13 @@
 package io.learn.lexigeek.security.domain;
 
 import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.account.dto.AccountDto;
 import io.learn.lexigeek.account.dto.AccountForm;
 import io.learn.lexigeek.common.exception.AuthorizationException;
+import io.learn.lexigeek.common.exception.ServiceUnavailableException;
 import io.learn.lexigeek.security.AuthFacade;
 import io.learn.lexigeek.security.dto.LoginForm;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -21,28 +24,34 @@ import static io.learn.lexigeek.common.validation.ErrorCodes.INVALID_CREDENTIALS
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 class AuthService implements AuthFacade {
 
-    private static final int ACCESS_TTL_SECONDS = 15 * 60;
-    private static final int REFRESH_TTL_SECONDS = 30 * 24 * 60 * 60;
-
     private final AuthenticationManager authenticationManager;
     private final AccountFacade accountFacade;
+    private final JwtKeyring jwtKeyring;
+    private final LoginThrottle loginThrottle;
+    private final ClientIpResolver clientIpResolver;
 
     @Override
-    public void login(final LoginForm form, final HttpServletResponse response) {
+    public void login(final LoginForm form, final HttpServletRequest request, final HttpServletResponse response) {
+        final String clientIp = clientIpResolver.resolve(request);
+        loginThrottle.check(form.email(), clientIp);
         try {
             final Authentication authRequest = new UsernamePasswordAuthenticationToken(form.email(), form.password());
-            authenticationManager.authenticate(authRequest);
+            final AccountDto account = (AccountDto) authenticationManager.authenticate(authRequest).getPrincipal();
+            loginThrottle.recordSuccess(form.email());
 
-            final String accessToken = JwtUtils.generateToken(form.email(), ACCESS_TTL_SECONDS);
-            JwtUtils.setAccessCookie(response, accessToken, ACCESS_TTL_SECONDS);
+            final String accessToken = jwtKeyring.generateToken(account, JwtUtils.ACCESS_TTL_SECONDS);
+            JwtUtils.setAccessCookie(response, accessToken, JwtUtils.ACCESS_TTL_SECONDS);
 
             if (form.rememberMe()) {
-                final String refreshToken = JwtUtils.generateToken(form.email(), REFRESH_TTL_SECONDS);
-                JwtUtils.setRefreshCookie(response, refreshToken, REFRESH_TTL_SECONDS);
+                final String refreshToken = jwtKeyring.generateToken(account, JwtUtils.REFRESH_TTL_SECONDS);
+                JwtUtils.setRefreshCookie(response, refreshToken, JwtUtils.REFRESH_TTL_SECONDS);
             } else {
                 JwtUtils.clearCookie(response, JwtUtils.REFRESH_COOKIE_NAME);
             }
+        } catch (final ServiceUnavailableException e) {
+            throw e;
         } catch (final Exception e) {
+            loginThrottle.recordFailure(form.email(), clientIp);
             throw new AuthorizationException(INVALID_CREDENTIALS, e);
         }
     }
@@ -0,0 +1,102 @@
+package io.learn.lexigeek.security.domain;
+
+import io.learn.lexigeek.common.exception.ServiceUnavailableException;
+import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs password hashing on a fixed pool with a bounded queue. The calling servlet thread still blocks until
+ * its hash completes, but for no longer than the timeout, which is kept well below the time needed to drain
+ * a full queue so that a saturated pool fails requests fast instead of pinning threads behind it.
+ */
+@Slf4j
+class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer hashTimer;
+    private final Counter rejections;
+
+    BoundedPasswordEncoder(final PasswordEncoder delegate,
+                           final MeterRegistry meterRegistry,
+                           final int poolSize,
+                           final int queueCapacity,
+                           final Duration timeout) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.hashTimer = Timer.builder("lexigeek.security.password.hash")
+                .description("Time spent hashing or verifying a password")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("lexigeek.security.password.rejected")
+                .description("Password hashing requests rejected because the pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("lexigeek.security.password.queue", executor, pool -> pool.getQueue().size())
+                .description("Password hashing requests waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("lexigeek.security.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing workers currently busy")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(final Callable<T> task) {
+        final Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(task));
+        } catch (final RejectedExecutionException e) {
+            rejections.increment();
+            log.warn("Password hashing pool saturated, rejecting request");
+            throw new ServiceUnavailableException(ErrorCodes.AUTHENTICATION_BUSY, e);
+        }
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            log.warn("Password hashing did not complete in time");
+            throw new ServiceUnavailableException(ErrorCodes.AUTHENTICATION_BUSY, e);
+        } catch (final InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(ErrorCodes.AUTHENTICATION_BUSY, e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.learn.lexigeek.security.domain;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    ClientIpResolver(@Value("${lexigeek.security.trusted-proxies:127.0.0.1/32,::1/128}")
+                     final List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    String resolve(final HttpServletRequest request) {
+        String client = request.getRemoteAddr();
+        final String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (!isTrusted(client) || forwardedFor == null || forwardedFor.isBlank()) {
+            return client;
+        }
+        final String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            final String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(final String address) {
+        try {
+            return trustedProxies.stream().anyMatch(proxy -> proxy.matches(address));
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -10,12 +10,9 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-
 @Component
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 class EmailPasswordAuthenticationProvider implements AuthenticationProvider {
@@ -32,11 +29,8 @@ class EmailPasswordAuthenticationProvider implements AuthenticationProvider {
         if (rawPassword == null || !passwordEncoder.matches(rawPassword, account.password())) {
             throw new BadCredentialsException("Invalid credentials");
         }
-        return new UsernamePasswordAuthenticationToken(
-                email,
-                null,
-                Collections.singletonList(new SimpleGrantedAuthority("USER"))
-        );
+        return new AccountAuthenticationToken(
+                new AccountDto(account.id(), account.uuid(), account.username(), account.email(), null));
     }
 
     @Override
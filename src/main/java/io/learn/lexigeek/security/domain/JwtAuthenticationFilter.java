@@ -2,6 +2,7 @@ package io.learn.lexigeek.security.domain;
 
 import io.learn.lexigeek.account.AccountFacade;
 import io.learn.lexigeek.account.dto.AccountDto;
+import io.learn.lexigeek.common.exception.NotFoundException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -10,23 +11,19 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private final JwtKeyring jwtKeyring;
     private final AccountFacade accountFacade;
 
     @Override
@@ -35,33 +32,21 @@ class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     @Nullable final FilterChain filterChain) throws ServletException, IOException {
         if (request == null) return;
 
-        final String accessToken = extractCookie(request, JwtUtils.ACCESS_COOKIE_NAME);
-        Optional<String> subjectOpt = Optional.empty();
-        if (accessToken != null) {
-            subjectOpt = JwtUtils.extractSubject(accessToken);
-        }
+        Optional<AccountDto> account = Optional.ofNullable(extractCookie(request, JwtUtils.ACCESS_COOKIE_NAME))
+                .flatMap(this::resolveAccount);
 
-        if (subjectOpt.isEmpty()) {
-            final String refreshToken = extractCookie(request, JwtUtils.REFRESH_COOKIE_NAME);
-            if (refreshToken != null) {
-                final Optional<String> refreshSub = JwtUtils.extractSubject(refreshToken);
-                if (refreshSub.isPresent()) {
-                    final String email = refreshSub.get();
-                    final String newAccess = JwtUtils.generateToken(email, 15 * 60);
-                    if (response != null) {
-                        JwtUtils.setAccessCookie(response, newAccess, 15 * 60);
-                    }
-                    subjectOpt = Optional.of(email);
-                }
+        if (account.isEmpty()) {
+            account = Optional.ofNullable(extractCookie(request, JwtUtils.REFRESH_COOKIE_NAME))
+                    .flatMap(this::resolveAccount)
+                    .flatMap(this::reloadAccount);
+            if (account.isPresent() && response != null) {
+                final String newAccess = jwtKeyring.generateToken(account.get(), JwtUtils.ACCESS_TTL_SECONDS);
+                JwtUtils.setAccessCookie(response, newAccess, JwtUtils.ACCESS_TTL_SECONDS);
             }
         }
 
-        if (subjectOpt.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
-            final String email = subjectOpt.get();
-            final AccountDto account = accountFacade.getAccountByEmail(email);
-            final UserDetails userDetails = new User(account.email(), account.password(), Collections.singletonList(new SimpleGrantedAuthority("USER")));
-            final UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, userDetails.getAuthorities());
+        if (account.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            final AccountAuthenticationToken authToken = new AccountAuthenticationToken(account.get());
             authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authToken);
         }
@@ -71,6 +56,27 @@ class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    private Optional<AccountDto> resolveAccount(final String token) {
+        return jwtKeyring.parseClaims(token).flatMap(JwtUtils::toAccount);
+    }
+
+    /**
+     * Access tokens are trusted from their claims alone, so a deleted account keeps working until its access
+     * token expires. Refresh tokens live much longer, so the account is re-checked before a new access token
+     * is minted, and the token is rejected if the account is gone or its email now belongs to another account.
+     */
+    private Optional<AccountDto> reloadAccount(final AccountDto claimed) {
+        try {
+            final AccountDto current = accountFacade.getAccountByEmail(claimed.email());
+            if (!current.id().equals(claimed.id())) {
+                return Optional.empty();
+            }
+            return Optional.of(new AccountDto(current.id(), current.uuid(), current.username(), current.email(), null));
+        } catch (final NotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
     private @Nullable String extractCookie(HttpServletRequest request, String name) {
         final Cookie[] cookies = request.getCookies();
         if (cookies == null) return null;
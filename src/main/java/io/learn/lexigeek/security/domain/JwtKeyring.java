@@ -0,0 +1,117 @@
+package io.learn.lexigeek.security.domain;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.learn.lexigeek.account.dto.AccountDto;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+class JwtKeyring {
+
+    private static final int SECRET_BYTES = 32;
+    private static final long ROTATION_LOCK_ID = 0x4C474A574BL;
+
+    private final JwtSigningKeyRepository jwtSigningKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SecureRandom random = new SecureRandom();
+    private final Duration rotationPeriod;
+    private final Duration activationDelay;
+    private final Duration retention;
+    private final JwtParser parser;
+    private volatile Ring ring;
+
+    JwtKeyring(final JwtSigningKeyRepository jwtSigningKeyRepository,
+               final PlatformTransactionManager transactionManager,
+               @Value("${lexigeek.security.jwt.rotation-period:P7D}") final Duration rotationPeriod,
+               @Value("${lexigeek.security.jwt.activation-delay:PT10M}") final Duration activationDelay) {
+        this.jwtSigningKeyRepository = jwtSigningKeyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rotationPeriod = rotationPeriod;
+        this.activationDelay = activationDelay;
+        this.retention = rotationPeriod.plus(activationDelay).plusSeconds(JwtUtils.REFRESH_TTL_SECONDS);
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(final JwsHeader header) {
+                        return header.getKeyId() != null ? ring.keys().get(header.getKeyId()) : null;
+                    }
+                })
+                .build();
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${lexigeek.security.jwt.refresh-interval:PT1M}")
+    public void refresh() {
+        final LocalDateTime now = LocalDateTime.now();
+        final byte[] secret = new byte[SECRET_BYTES];
+        random.nextBytes(secret);
+        final List<JwtSigningKey> keys = transactionTemplate.execute(status -> {
+            // NOT EXISTS alone lets two nodes both insert under READ COMMITTED, so rotations are serialized
+            jwtSigningKeyRepository.lockRotation(ROTATION_LOCK_ID);
+            if (jwtSigningKeyRepository.insertIfNoneCreatedAfter(UUID.randomUUID().toString(), secret, now,
+                    now.minus(rotationPeriod)) > 0) {
+                log.info("Generated new JWT signing key");
+            }
+            jwtSigningKeyRepository.deleteByCreatedBefore(now.minus(retention));
+            return jwtSigningKeyRepository.findByCreatedAfterOrderByCreatedDesc(now.minus(retention));
+        });
+        load(keys, now);
+    }
+
+    void load(final List<JwtSigningKey> keys, final LocalDateTime now) {
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalStateException("No JWT signing keys available");
+        }
+        final Map<String, SecretKey> verificationKeys = new LinkedHashMap<>();
+        keys.forEach(key -> verificationKeys.put(key.getKid(), Keys.hmacShaKeyFor(key.getSecret())));
+
+        final LocalDateTime activeBefore = now.minus(activationDelay);
+        final JwtSigningKey signingKey = keys.stream()
+                .filter(key -> !key.getCreated().isAfter(activeBefore))
+                .findFirst()
+                .orElse(keys.getLast());
+        ring = new Ring(signingKey.getKid(), verificationKeys.get(signingKey.getKid()), Map.copyOf(verificationKeys));
+    }
+
+    String generateToken(final AccountDto account, final long expiresInSeconds) {
+        final Ring current = ring;
+        return JwtUtils.tokenFor(account, expiresInSeconds)
+                .header().keyId(current.signingKid()).and()
+                .signWith(current.signingKey())
+                .compact();
+    }
+
+    Optional<Claims> parseClaims(final String token) {
+        try {
+            final Claims claims = parser.parseSignedClaims(token).getPayload();
+            return claims.getSubject() != null ? Optional.of(claims) : Optional.empty();
+        } catch (final Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private record Ring(String signingKid, SecretKey signingKey, Map<String, SecretKey> keys) {
+    }
+}
@@ -0,0 +1,30 @@
+package io.learn.lexigeek.security.domain;
+
+import io.learn.lexigeek.common.entity.AbstractEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldNameConstants;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "jwt_signing_keys")
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Setter
+@Getter
+@FieldNameConstants
+class JwtSigningKey extends AbstractEntity {
+
+    @Column(name = "kid", nullable = false, unique = true, length = 36)
+    private String kid;
+
+    @Column(name = "secret", nullable = false)
+    private byte[] secret;
+
+    @Column(name = "created", nullable = false)
+    private LocalDateTime created;
+}
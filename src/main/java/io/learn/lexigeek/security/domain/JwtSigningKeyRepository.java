@@ -0,0 +1,34 @@
+package io.learn.lexigeek.security.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, Long> {
+
+    List<JwtSigningKey> findByCreatedAfterOrderByCreatedDesc(final LocalDateTime created);
+
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:lockId)", nativeQuery = true)
+    Integer lockRotation(@Param("lockId") final long lockId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO jwt_signing_keys (kid, secret, created)
+            SELECT :kid, :secret, :now
+            WHERE NOT EXISTS (SELECT 1 FROM jwt_signing_keys WHERE created > :rotateBefore)
+            """, nativeQuery = true)
+    int insertIfNoneCreatedAfter(@Param("kid") final String kid,
+                                 @Param("secret") final byte[] secret,
+                                 @Param("now") final LocalDateTime now,
+                                 @Param("rotateBefore") final LocalDateTime rotateBefore);
+
+    @Modifying
+    @Query("DELETE FROM JwtSigningKey k WHERE k.created < :created")
+    int deleteByCreatedBefore(@Param("created") final LocalDateTime created);
+}
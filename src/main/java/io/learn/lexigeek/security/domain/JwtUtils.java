@@ -1,43 +1,47 @@
 package io.learn.lexigeek.security.domain;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
+import io.learn.lexigeek.account.dto.AccountDto;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.experimental.UtilityClass;
 
-import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
 
 @UtilityClass
 class JwtUtils {
 
     static final String ACCESS_COOKIE_NAME = "JWT";
     static final String REFRESH_COOKIE_NAME = "JWT_REFRESH";
-    private final SecretKey key = Jwts.SIG.HS256.key().build();
+    static final int ACCESS_TTL_SECONDS = 15 * 60;
+    static final int REFRESH_TTL_SECONDS = 30 * 24 * 60 * 60;
+    private static final String ACCOUNT_ID_CLAIM = "aid";
+    private static final String ACCOUNT_UUID_CLAIM = "auid";
+    private static final String USERNAME_CLAIM = "name";
 
-    String generateToken(final String subject, final long expiresInSeconds) {
+    JwtBuilder tokenFor(final AccountDto account, final long expiresInSeconds) {
         final Instant now = Instant.now();
         return Jwts.builder()
-                .subject(subject)
+                .subject(account.email())
+                .claim(ACCOUNT_ID_CLAIM, account.id())
+                .claim(ACCOUNT_UUID_CLAIM, account.uuid().toString())
+                .claim(USERNAME_CLAIM, account.username())
                 .issuedAt(Date.from(now))
-                .expiration(Date.from(now.plusSeconds(expiresInSeconds)))
-                .signWith(key)
-                .compact();
+                .expiration(Date.from(now.plusSeconds(expiresInSeconds)));
     }
 
-    Optional<String> extractSubject(final String token) {
-        try {
-            final String subject = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
-            return Optional.ofNullable(subject);
-        } catch (final Exception e) {
+    Optional<AccountDto> toAccount(final Claims claims) {
+        final Long accountId = claims.get(ACCOUNT_ID_CLAIM, Long.class);
+        final String accountUuid = claims.get(ACCOUNT_UUID_CLAIM, String.class);
+        if (accountId == null || accountUuid == null) {
             return Optional.empty();
         }
+        return Optional.of(new AccountDto(accountId, UUID.fromString(accountUuid),
+                claims.get(USERNAME_CLAIM, String.class), claims.getSubject(), null));
     }
 
     void setAccessCookie(HttpServletResponse response, String token, int maxAgeSeconds) {
@@ -0,0 +1,84 @@
+package io.learn.lexigeek.security.domain;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.learn.lexigeek.common.exception.TooManyRequestsException;
+import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts failed logins in memory, so every node enforces its own limits: behind a load balancer with N nodes
+ * a client can make up to N times the configured attempts per window before being throttled everywhere.
+ */
+@Component
+class LoginThrottle {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+
+    private final Cache<String, AtomicInteger> emailFailures;
+    private final Cache<String, AtomicInteger> ipFailures;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerIp;
+    private final Counter throttled;
+
+    LoginThrottle(final MeterRegistry meterRegistry,
+                  @Value("${lexigeek.security.login-throttle.max-attempts-per-email:5}") final int maxAttemptsPerEmail,
+                  @Value("${lexigeek.security.login-throttle.max-attempts-per-ip:50}") final int maxAttemptsPerIp,
+                  @Value("${lexigeek.security.login-throttle.window:PT15M}") final Duration window) {
+        this.emailFailures = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(window).build();
+        this.ipFailures = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(window).build();
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.throttled = Counter.builder("lexigeek.security.login.throttled")
+                .description("Login attempts rejected by the attempt throttle")
+                .register(meterRegistry);
+    }
+
+    void check(final String email, final String clientIp) {
+        if (failures(emailFailures, normalize(email)) >= maxAttemptsPerEmail
+                || failures(ipFailures, clientIp) >= maxAttemptsPerIp) {
+            throttled.increment();
+            throw new TooManyRequestsException(ErrorCodes.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    void recordFailure(final String email, final String clientIp) {
+        increment(emailFailures, normalize(email));
+        increment(ipFailures, clientIp);
+    }
+
+    void recordSuccess(final String email) {
+        emailFailures.invalidate(normalize(email));
+    }
+
+    private static int failures(final Cache<String, AtomicInteger> cache, final String key) {
+        if (key == null) {
+            return 0;
+        }
+        final AtomicInteger count = cache.getIfPresent(key);
+        return count != null ? count.get() : 0;
+    }
+
+    private static void increment(final Cache<String, AtomicInteger> cache, final String key) {
+        if (key == null) {
+            return;
+        }
+        try {
+            cache.get(key, AtomicInteger::new).incrementAndGet();
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static String normalize(final String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -1,15 +1,22 @@
 package io.learn.lexigeek.security.domain;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 class PasswordConfig {
 
-    @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    PasswordEncoder passwordEncoder(final MeterRegistry meterRegistry,
+                                    @Value("${lexigeek.security.password.pool-size:4}") final int poolSize,
+                                    @Value("${lexigeek.security.password.queue-capacity:64}") final int queueCapacity,
+                                    @Value("${lexigeek.security.password.timeout:PT500MS}") final Duration timeout) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry, poolSize, queueCapacity, timeout);
     }
 }
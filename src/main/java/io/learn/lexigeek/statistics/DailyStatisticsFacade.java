@@ -0,0 +1,18 @@
+package io.learn.lexigeek.statistics;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface DailyStatisticsFacade {
+
+    void lockAccounts(final Collection<Long> accountIds);
+
+    void addLanguageStatistics(final Long accountId, final UUID languageUuid, final LocalDate day,
+                               final int correctRepeats, final int incorrectRepeats, final int wordsAdded);
+
+    void addStars(final Long accountId, final LocalDate day, final int stars);
+
+    Map<LocalDate, Integer> getStarsPerDay(final Long accountId, final LocalDate startDate, final LocalDate endDate);
+}
@@ -0,0 +1,16 @@
+package io.learn.lexigeek.statistics.domain;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+interface DailyLanguageStatisticsProjection {
+    LocalDate getDay();
+
+    UUID getLanguageUuid();
+
+    Integer getCorrectRepeats();
+
+    Integer getIncorrectRepeats();
+
+    Integer getWordsAdded();
+}
@@ -0,0 +1,9 @@
+package io.learn.lexigeek.statistics.domain;
+
+import java.time.LocalDate;
+
+interface DailyStarsProjection {
+    LocalDate getDay();
+
+    Integer getStars();
+}
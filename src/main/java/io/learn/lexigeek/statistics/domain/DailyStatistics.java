@@ -0,0 +1,41 @@
+package io.learn.lexigeek.statistics.domain;
+
+import io.learn.lexigeek.common.entity.AbstractEntity;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldNameConstants;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "daily_statistics")
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Setter
+@Getter
+@FieldNameConstants
+class DailyStatistics extends AbstractEntity {
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "language_id")
+    private Language language;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "correct_repeats", nullable = false)
+    private Integer correctRepeats = 0;
+
+    @Column(name = "incorrect_repeats", nullable = false)
+    private Integer incorrectRepeats = 0;
+
+    @Column(name = "words_added", nullable = false)
+    private Integer wordsAdded = 0;
+
+    @Column(name = "stars", nullable = false)
+    private Integer stars = 0;
+}
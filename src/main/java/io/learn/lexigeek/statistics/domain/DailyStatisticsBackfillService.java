@@ -0,0 +1,72 @@
+package io.learn.lexigeek.statistics.domain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+class DailyStatisticsBackfillService {
+
+    private static final class LogMessages {
+        private static final String BACKFILL_FINISHED = "Daily statistics backfilled for {} accounts";
+    }
+
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final StatisticsCache statisticsCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxEventAttempts;
+
+    DailyStatisticsBackfillService(final DailyStatisticsRepository dailyStatisticsRepository,
+                                   final StatisticsCache statisticsCache,
+                                   final PlatformTransactionManager transactionManager,
+                                   @Value("${lexigeek.statistics.backfill.batch-size:100}") final int batchSize,
+                                   @Value("${lexigeek.event.processor.max-attempts:5}") final int maxEventAttempts) {
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.statisticsCache = statisticsCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxEventAttempts = Math.max(1, maxEventAttempts);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int total = 0;
+        int backfilled;
+        do {
+            backfilled = backfillBatch();
+            total += backfilled;
+        } while (backfilled >= batchSize);
+
+        if (total > 0) {
+            log.info(LogMessages.BACKFILL_FINISHED, total);
+        }
+    }
+
+    int backfillBatch() {
+        final Integer backfilled = transactionTemplate.execute(status -> {
+            final List<Long> accountIds = dailyStatisticsRepository.claimAccountsForBackfill(LocalDateTime.now(), batchSize);
+            if (accountIds.isEmpty()) {
+                return 0;
+            }
+            // Counts are recomputed from this statement's snapshot, so concurrent increments must wait for the commit
+            accountIds.stream()
+                    .sorted()
+                    .forEach(accountId -> dailyStatisticsRepository.lockAccount(
+                            DailyStatisticsService.ACCOUNT_LOCK_NAMESPACE, accountId));
+            dailyStatisticsRepository.rebuildLanguageStatistics(accountIds, maxEventAttempts);
+            dailyStatisticsRepository.rebuildStarsStatistics(accountIds);
+            accountIds.forEach(statisticsCache::evictAccount);
+            return accountIds.size();
+        });
+        return backfilled == null ? 0 : backfilled;
+    }
+}
@@ -0,0 +1,146 @@
+package io.learn.lexigeek.statistics.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+interface DailyStatisticsRepository extends JpaRepository<DailyStatistics, Long> {
+
+    @Query("""
+            SELECT d.day as day, d.language.uuid as languageUuid, d.correctRepeats as correctRepeats,
+                   d.incorrectRepeats as incorrectRepeats, d.wordsAdded as wordsAdded
+            FROM DailyStatistics d
+            WHERE d.accountId = :accountId
+                AND d.language IS NOT NULL
+                AND d.day BETWEEN :startDate AND :endDate
+                AND (:languageUuids IS NULL OR d.language.uuid IN :languageUuids)
+            """)
+    List<DailyLanguageStatisticsProjection> findLanguageStatistics(@Param("accountId") final Long accountId,
+                                                                   @Param("startDate") final LocalDate startDate,
+                                                                   @Param("endDate") final LocalDate endDate,
+                                                                   @Param("languageUuids") final List<UUID> languageUuids);
+
+    @Query("""
+            SELECT d.day as day, d.stars as stars
+            FROM DailyStatistics d
+            WHERE d.accountId = :accountId
+                AND d.language IS NULL
+                AND d.day BETWEEN :startDate AND :endDate
+            """)
+    List<DailyStarsProjection> findStarsStatistics(@Param("accountId") final Long accountId,
+                                                   @Param("startDate") final LocalDate startDate,
+                                                   @Param("endDate") final LocalDate endDate);
+
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:namespace, CAST(:accountId % 2147483647 AS INTEGER))",
+            nativeQuery = true)
+    Integer lockAccount(@Param("namespace") final int namespace,
+                        @Param("accountId") final Long accountId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_statistics (account_id, language_id, day, correct_repeats, incorrect_repeats, words_added)
+            SELECT :accountId, l.id, :day, :correctRepeats, :incorrectRepeats, :wordsAdded
+            FROM languages l
+            WHERE l.uuid = :languageUuid
+            ON CONFLICT (account_id, language_id, day) WHERE language_id IS NOT NULL
+            DO UPDATE SET correct_repeats = daily_statistics.correct_repeats + EXCLUDED.correct_repeats,
+                          incorrect_repeats = daily_statistics.incorrect_repeats + EXCLUDED.incorrect_repeats,
+                          words_added = daily_statistics.words_added + EXCLUDED.words_added
+            """, nativeQuery = true)
+    int addLanguageCounts(@Param("accountId") final Long accountId,
+                          @Param("languageUuid") final UUID languageUuid,
+                          @Param("day") final LocalDate day,
+                          @Param("correctRepeats") final int correctRepeats,
+                          @Param("incorrectRepeats") final int incorrectRepeats,
+                          @Param("wordsAdded") final int wordsAdded);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_statistics (account_id, language_id, day, stars)
+            VALUES (:accountId, NULL, :day, :stars)
+            ON CONFLICT (account_id, day) WHERE language_id IS NULL
+            DO UPDATE SET stars = daily_statistics.stars + EXCLUDED.stars
+            """, nativeQuery = true)
+    int addStars(@Param("accountId") final Long accountId,
+                 @Param("day") final LocalDate day,
+                 @Param("stars") final int stars);
+
+    @Query(value = """
+            INSERT INTO daily_statistics_backfills (account_id, completed_at)
+            SELECT a.id, :now
+            FROM accounts a
+            WHERE NOT EXISTS (SELECT 1 FROM daily_statistics_backfills b WHERE b.account_id = a.id)
+            ORDER BY a.id
+            LIMIT :limit
+            ON CONFLICT (account_id) DO NOTHING
+            RETURNING account_id
+            """, nativeQuery = true)
+    List<Long> claimAccountsForBackfill(@Param("now") final LocalDateTime now,
+                                        @Param("limit") final int limit);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_statistics (account_id, language_id, day, correct_repeats, incorrect_repeats, words_added)
+            SELECT account_id, language_id, day, SUM(correct_repeats), SUM(incorrect_repeats), SUM(words_added)
+            FROM (
+                SELECT l.account_id, l.id AS language_id, CAST(ws.answer_time AS DATE) AS day,
+                       COUNT(*) FILTER (WHERE ws.correct) AS correct_repeats,
+                       COUNT(*) FILTER (WHERE NOT ws.correct) AS incorrect_repeats,
+                       0 AS words_added
+                FROM languages l
+                JOIN (SELECT DISTINCT cw.word_id, c.language_id
+                      FROM category_word cw
+                      JOIN categories c ON c.id = cw.category_id) wl ON wl.language_id = l.id
+                JOIN word_stats ws ON ws.word_id = wl.word_id
+                WHERE l.account_id IN (:accountIds)
+                GROUP BY l.account_id, l.id, CAST(ws.answer_time AS DATE)
+                UNION ALL
+                SELECT l.account_id, l.id, CAST(w.created AS DATE), 0, 0, COUNT(DISTINCT w.id)
+                FROM languages l
+                JOIN categories c ON c.language_id = l.id
+                JOIN category_word cw ON cw.category_id = c.id
+                JOIN words w ON w.id = cw.word_id
+                WHERE l.account_id IN (:accountIds)
+                GROUP BY l.account_id, l.id, CAST(w.created AS DATE)
+                UNION ALL
+                SELECT e.account_id, l.id, CAST(e.created AS DATE),
+                       -COUNT(*) FILTER (WHERE e.type = 'WORD_ANSWERED' AND e.correct),
+                       -COUNT(*) FILTER (WHERE e.type = 'WORD_ANSWERED' AND NOT e.correct),
+                       -COUNT(*) FILTER (WHERE e.type = 'WORD_CREATED')
+                FROM outbox_events e
+                JOIN languages l ON l.uuid = e.language_uuid
+                WHERE e.account_id IN (:accountIds)
+                  AND e.type IN ('WORD_ANSWERED', 'WORD_CREATED')
+                  AND e.attempts < :maxAttempts
+                GROUP BY e.account_id, l.id, CAST(e.created AS DATE)
+            ) counts
+            GROUP BY account_id, language_id, day
+            ON CONFLICT (account_id, language_id, day) WHERE language_id IS NOT NULL
+            DO UPDATE SET correct_repeats = EXCLUDED.correct_repeats,
+                          incorrect_repeats = EXCLUDED.incorrect_repeats,
+                          words_added = EXCLUDED.words_added
+            """, nativeQuery = true)
+    int rebuildLanguageStatistics(@Param("accountIds") final Collection<Long> accountIds,
+                                  @Param("maxAttempts") final int maxAttempts);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_statistics (account_id, language_id, day, stars)
+            SELECT s.account_id, NULL, CAST(s.created AS DATE), SUM(s.stars)
+            FROM account_stars s
+            WHERE s.account_id IN (:accountIds)
+            GROUP BY s.account_id, CAST(s.created AS DATE)
+            ON CONFLICT (account_id, day) WHERE language_id IS NULL
+            DO UPDATE SET stars = EXCLUDED.stars
+            """, nativeQuery = true)
+    int rebuildStarsStatistics(@Param("accountIds") final Collection<Long> accountIds);
+}
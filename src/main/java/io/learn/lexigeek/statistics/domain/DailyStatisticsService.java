@@ -0,0 +1,62 @@
+package io.learn.lexigeek.statistics.domain;
+
+import io.learn.lexigeek.statistics.DailyStatisticsFacade;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+class DailyStatisticsService implements DailyStatisticsFacade {
+
+    static final int ACCOUNT_LOCK_NAMESPACE = 0x4C4753;
+
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final StatisticsCache statisticsCache;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockAccounts(final Collection<Long> accountIds) {
+        accountIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(accountId -> dailyStatisticsRepository.lockAccount(ACCOUNT_LOCK_NAMESPACE, accountId));
+    }
+
+    @Override
+    @Transactional
+    public void addLanguageStatistics(final Long accountId, final UUID languageUuid, final LocalDate day,
+                                      final int correctRepeats, final int incorrectRepeats, final int wordsAdded) {
+        if (correctRepeats == 0 && incorrectRepeats == 0 && wordsAdded == 0) {
+            return;
+        }
+        dailyStatisticsRepository.addLanguageCounts(accountId, languageUuid, day,
+                correctRepeats, incorrectRepeats, wordsAdded);
+        statisticsCache.evict(accountId, day);
+    }
+
+    @Override
+    @Transactional
+    public void addStars(final Long accountId, final LocalDate day, final int stars) {
+        if (stars == 0) {
+            return;
+        }
+        dailyStatisticsRepository.addStars(accountId, day, stars);
+        statisticsCache.evict(accountId, day);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Integer> getStarsPerDay(final Long accountId, final LocalDate startDate, final LocalDate endDate) {
+        return dailyStatisticsRepository.findStarsStatistics(accountId, startDate, endDate).stream()
+                .collect(Collectors.toMap(DailyStarsProjection::getDay, DailyStarsProjection::getStars));
+    }
+}
@@ -0,0 +1,14 @@
+package io.learn.lexigeek.statistics.domain;
+
+import io.learn.lexigeek.common.entity.AbstractUuidEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Entity(name = "StatisticsLanguage")
+@Table(name = "languages")
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Getter
+class Language extends AbstractUuidEntity {
+}
@@ -0,0 +1,108 @@
+package io.learn.lexigeek.statistics.domain;
+
+import io.learn.lexigeek.statistics.dto.LanguageStats;
+import io.learn.lexigeek.statistics.dto.UserStatDto;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class StatisticsAssembler {
+
+    private static final int CORRECT = 0;
+    private static final int INCORRECT = 1;
+    private static final int ADDED = 2;
+    private static final int METRICS = 3;
+
+    private final LocalDate start;
+    private final int days;
+    private final Map<UUID, Integer> languageIndexes = new HashMap<>();
+    private final List<UUID> languages = new ArrayList<>();
+    private final List<int[]> languageCounts = new ArrayList<>();
+    private final int[] stars;
+    private final boolean[] starsPresent;
+
+    StatisticsAssembler(final LocalDate start, final LocalDate end) {
+        this.start = start;
+        this.days = Math.max(0, Math.toIntExact(ChronoUnit.DAYS.between(start, end)) + 1);
+        this.stars = new int[days];
+        this.starsPresent = new boolean[days];
+    }
+
+    void addLanguageStatistics(final DailyLanguageStatisticsProjection row) {
+        final int day = dayIndex(row.getDay());
+        if (day < 0) {
+            return;
+        }
+        final int[] counts = countsFor(row.getLanguageUuid());
+        final int offset = day * METRICS;
+        counts[offset + CORRECT] += row.getCorrectRepeats();
+        counts[offset + INCORRECT] += row.getIncorrectRepeats();
+        counts[offset + ADDED] += row.getWordsAdded();
+    }
+
+    void addStars(final DailyStarsProjection row) {
+        final int day = dayIndex(row.getDay());
+        if (day < 0) {
+            return;
+        }
+        stars[day] += row.getStars();
+        starsPresent[day] = true;
+    }
+
+    List<UserStatDto> assemble(final boolean showTotal, final boolean showStars) {
+        final List<UserStatDto> result = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            final int offset = day * METRICS;
+            final Map<UUID, LanguageStats> languageStats = new HashMap<>();
+            int totalRepeat = 0;
+            int totalAdd = 0;
+            int totalErrors = 0;
+
+            for (int language = 0; language < languages.size(); language++) {
+                final int[] counts = languageCounts.get(language);
+                final int correct = counts[offset + CORRECT];
+                final int incorrect = counts[offset + INCORRECT];
+                final int added = counts[offset + ADDED];
+                if (correct == 0 && incorrect == 0 && added == 0) {
+                    continue;
+                }
+                languageStats.put(languages.get(language), new LanguageStats(correct, added, incorrect));
+                totalRepeat += correct;
+                totalAdd += added;
+                totalErrors += incorrect;
+            }
+
+            result.add(new UserStatDto(
+                    start.plusDays(day),
+                    showTotal ? totalRepeat : null,
+                    showTotal ? totalAdd : null,
+                    showStars && starsPresent[day] ? stars[day] : null,
+                    showTotal ? totalErrors : null,
+                    languageStats
+            ));
+        }
+        return result;
+    }
+
+    private int[] countsFor(final UUID languageUuid) {
+        final Integer index = languageIndexes.get(languageUuid);
+        if (index != null) {
+            return languageCounts.get(index);
+        }
+        final int[] counts = new int[days * METRICS];
+        languageIndexes.put(languageUuid, languages.size());
+        languages.add(languageUuid);
+        languageCounts.add(counts);
+        return counts;
+    }
+
+    private int dayIndex(final LocalDate date) {
+        final long day = ChronoUnit.DAYS.between(start, date);
+        return day < 0 || day >= days ? -1 : (int) day;
+    }
+}
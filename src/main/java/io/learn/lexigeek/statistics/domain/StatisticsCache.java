@@ -0,0 +1,79 @@
+package io.learn.lexigeek.statistics.domain;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.learn.lexigeek.common.transaction.TransactionCallbacks;
+import io.learn.lexigeek.statistics.dto.UserStatDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+class StatisticsCache {
+
+    private static final String CACHE_NAME = "statistics";
+
+    private final Cache<Key, List<UserStatDto>> cache;
+    private final Cache<Long, Long> generations;
+
+    StatisticsCache(final MeterRegistry meterRegistry,
+                    @Value("${lexigeek.statistics.cache.maximum-size:10000}") final long maximumSize,
+                    @Value("${lexigeek.statistics.cache.expire-after-write:PT10M}") final Duration expireAfterWrite) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        // An account idle for twice the TTL has no cached entries left, so its generation can safely restart at 0
+        this.generations = CacheBuilder.newBuilder()
+                .expireAfterAccess(expireAfterWrite.multipliedBy(2))
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    List<UserStatDto> get(final Long accountId, final LocalDate start, final LocalDate end,
+                          final Set<UUID> languageUuids, final boolean showTotal, final boolean showStars,
+                          final Supplier<List<UserStatDto>> loader) {
+        final Key key = new Key(accountId, generation(accountId), start, end,
+                languageUuids, showTotal, showStars);
+        final List<UserStatDto> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        final List<UserStatDto> loaded = List.copyOf(loader.get());
+        cache.put(key, loaded);
+        return loaded;
+    }
+
+    void evict(final Long accountId, final LocalDate day) {
+        if (day.isBefore(LocalDate.now())) {
+            evictAccount(accountId);
+        }
+    }
+
+    void evictAccount(final Long accountId) {
+        TransactionCallbacks.afterCommit(() -> generations.asMap().merge(accountId, 1L, Long::sum));
+    }
+
+    private long generation(final Long accountId) {
+        final Long generation = generations.getIfPresent(accountId);
+        return generation != null ? generation : 0L;
+    }
+
+    private record Key(Long accountId,
+                       long generation,
+                       LocalDate start,
+                       LocalDate end,
+                       Set<UUID> languageUuids,
+                       boolean showTotal,
+                       boolean showStars) {
+    }
+}
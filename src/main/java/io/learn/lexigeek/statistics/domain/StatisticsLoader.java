@@ -0,0 +1,109 @@
+package io.learn.lexigeek.statistics.domain;
+
+import io.learn.lexigeek.common.exception.ServiceUnavailableException;
+import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.learn.lexigeek.statistics.dto.UserStatDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+class StatisticsLoader {
+
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final boolean parallel;
+    private final Duration timeout;
+
+    StatisticsLoader(final DailyStatisticsRepository dailyStatisticsRepository,
+                     final PlatformTransactionManager transactionManager,
+                     @Value("${lexigeek.statistics.parallel-fetch.enabled:false}") final boolean parallel,
+                     @Value("${lexigeek.statistics.parallel-fetch.timeout:PT5S}") final Duration timeout) {
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, timeout.toSeconds()));
+        this.parallel = parallel;
+        this.timeout = timeout;
+    }
+
+    List<UserStatDto> load(final Long accountId,
+                           final LocalDate start,
+                           final LocalDate end,
+                           final Set<UUID> languageUuids,
+                           final boolean showTotal,
+                           final boolean showStars) {
+        final List<UUID> languages = languageUuids != null ? List.copyOf(languageUuids) : null;
+        final Supplier<List<DailyLanguageStatisticsProjection>> languageSource =
+                () -> dailyStatisticsRepository.findLanguageStatistics(accountId, start, end, languages);
+        final Supplier<List<DailyStarsProjection>> starsSource = showStars
+                ? () -> dailyStatisticsRepository.findStarsStatistics(accountId, start, end)
+                : List::of;
+
+        final StatisticsAssembler assembler = new StatisticsAssembler(start, end);
+        if (parallel && showStars) {
+            final long deadline = System.nanoTime() + timeout.toNanos();
+            final Future<List<DailyLanguageStatisticsProjection>> languageRows = submit(languageSource);
+            final Future<List<DailyStarsProjection>> starsRows = submit(starsSource);
+            try {
+                await(languageRows, deadline).forEach(assembler::addLanguageStatistics);
+                await(starsRows, deadline).forEach(assembler::addStars);
+            } finally {
+                languageRows.cancel(true);
+                starsRows.cancel(true);
+            }
+        } else {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                languageSource.get().forEach(assembler::addLanguageStatistics);
+                starsSource.get().forEach(assembler::addStars);
+            });
+        }
+        return assembler.assemble(showTotal, showStars);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(final Supplier<T> source) {
+        return executor.submit(() -> readOnlyTransaction.execute(status -> source.get()));
+    }
+
+    private static <T> T await(final Future<T> future, final long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            log.warn("Statistics sources did not respond in time");
+            throw new ServiceUnavailableException(ErrorCodes.STATISTICS_TIMEOUT, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(ErrorCodes.STATISTICS_TIMEOUT, e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
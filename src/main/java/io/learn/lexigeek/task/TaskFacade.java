@@ -3,6 +3,7 @@ package io.learn.lexigeek.task;
 import io.learn.lexigeek.account.dto.AccountDto;
 import io.learn.lexigeek.task.dto.TaskConfigDto;
 import io.learn.lexigeek.task.dto.TaskDto;
+import io.learn.lexigeek.task.dto.TaskProgressDto;
 import io.learn.lexigeek.task.dto.TaskType;
 
 import java.util.List;
@@ -22,5 +23,9 @@ public interface TaskFacade {
 
     void fillTask(final TaskType taskType, final UUID languageUuid, final Integer points);
 
+    void fillTask(final Long accountId, final TaskType taskType, final UUID languageUuid, final Integer points);
+
+    void fillTasks(final List<TaskProgressDto> progress);
+
     void initializeTasksForLanguage(final UUID languageUuid);
 }
@@ -8,6 +8,8 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.FieldNameConstants;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "tasks")
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
@@ -36,4 +38,7 @@ class Task extends AbstractUuidEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", nullable = false)
     private Account account;
+
+    @Column(name = "reset_at", nullable = false)
+    private LocalDateTime resetAt;
 }
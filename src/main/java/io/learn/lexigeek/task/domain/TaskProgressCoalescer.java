@@ -0,0 +1,125 @@
+package io.learn.lexigeek.task.domain;
+
+import io.learn.lexigeek.task.dto.TaskType;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+@Slf4j
+@Component
+class TaskProgressCoalescer {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    @Getter
+    private final boolean enabled;
+    private final Map<TaskProgressKey, PendingProgress> pendingPoints = new ConcurrentHashMap<>();
+
+    TaskProgressCoalescer(final TaskRepository taskRepository,
+                          final PlatformTransactionManager transactionManager,
+                          @Value("${lexigeek.task.progress.coalesce:false}") final boolean enabled) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    void add(final Long accountId, final TaskType type, final UUID languageUuid, final Integer points,
+             final LocalDateTime occurredAt) {
+        pendingPoints.merge(new TaskProgressKey(accountId, type, languageUuid), new PendingProgress(points, occurredAt),
+                PendingProgress::add);
+    }
+
+    @Scheduled(fixedDelayString = "${lexigeek.task.progress.flush-interval:PT1S}")
+    @PreDestroy
+    public void flush() {
+        if (pendingPoints.isEmpty()) {
+            return;
+        }
+
+        final Map<TaskProgressKey, PendingProgress> batch = drain(key -> true);
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(batch));
+            log.debug("Flushed task progress for {} tasks", batch.size());
+        } catch (final Exception e) {
+            log.error("Failed to flush task progress for {} tasks, requeueing: {}", batch.size(), e.getMessage(), e);
+            requeue(batch);
+        }
+    }
+
+    /**
+     * Applies the pending progress of one account in the caller's transaction, so a reset that follows
+     * sees it and later flushes cannot credit it to the freshly reset tasks. Requeued on rollback.
+     */
+    void flush(final Long accountId) {
+        final Map<TaskProgressKey, PendingProgress> batch = drain(key -> key.accountId().equals(accountId));
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        apply(batch);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status != STATUS_COMMITTED) {
+                        requeue(batch);
+                    }
+                }
+            });
+        }
+    }
+
+    private Map<TaskProgressKey, PendingProgress> drain(final Predicate<TaskProgressKey> filter) {
+        final Map<TaskProgressKey, PendingProgress> batch = new HashMap<>();
+        for (final TaskProgressKey key : pendingPoints.keySet()) {
+            if (!filter.test(key)) {
+                continue;
+            }
+            final PendingProgress progress = pendingPoints.remove(key);
+            if (progress != null) {
+                batch.put(key, progress);
+            }
+        }
+        return batch;
+    }
+
+    private void apply(final Map<TaskProgressKey, PendingProgress> batch) {
+        batch.forEach((key, progress) -> {
+            final int updated = taskRepository.incrementCurrent(key.accountId(), key.type(), key.languageUuid(),
+                    progress.points(), progress.occurredAt());
+            if (updated == 0) {
+                log.debug("Dropped {} points for missing or since reset task {} of account {} in language {}",
+                        progress.points(), key.type(), key.accountId(), key.languageUuid());
+            }
+        });
+    }
+
+    private void requeue(final Map<TaskProgressKey, PendingProgress> batch) {
+        batch.forEach((key, progress) -> pendingPoints.merge(key, progress, PendingProgress::add));
+    }
+
+    private record TaskProgressKey(Long accountId, TaskType type, UUID languageUuid) {
+    }
+
+    private record PendingProgress(int points, LocalDateTime occurredAt) {
+
+        PendingProgress add(final PendingProgress other) {
+            return new PendingProgress(points + other.points,
+                    occurredAt.isAfter(other.occurredAt) ? occurredAt : other.occurredAt);
+        }
+    }
+}
@@ -2,17 +2,79 @@ package io.learn.lexigeek.task.domain;
 
 import io.learn.lexigeek.common.repository.UUIDAwareJpaRepository;
 import io.learn.lexigeek.task.dto.TaskType;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 interface TaskRepository extends UUIDAwareJpaRepository<Task, Long> {
 
+    String TASK_TARGETS = """
+            WITH targets AS (
+                SELECT s.account_id, s.language_id, v.type, v.maximum, v.stars_reward
+                FROM task_settings s
+                CROSS JOIN LATERAL (VALUES
+                    ('REPEAT_DICTIONARY', s.repeat_dictionary_enabled, s.repeat_dictionary_maximum, GREATEST(1, s.repeat_dictionary_maximum / 20)),
+                    ('REPEAT_EXERCISE', s.repeat_exercise_enabled, s.repeat_exercise_maximum, GREATEST(2, s.repeat_exercise_maximum / 10)),
+                    ('ADD_DICTIONARY', s.add_dictionary_enabled, s.add_dictionary_maximum, GREATEST(3, s.add_dictionary_maximum / 8)),
+                    ('ADD_EXERCISE', s.add_exercise_enabled, s.add_exercise_maximum, GREATEST(4, s.add_exercise_maximum / 5))
+                ) AS v(type, enabled, maximum, stars_reward)
+                WHERE s.account_id = :accountId
+                  AND v.enabled
+            )
+            """;
+
     List<Task> findAllByAccountId(final Long accountId);
 
-    void deleteAllByAccountId(final Long accountId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = TASK_TARGETS + """
+            UPDATE tasks t
+            SET current = 0, maximum = g.maximum, stars_reward = g.stars_reward, reset_at = :resetAt
+            FROM targets g
+            WHERE t.account_id = g.account_id
+              AND t.language_id = g.language_id
+              AND t.type = g.type
+            """, nativeQuery = true)
+    int resetTasks(@Param("accountId") final Long accountId,
+                   @Param("resetAt") final LocalDateTime resetAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = TASK_TARGETS + """
+            DELETE FROM tasks t
+            WHERE t.account_id = :accountId
+              AND NOT EXISTS (SELECT 1 FROM targets g
+                              WHERE g.account_id = t.account_id
+                                AND g.language_id = t.language_id
+                                AND g.type = t.type)
+            """, nativeQuery = true)
+    int deleteDisabledTasks(@Param("accountId") final Long accountId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = TASK_TARGETS + """
+            INSERT INTO tasks (uuid, type, current, maximum, stars_reward, language_id, account_id, reset_at)
+            SELECT gen_random_uuid(), g.type, 0, g.maximum, g.stars_reward, g.language_id, g.account_id, :resetAt
+            FROM targets g
+            ON CONFLICT (account_id, language_id, type) DO NOTHING
+            """, nativeQuery = true)
+    int insertMissingTasks(@Param("accountId") final Long accountId,
+                           @Param("resetAt") final LocalDateTime resetAt);
 
-    Optional<Task> findByAccountIdAndTypeAndLanguageId(final Long accountId, final TaskType type, final Long languageId);
+    @Modifying
+    @Query("""
+            UPDATE Task t SET t.current = t.current + :points
+            WHERE t.account.id = :accountId
+              AND t.type = :type
+              AND t.language.id = (SELECT l.id FROM TaskLanguage l WHERE l.uuid = :languageUuid)
+              AND t.resetAt <= :occurredAt
+            """)
+    int incrementCurrent(@Param("accountId") final Long accountId,
+                         @Param("type") final TaskType type,
+                         @Param("languageUuid") final UUID languageUuid,
+                         @Param("points") final Integer points,
+                         @Param("occurredAt") final LocalDateTime occurredAt);
 }
@@ -37,4 +37,13 @@ class TaskSchedule extends AbstractUuidEntity {
 
     @Column(name = "last_run_at")
     private LocalDateTime lastRunAt;
+
+    @Column(name = "next_run_at")
+    private LocalDateTime nextRunAt;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
 }
@@ -0,0 +1,82 @@
+package io.learn.lexigeek.task.domain;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Slf4j
+@UtilityClass
+class TaskScheduleCalculator {
+
+    private static final int MAX_LOOKAHEAD_DAYS = 400;
+
+    LocalDateTime calculateNextRunAt(final TaskSchedule schedule, final LocalDateTime after) {
+        final LocalTime scheduledTime = LocalTime.of(schedule.getHour(), schedule.getMinute());
+        final LocalDate earliestDate = calculateEarliestRunDate(schedule);
+
+        LocalDate date = after.toLocalDate();
+        if (earliestDate != null && earliestDate.isAfter(date)) {
+            date = earliestDate;
+        }
+
+        for (int i = 0; i <= MAX_LOOKAHEAD_DAYS; i++, date = date.plusDays(1)) {
+            final LocalDateTime candidate = date.atTime(scheduledTime);
+            if (candidate.isAfter(after) && matchesFrequency(schedule, date)) {
+                return candidate;
+            }
+        }
+
+        throw new IllegalStateException("No run time found for task schedule " + schedule.getUuid());
+    }
+
+    private LocalDate calculateEarliestRunDate(final TaskSchedule schedule) {
+        final LocalDateTime lastRun = schedule.getLastRunAt();
+        if (lastRun == null) {
+            return null;
+        }
+
+        return switch (schedule.getFrequency()) {
+            case EVERY_N_DAYS -> lastRun.toLocalDate().plusDays(resolveDaysInterval(schedule));
+            case DAILY, WEEKLY, MONTHLY -> lastRun.toLocalDate().plusDays(1);
+        };
+    }
+
+    private boolean matchesFrequency(final TaskSchedule schedule, final LocalDate date) {
+        return switch (schedule.getFrequency()) {
+            case DAILY, EVERY_N_DAYS -> true;
+            case WEEKLY -> date.getDayOfWeek() == resolveDayOfWeek(schedule);
+            case MONTHLY -> date.getDayOfMonth() == Math.min(resolveDayOfMonth(schedule), date.lengthOfMonth());
+        };
+    }
+
+    private int resolveDaysInterval(final TaskSchedule schedule) {
+        final Integer daysInterval = schedule.getFrequencyValue();
+        if (daysInterval == null || daysInterval < 1) {
+            log.warn("Invalid frequencyValue for EVERY_N_DAYS schedule: {}, defaulting to 1", daysInterval);
+            return 1;
+        }
+        return daysInterval;
+    }
+
+    private DayOfWeek resolveDayOfWeek(final TaskSchedule schedule) {
+        final Integer dayOfWeekValue = schedule.getFrequencyValue();
+        if (dayOfWeekValue == null || dayOfWeekValue < 1 || dayOfWeekValue > 7) {
+            log.warn("Invalid frequencyValue for WEEKLY schedule: {}, defaulting to Monday", dayOfWeekValue);
+            return DayOfWeek.MONDAY;
+        }
+        return DayOfWeek.of(dayOfWeekValue);
+    }
+
+    private int resolveDayOfMonth(final TaskSchedule schedule) {
+        final Integer dayOfMonth = schedule.getFrequencyValue();
+        if (dayOfMonth == null || dayOfMonth < 1 || dayOfMonth > 31) {
+            log.warn("Invalid frequencyValue for MONTHLY schedule: {}, defaulting to day 1", dayOfMonth);
+            return 1;
+        }
+        return dayOfMonth;
+    }
+}
@@ -0,0 +1,140 @@
+package io.learn.lexigeek.task.domain;
+
+import io.learn.lexigeek.account.dto.AccountDto;
+import io.learn.lexigeek.task.TaskFacade;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+class TaskScheduleExecutor {
+
+    private static final String RUN_TIMER = "lexigeek.task.schedule.run";
+    private static final String BATCH_TIMER = "lexigeek.task.schedule.batch";
+    private static final String BACKLOG_GAUGE = "lexigeek.task.schedule.backlog";
+
+    private final TaskScheduleRepository taskScheduleRepository;
+    private final TaskFacade taskFacade;
+    private final TaskScheduleLeaseService taskScheduleLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore permits;
+    private final AtomicInteger backlog = new AtomicInteger();
+
+    TaskScheduleExecutor(final TaskScheduleRepository taskScheduleRepository,
+                         final TaskFacade taskFacade,
+                         final TaskScheduleLeaseService taskScheduleLeaseService,
+                         final PlatformTransactionManager transactionManager,
+                         final MeterRegistry meterRegistry,
+                         @Value("${lexigeek.task.scheduler.parallelism:8}") final int parallelism) {
+        this.taskScheduleRepository = taskScheduleRepository;
+        this.taskFacade = taskFacade;
+        this.taskScheduleLeaseService = taskScheduleLeaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(Math.max(1, parallelism));
+        Gauge.builder(BACKLOG_GAUGE, backlog, AtomicInteger::get)
+                .description("Due task schedules waiting to be processed")
+                .register(meterRegistry);
+    }
+
+    void updateBacklog(final long dueSchedules) {
+        backlog.set((int) Math.min(Integer.MAX_VALUE, dueSchedules));
+    }
+
+    void execute(final List<TaskSchedule> schedules, final LocalDateTime now) {
+        final Timer.Sample batchSample = Timer.start(meterRegistry);
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final TaskSchedule schedule : schedules) {
+                final Long scheduleId = schedule.getId();
+                final Account account = schedule.getAccount();
+                final AccountDto accountDto = new AccountDto(account.getId(), account.getUuid(), null, null, null);
+                acquirePermit();
+                executor.execute(() -> {
+                    try {
+                        runSchedule(scheduleId, accountDto, now);
+                    } finally {
+                        backlog.updateAndGet(value -> Math.max(0, value - 1));
+                        permits.release();
+                    }
+                });
+            }
+        } finally {
+            batchSample.stop(meterRegistry.timer(BATCH_TIMER));
+        }
+    }
+
+    private void runSchedule(final Long scheduleId, final AccountDto accountDto, final LocalDateTime now) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            final Boolean ran = transactionTemplate.execute(status -> {
+                final Optional<TaskSchedule> schedule = taskScheduleLeaseService.lockLeasedSchedule(scheduleId);
+                if (schedule.isEmpty()) {
+                    return false;
+                }
+                taskFacade.reloadTasks(accountDto);
+                // The task reset clears the persistence context, so advance a managed copy of the still locked row
+                advanceSchedule(taskScheduleRepository.findById(scheduleId).orElseThrow(), now, true);
+                return true;
+            });
+            if (Boolean.TRUE.equals(ran)) {
+                log.info("Successfully reloaded tasks for account {} at {} UTC", accountDto.uuid(), now);
+            } else {
+                outcome = "lease_lost";
+                log.warn("Lease on task schedule {} was taken over, not reloading tasks for account {}",
+                        scheduleId, accountDto.uuid());
+            }
+        } catch (final Exception e) {
+            outcome = "failure";
+            log.error("Failed to reload tasks for account {}: {}", accountDto.uuid(), e.getMessage(), e);
+            skipSchedule(scheduleId, accountDto.uuid(), now);
+        } finally {
+            sample.stop(meterRegistry.timer(RUN_TIMER, "outcome", outcome));
+        }
+    }
+
+    private void skipSchedule(final Long scheduleId, final UUID accountUuid, final LocalDateTime now) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> taskScheduleLeaseService.lockLeasedSchedule(scheduleId)
+                    .ifPresent(schedule -> advanceSchedule(schedule, now, false)));
+        } catch (final Exception e) {
+            log.error("Failed to advance task schedule for account {}: {}", accountUuid, e.getMessage(), e);
+        }
+    }
+
+    private void advanceSchedule(final TaskSchedule schedule, final LocalDateTime now, final boolean succeeded) {
+        if (succeeded) {
+            schedule.setLastRunAt(now);
+        }
+        schedule.setNextRunAt(TaskScheduleCalculator.calculateNextRunAt(schedule, now));
+        taskScheduleLeaseService.releaseLease(schedule);
+        taskScheduleRepository.save(schedule);
+    }
+
+    private void acquirePermit() {
+        try {
+            permits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a task schedule slot", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.learn.lexigeek.task.domain;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+class TaskScheduleLeaseService {
+
+    private final TaskScheduleRepository taskScheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+    @Getter
+    private final String nodeId;
+    private final Duration leaseDuration;
+
+    TaskScheduleLeaseService(final TaskScheduleRepository taskScheduleRepository,
+                             final PlatformTransactionManager transactionManager,
+                             @Value("${lexigeek.task.scheduler.node-id:}") final String nodeId,
+                             @Value("${lexigeek.task.scheduler.lease-duration:PT5M}") final Duration leaseDuration) {
+        this.taskScheduleRepository = taskScheduleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.leaseDuration = leaseDuration;
+        log.info("Task scheduler node {} uses leases of {}", this.nodeId, leaseDuration);
+    }
+
+    List<TaskSchedule> claimDueSchedules(final LocalDateTime now, final int limit) {
+        return transactionTemplate.execute(status -> {
+            final List<Long> ids = taskScheduleRepository.findClaimableScheduleIds(now, limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            taskScheduleRepository.leaseSchedules(ids, nodeId, now.plus(leaseDuration));
+            return taskScheduleRepository.findAllWithAccountByIdIn(ids);
+        });
+    }
+
+    Optional<TaskSchedule> lockLeasedSchedule(final Long scheduleId) {
+        return taskScheduleRepository.findLeasedForUpdate(scheduleId, nodeId);
+    }
+
+    void releaseLease(final TaskSchedule schedule) {
+        schedule.setLeaseOwner(null);
+        schedule.setLeaseUntil(null);
+    }
+}
@@ -1,12 +1,58 @@
 package io.learn.lexigeek.task.domain;
 
 import io.learn.lexigeek.common.repository.UUIDAwareJpaRepository;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 interface TaskScheduleRepository extends UUIDAwareJpaRepository<TaskSchedule, Long> {
 
     Optional<TaskSchedule> findByAccountId(final Long accountId);
+
+    @Query(value = """
+            SELECT id FROM task_schedules
+            WHERE next_run_at <= :now
+              AND (lease_until IS NULL OR lease_until < :now)
+            ORDER BY next_run_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> findClaimableScheduleIds(@Param("now") final LocalDateTime now,
+                                        @Param("limit") final int limit);
+
+    @Modifying
+    @Query("""
+            UPDATE TaskSchedule s
+            SET s.leaseOwner = :leaseOwner, s.leaseUntil = :leaseUntil
+            WHERE s.id IN :ids
+            """)
+    int leaseSchedules(@Param("ids") final List<Long> ids,
+                       @Param("leaseOwner") final String leaseOwner,
+                       @Param("leaseUntil") final LocalDateTime leaseUntil);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TaskSchedule s WHERE s.id = :id AND s.leaseOwner = :leaseOwner")
+    Optional<TaskSchedule> findLeasedForUpdate(@Param("id") final Long id,
+                                               @Param("leaseOwner") final String leaseOwner);
+
+    @Query("""
+            SELECT s FROM TaskSchedule s
+            JOIN FETCH s.account
+            WHERE s.id IN :ids
+            ORDER BY s.id
+            """)
+    List<TaskSchedule> findAllWithAccountByIdIn(@Param("ids") final List<Long> ids);
+
+    long countByNextRunAtLessThanEqual(final LocalDateTime now);
+
+    List<TaskSchedule> findByNextRunAtIsNullOrderById(final Pageable pageable);
 }
@@ -1,19 +1,17 @@
 package io.learn.lexigeek.task.domain;
 
-import io.learn.lexigeek.account.dto.AccountDto;
 import io.learn.lexigeek.common.utils.DateTimeUtils;
-import io.learn.lexigeek.task.TaskFacade;
 import jakarta.transaction.Transactional;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 
 
@@ -22,126 +20,37 @@ import java.util.List;
 @Slf4j
 class TaskSchedulerService {
 
+    private static final int CHUNK_SIZE = 500;
+
     private final TaskScheduleRepository taskScheduleRepository;
-    private final TaskFacade taskFacade;
+    private final TaskScheduleLeaseService taskScheduleLeaseService;
+    private final TaskScheduleExecutor taskScheduleExecutor;
 
     @Scheduled(cron = "0 * * * * *")
-    @Transactional
     public void processTaskSchedules() {
         final LocalDateTime now = DateTimeUtils.timestampUTC();
-        final List<TaskSchedule> allSchedules = taskScheduleRepository.findAll();
-        log.debug("Processing task schedules at {} UTC, found {} schedules", now, allSchedules.size());
-        for (final TaskSchedule schedule : allSchedules) {
-            if (shouldRunSchedule(schedule, now)) {
-                try {
-                    reloadTasksForAccount(schedule);
-                    schedule.setLastRunAt(now);
-                    taskScheduleRepository.save(schedule);
-                    log.info("Successfully reloaded tasks for account {} at {} UTC",
-                            schedule.getAccount().getUuid(), now);
-                } catch (final Exception e) {
-                    log.error("Failed to reload tasks for account {}: {}",
-                            schedule.getAccount().getUuid(), e.getMessage(), e);
-                }
+        taskScheduleExecutor.updateBacklog(taskScheduleRepository.countByNextRunAtLessThanEqual(now));
+        int processed = 0;
+        List<TaskSchedule> claimedSchedules;
+        do {
+            claimedSchedules = taskScheduleLeaseService.claimDueSchedules(now, CHUNK_SIZE);
+            if (!claimedSchedules.isEmpty()) {
+                taskScheduleExecutor.execute(claimedSchedules, now);
             }
-        }
-    }
-
-    private boolean shouldRunSchedule(final TaskSchedule schedule, final LocalDateTime now) {
-        final LocalTime scheduledTime = LocalTime.of(schedule.getHour(), schedule.getMinute());
-        final LocalTime currentTime = now.toLocalTime();
-
-        if (!isWithinMinuteWindow(currentTime, scheduledTime)) {
-            return false;
-        }
-        final LocalDateTime lastRun = schedule.getLastRunAt();
-
-        if (lastRun == null) {
-            return shouldRunForFrequency(schedule, now, null);
-        }
-
-        if (lastRun.toLocalDate().equals(now.toLocalDate()) &&
-                lastRun.getHour() == schedule.getHour() &&
-                lastRun.getMinute() == schedule.getMinute()) {
-            return false;
-        }
-        return shouldRunForFrequency(schedule, now, lastRun);
+            processed += claimedSchedules.size();
+        } while (claimedSchedules.size() == CHUNK_SIZE);
+        log.debug("Node {} processed {} due task schedules at {} UTC", taskScheduleLeaseService.getNodeId(), processed, now);
     }
 
-    private boolean isWithinMinuteWindow(final LocalTime currentTime, final LocalTime scheduledTime) {
-        return currentTime.getHour() == scheduledTime.getHour() &&
-                currentTime.getMinute() == scheduledTime.getMinute();
-    }
-
-    private boolean shouldRunForFrequency(final TaskSchedule schedule,
-                                          final LocalDateTime now,
-                                          final LocalDateTime lastRun) {
-        return switch (schedule.getFrequency()) {
-            case DAILY -> shouldRunDaily(lastRun, now);
-            case EVERY_N_DAYS -> shouldRunEveryNDays(schedule, lastRun, now);
-            case WEEKLY -> shouldRunWeekly(schedule, now);
-            case MONTHLY -> shouldRunMonthly(schedule, now);
-        };
-    }
-
-    private boolean shouldRunDaily(final LocalDateTime lastRun, final LocalDateTime now) {
-        if (lastRun == null) {
-            return true;
-        }
-
-        return !lastRun.toLocalDate().equals(now.toLocalDate());
-    }
-
-    private boolean shouldRunEveryNDays(final TaskSchedule schedule,
-                                        final LocalDateTime lastRun,
-                                        final LocalDateTime now) {
-        if (lastRun == null) {
-            return true;
-        }
-        final Integer daysInterval = schedule.getFrequencyValue();
-        if (daysInterval == null || daysInterval < 1) {
-            log.warn("Invalid frequencyValue for EVERY_N_DAYS schedule: {}, defaulting to 1", daysInterval);
-            return shouldRunDaily(lastRun, now);
-        }
-
-        final LocalDate lastRunDate = lastRun.toLocalDate();
-        final LocalDate nextRunDate = lastRunDate.plusDays(daysInterval);
-        return !now.toLocalDate().isBefore(nextRunDate);
-    }
-
-    private boolean shouldRunWeekly(final TaskSchedule schedule, final LocalDateTime now) {
-        final Integer dayOfWeekValue = schedule.getFrequencyValue();
-        if (dayOfWeekValue == null || dayOfWeekValue < 1 || dayOfWeekValue > 7) {
-            log.warn("Invalid frequencyValue for WEEKLY schedule: {}, defaulting to Monday", dayOfWeekValue);
-            return now.getDayOfWeek() == DayOfWeek.MONDAY;
-        }
-
-        final DayOfWeek targetDay = DayOfWeek.of(dayOfWeekValue);
-        return now.getDayOfWeek() == targetDay;
-    }
-
-    private boolean shouldRunMonthly(final TaskSchedule schedule, final LocalDateTime now) {
-        final Integer dayOfMonth = schedule.getFrequencyValue();
-        if (dayOfMonth == null || dayOfMonth < 1 || dayOfMonth > 31) {
-            log.warn("Invalid frequencyValue for MONTHLY schedule: {}, defaulting to day 1", dayOfMonth);
-            return now.getDayOfMonth() == 1;
-        }
-
-        final int maxDayInMonth = now.toLocalDate().lengthOfMonth();
-        final int effectiveDay = Math.min(dayOfMonth, maxDayInMonth);
-        return now.getDayOfMonth() == effectiveDay;
-    }
-
-    private void reloadTasksForAccount(final TaskSchedule schedule) {
-        final Account account = schedule.getAccount();
-        final AccountDto accountDto = new AccountDto(
-                account.getId(),
-                account.getUuid(),
-                null,
-                null,
-                null
-        );
-        taskFacade.reloadTasks(accountDto);
-        log.debug("Generated tasks for account {}", account.getUuid());
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeNextRunTimes() {
+        final LocalDateTime now = DateTimeUtils.timestampUTC();
+        List<TaskSchedule> schedules;
+        do {
+            schedules = taskScheduleRepository.findByNextRunAtIsNullOrderById(PageRequest.of(0, CHUNK_SIZE));
+            schedules.forEach(schedule -> schedule.setNextRunAt(TaskScheduleCalculator.calculateNextRunAt(schedule, now)));
+            taskScheduleRepository.saveAllAndFlush(schedules);
+        } while (schedules.size() == CHUNK_SIZE);
     }
 }
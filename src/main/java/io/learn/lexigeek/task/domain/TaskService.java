@@ -2,23 +2,25 @@ package io.learn.lexigeek.task.domain;
 
 import io.learn.lexigeek.account.AccountFacade;
 import io.learn.lexigeek.account.dto.AccountDto;
-import io.learn.lexigeek.activity.ActivityFacade;
-import io.learn.lexigeek.activity.domain.ActivityType;
-import io.learn.lexigeek.activity.dto.ActivityForm;
 import io.learn.lexigeek.common.exception.NotFoundException;
+import io.learn.lexigeek.common.utils.DateTimeUtils;
 import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.learn.lexigeek.event.EventFacade;
+import io.learn.lexigeek.event.dto.StarsAwardedEvent;
 import io.learn.lexigeek.task.TaskFacade;
 import io.learn.lexigeek.task.dto.*;
 import jakarta.transaction.Transactional;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class TaskService implements TaskFacade {
@@ -29,7 +31,8 @@ public class TaskService implements TaskFacade {
     private final AccountRepository accountRepository;
     private final LanguageRepository languageRepository;
     private final AccountFacade accountFacade;
-    private final ActivityFacade activityFacade;
+    private final EventFacade eventFacade;
+    private final TaskProgressCoalescer taskProgressCoalescer;
 
     @Override
     public List<TaskDto> getTasks() {
@@ -50,100 +53,36 @@ public class TaskService implements TaskFacade {
     @Override
     @Transactional
     public List<TaskDto> reloadTasks(final AccountDto accountDto) {
+        taskProgressCoalescer.flush(accountDto.id());
         final List<Task> existingTasks = taskRepository.findAllByAccountId(accountDto.id());
         awardBonusStarsForCompletedTasks(existingTasks, accountDto);
 
-        taskRepository.deleteAllByAccountId(accountDto.id());
-        final List<TaskSettings> allSettings = taskSettingsRepository.findAllByAccountId(accountDto.id());
-        final Account account = accountRepository.findById(accountDto.id())
-                .orElseThrow(() -> new NotFoundException(ErrorCodes.USER_NOT_FOUND, accountDto.uuid()));
-        final List<Task> newTasks = new ArrayList<>();
-        for (final TaskSettings settings : allSettings) {
-            newTasks.addAll(generateTasksForLanguage(settings, account));
-        }
-        taskRepository.saveAll(newTasks);
-        return newTasks.stream()
+        resetTasks(accountDto.id());
+
+        return taskRepository.findAllByAccountId(accountDto.id()).stream()
                 .map(TaskMapper::entityToDto)
                 .toList();
     }
 
+    private void resetTasks(final Long accountId) {
+        final LocalDateTime now = DateTimeUtils.timestampUTC();
+        final int deleted = taskRepository.deleteDisabledTasks(accountId);
+        final int reset = taskRepository.resetTasks(accountId, now);
+        final int inserted = taskRepository.insertMissingTasks(accountId, now);
+        log.debug("Reset tasks of account {}: {} reset, {} inserted, {} deleted", accountId, reset, inserted, deleted);
+    }
+
     private void awardBonusStarsForCompletedTasks(final List<Task> tasks, final AccountDto accountDto) {
-        int totalBonusStars = 0;
         for (final Task task : tasks) {
             if (task.getCurrent() >= task.getMaximum()) {
                 final int bonusStars = task.getStarsReward();
-                totalBonusStars += bonusStars;
-
-                final String languageName = task.getLanguage().getName();
-                final String title = task.getType().name();
-                final ActivityForm activityForm = new ActivityForm(
-                        ActivityType.STARS_ADDED,
-                        languageName,
-                        title,
-                        String.valueOf(bonusStars));
-                activityFacade.addActivity(accountDto.id(), activityForm);
-            }
-        }
-
-        if (totalBonusStars > 0) {
-            accountFacade.addStars(accountDto, totalBonusStars);
-        }
-    }
 
-    private List<Task> generateTasksForLanguage(final TaskSettings settings, final Account account) {
-        final List<Task> tasks = new ArrayList<>();
-        final Language language = settings.getLanguage();
-        if (settings.getRepeatDictionaryEnabled()) {
-            final TaskType taskType = TaskType.REPEAT_DICTIONARY;
-            tasks.add(createTask(taskType, language, account,
-                    settings.getRepeatDictionaryMaximum(), calculateStarsReward(settings.getRepeatDictionaryMaximum(), taskType)));
-        }
-        if (settings.getRepeatExerciseEnabled()) {
-            final TaskType taskType = TaskType.REPEAT_EXERCISE;
-            tasks.add(createTask(taskType, language, account,
-                    settings.getRepeatExerciseMaximum(), calculateStarsReward(settings.getRepeatExerciseMaximum(), taskType)));
-        }
-        if (settings.getAddDictionaryEnabled()) {
-            final TaskType taskType = TaskType.ADD_DICTIONARY;
-            tasks.add(createTask(taskType, language, account,
-                    settings.getAddDictionaryMaximum(), calculateStarsReward(settings.getAddDictionaryMaximum(), taskType)));
-        }
-        if (settings.getAddExerciseEnabled()) {
-            final TaskType taskType = TaskType.ADD_EXERCISE;
-            tasks.add(createTask(taskType, language, account,
-                    settings.getAddExerciseMaximum(), calculateStarsReward(settings.getAddExerciseMaximum(), taskType)));
-        }
-        return tasks;
-    }
-
-    private Task createTask(final TaskType type, final Language language, final Account account,
-                            final Integer maximum, final Integer starsReward) {
-        final Task task = new Task();
-        task.setType(type);
-        task.setLanguage(language);
-        task.setAccount(account);
-        task.setCurrent(0);
-        task.setMaximum(maximum);
-        task.setStarsReward(starsReward);
-        return task;
-    }
-
-    private Integer calculateStarsReward(final Integer maximum, final TaskType taskType) {
-        switch (taskType) {
-            case REPEAT_DICTIONARY -> {
-                return Math.max(1, maximum / 20);
-            }
-            case REPEAT_EXERCISE -> {
-                return Math.max(2, maximum / 10);
-            }
-            case ADD_DICTIONARY -> {
-                return Math.max(3, maximum / 8);
-            }
-            case ADD_EXERCISE -> {
-                return Math.max(4, maximum / 5);
-            }
-            default -> {
-                return 1;
+                eventFacade.publish(new StarsAwardedEvent(
+                        accountDto.id(),
+                        task.getLanguage().getUuid(),
+                        task.getLanguage().getName(),
+                        task.getType(),
+                        bonusStars));
             }
         }
     }
@@ -182,6 +121,7 @@ public class TaskService implements TaskFacade {
         final TaskSchedule schedule = taskScheduleRepository.findByAccountId(accountDto.id())
                 .orElseGet(() -> createDefaultSchedule(accountDto));
         TaskMapper.updateScheduleFromDto(schedule, config.schedule());
+        schedule.setNextRunAt(TaskScheduleCalculator.calculateNextRunAt(schedule, DateTimeUtils.timestampUTC()));
         taskScheduleRepository.save(schedule);
     }
 
@@ -207,14 +147,43 @@ public class TaskService implements TaskFacade {
     @Transactional
     public void fillTask(final TaskType taskType, final UUID languageUuid, final Integer points) {
         final AccountDto accountDto = accountFacade.getLoggedAccount();
-        final Language language = languageRepository.findByUuid(languageUuid)
-                .orElseThrow(() -> new NotFoundException(ErrorCodes.LANGUAGE_NOT_FOUND, languageUuid));
+        fillTask(accountDto.id(), taskType, languageUuid, points);
+    }
 
-        final Task task = taskRepository.findByAccountIdAndTypeAndLanguageId(accountDto.id(), taskType, language.getId())
-                .orElseThrow(() -> new NotFoundException(ErrorCodes.TASK_NOT_FOUND, taskType.name() + " for language " + languageUuid));
+    @Override
+    @Transactional
+    public void fillTask(final Long accountId, final TaskType taskType, final UUID languageUuid, final Integer points) {
+        final LocalDateTime now = DateTimeUtils.timestampUTC();
+        if (taskProgressCoalescer.isEnabled()) {
+            taskProgressCoalescer.add(accountId, taskType, languageUuid, points, now);
+            return;
+        }
 
-        task.setCurrent(task.getCurrent() + points);
-        taskRepository.save(task);
+        final int updated = taskRepository.incrementCurrent(accountId, taskType, languageUuid, points, now);
+        if (updated == 0) {
+            languageRepository.findByUuid(languageUuid)
+                    .orElseThrow(() -> new NotFoundException(ErrorCodes.LANGUAGE_NOT_FOUND, languageUuid));
+            throw new NotFoundException(ErrorCodes.TASK_NOT_FOUND, taskType.name() + " for language " + languageUuid);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void fillTasks(final List<TaskProgressDto> progress) {
+        for (final TaskProgressDto item : progress) {
+            if (taskProgressCoalescer.isEnabled()) {
+                taskProgressCoalescer.add(item.accountId(), item.taskType(), item.languageUuid(), item.points(),
+                        item.occurredAt());
+                continue;
+            }
+
+            final int updated = taskRepository.incrementCurrent(item.accountId(), item.taskType(), item.languageUuid(),
+                    item.points(), item.occurredAt());
+            if (updated == 0) {
+                log.debug("Dropped {} points for missing or since reset task {} of account {} in language {}",
+                        item.points(), item.taskType(), item.accountId(), item.languageUuid());
+            }
+        }
     }
 
     @Override
@@ -227,9 +196,6 @@ public class TaskService implements TaskFacade {
         final TaskSettings settings = createDefaultSettings(language, accountDto);
         taskSettingsRepository.save(settings);
 
-        final Account account = accountRepository.findById(accountDto.id())
-                .orElseThrow(() -> new NotFoundException(ErrorCodes.USER_NOT_FOUND, accountDto.uuid()));
-        final List<Task> tasks = generateTasksForLanguage(settings, account);
-        taskRepository.saveAll(tasks);
+        taskRepository.insertMissingTasks(accountDto.id(), DateTimeUtils.timestampUTC());
     }
 }
@@ -0,0 +1,11 @@
+package io.learn.lexigeek.task.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TaskProgressDto(Long accountId,
+                              TaskType taskType,
+                              UUID languageUuid,
+                              Integer points,
+                              LocalDateTime occurredAt) {
+}
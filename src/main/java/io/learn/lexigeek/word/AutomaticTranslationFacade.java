@@ -1,11 +1,15 @@
-
 package io.learn.lexigeek.word;
 
 import io.learn.lexigeek.word.dto.AutoTranslateForm;
+import io.learn.lexigeek.word.dto.TranslationJobDto;
 
 import java.util.UUID;
 
 public interface AutomaticTranslationFacade {
 
-    void autoTranslate(final UUID languageUuid, final UUID categoryUuid, final AutoTranslateForm form);
+    TranslationJobDto autoTranslate(final UUID languageUuid, final UUID categoryUuid, final AutoTranslateForm form);
+
+    TranslationJobDto getJob(final UUID languageUuid, final UUID categoryUuid, final UUID jobUuid);
+
+    TranslationJobDto cancelJob(final UUID languageUuid, final UUID categoryUuid, final UUID jobUuid);
 }
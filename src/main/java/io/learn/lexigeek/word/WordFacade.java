@@ -4,7 +4,6 @@ import io.learn.lexigeek.common.pageable.PageDto;
 import io.learn.lexigeek.common.pageable.PageableRequest;
 import io.learn.lexigeek.word.dto.*;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,6 +15,8 @@ public interface WordFacade {
 
     WordDto createWord(final UUID languageUuid, final UUID categoryUuid, final WordForm form);
 
+    List<WordDto> createWords(final UUID languageUuid, final UUID categoryUuid, final List<WordForm> forms);
+
     WordDto updateWord(final UUID languageUuid, final UUID categoryUuid, final UUID wordUuid, final WordForm form);
 
     void deleteWord(final UUID languageUuid, final UUID categoryUuid, final UUID wordUuid);
@@ -27,14 +28,4 @@ public interface WordFacade {
     WordDto updateWordCategories(final UUID languageUuid, final UUID wordUuid, final UpdateWordCategoriesForm form);
 
     void resetWordTime(final UUID languageUuid, final UUID categoryUuid);
-
-    List<DateStatItem> getWordCreationStatsByDateAndLanguage(final UUID accountUuid,
-                                                             final LocalDate startDate,
-                                                             final LocalDate endDate,
-                                                             final List<UUID> languageUuids);
-
-    List<WordStatsProjection> getAllWordRepeatStatsByDateAndLanguage(final UUID accountUuid,
-                                                                     final LocalDate startDate,
-                                                                     final LocalDate endDate,
-                                                                     final List<UUID> languageUuids);
 }
@@ -2,6 +2,7 @@ package io.learn.lexigeek.word.controller;
 
 import io.learn.lexigeek.word.AutomaticTranslationFacade;
 import io.learn.lexigeek.word.dto.AutoTranslateForm;
+import io.learn.lexigeek.word.dto.TranslationJobDto;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -17,15 +18,32 @@ class AutomaticTranslationController {
 
     private static final class Routes {
         private static final String AUTO_TRANSLATE = "/languages/{languageUuid}/categories/{categoryUuid}/auto-translate";
+        private static final String AUTO_TRANSLATE_JOB = AUTO_TRANSLATE + "/{jobUuid}";
     }
 
     private final AutomaticTranslationFacade automaticTranslationFacade;
 
     @PostMapping(AutomaticTranslationController.Routes.AUTO_TRANSLATE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    TranslationJobDto autoTranslate(@PathVariable final UUID languageUuid,
+                                    @PathVariable final UUID categoryUuid,
+                                    @RequestBody @Valid final AutoTranslateForm form) {
+        return automaticTranslationFacade.autoTranslate(languageUuid, categoryUuid, form);
+    }
+
+    @GetMapping(AutomaticTranslationController.Routes.AUTO_TRANSLATE_JOB)
+    @ResponseStatus(HttpStatus.OK)
+    TranslationJobDto getJob(@PathVariable final UUID languageUuid,
+                             @PathVariable final UUID categoryUuid,
+                             @PathVariable final UUID jobUuid) {
+        return automaticTranslationFacade.getJob(languageUuid, categoryUuid, jobUuid);
+    }
+
+    @DeleteMapping(AutomaticTranslationController.Routes.AUTO_TRANSLATE_JOB)
     @ResponseStatus(HttpStatus.OK)
-    void autoTranslate(@PathVariable final UUID languageUuid,
-                       @PathVariable final UUID categoryUuid,
-                       @RequestBody @Valid final AutoTranslateForm form) {
-        automaticTranslationFacade.autoTranslate(languageUuid, categoryUuid, form);
+    TranslationJobDto cancelJob(@PathVariable final UUID languageUuid,
+                                @PathVariable final UUID categoryUuid,
+                                @PathVariable final UUID jobUuid) {
+        return automaticTranslationFacade.cancelJob(languageUuid, categoryUuid, jobUuid);
     }
 }
@@ -0,0 +1,54 @@
+package io.learn.lexigeek.word.domain;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+final class AdaptiveRateLimiter {
+
+    private final RateLimiter rateLimiter;
+    private final double maxRate;
+    private final double minRate;
+    private final long recoveryIntervalNanos;
+    private volatile long pausedUntilNanos;
+    private long lastIncreaseNanos = System.nanoTime();
+
+    AdaptiveRateLimiter(final double maxRate, final double minRate, final Duration recoveryInterval) {
+        this.rateLimiter = RateLimiter.create(maxRate);
+        this.maxRate = maxRate;
+        this.minRate = minRate;
+        this.recoveryIntervalNanos = recoveryInterval.toNanos();
+    }
+
+    void acquire() {
+        long pause;
+        while ((pause = pausedUntilNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(pause);
+        }
+        rateLimiter.acquire();
+    }
+
+    synchronized void onSuccess() {
+        final long now = System.nanoTime();
+        final double rate = rateLimiter.getRate();
+        if (rate < maxRate && now - lastIncreaseNanos >= recoveryIntervalNanos) {
+            rateLimiter.setRate(Math.min(maxRate, rate + 1));
+            lastIncreaseNanos = now;
+        }
+    }
+
+    synchronized void onThrottled(final Duration retryAfter) {
+        final long now = System.nanoTime();
+        rateLimiter.setRate(Math.max(minRate, rateLimiter.getRate() / 2));
+        lastIncreaseNanos = now;
+        if (retryAfter != null && !retryAfter.isNegative()) {
+            pausedUntilNanos = Math.max(pausedUntilNanos, now + TimeUnit.MILLISECONDS.toNanos(retryAfter.toMillis()));
+        }
+    }
+
+    double getRate() {
+        return rateLimiter.getRate();
+    }
+}
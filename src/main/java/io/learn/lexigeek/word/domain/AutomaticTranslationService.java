@@ -1,25 +1,28 @@
-
 package io.learn.lexigeek.word.domain;
 
-import com.google.common.util.concurrent.RateLimiter;
+import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.account.dto.AccountDto;
 import io.learn.lexigeek.category.CategoryFacade;
+import io.learn.lexigeek.common.exception.NotFoundException;
+import io.learn.lexigeek.common.utils.DateTimeUtils;
+import io.learn.lexigeek.common.validation.ErrorCodes;
 import io.learn.lexigeek.word.AutomaticTranslationFacade;
-import io.learn.lexigeek.word.WordFacade;
 import io.learn.lexigeek.word.dto.AutoTranslateForm;
 import io.learn.lexigeek.word.dto.SourcePart;
+import io.learn.lexigeek.word.dto.TranslationJobDto;
+import io.learn.lexigeek.word.dto.TranslationJobStatus;
 import io.learn.lexigeek.word.dto.WordForm;
 import io.learn.lexigeek.word.dto.WordPartForm;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 @Service
@@ -28,40 +31,60 @@ import java.util.stream.Stream;
 class AutomaticTranslationService implements AutomaticTranslationFacade {
 
     private final CategoryFacade categoryFacade;
-    private final WordFacade wordFacade;
-    private final TranslationService translationService;
+    private final AccountFacade accountFacade;
+    private final TranslationJobRepository translationJobRepository;
 
     @Override
-    public void autoTranslate(final UUID languageUuid, final UUID categoryUuid, final AutoTranslateForm form) {
+    @Transactional
+    public TranslationJobDto autoTranslate(final UUID languageUuid, final UUID categoryUuid, final AutoTranslateForm form) {
         categoryFacade.verifyCategoryAccess(languageUuid, categoryUuid);
+        final AccountDto account = accountFacade.getLoggedAccount();
+        final LocalDateTime now = DateTimeUtils.timestampUTC();
+
+        final TranslationJob job = new TranslationJob();
+        job.setAccountId(account.id());
+        job.setLanguageUuid(languageUuid);
+        job.setCategoryUuid(categoryUuid);
+        job.setSourceLanguage(form.sourceLanguage());
+        job.setTargetLanguage(form.targetLanguage());
+        job.setSourcePart(form.sourcePart());
+        job.setText(form.text());
+        job.setStatus(TranslationJobStatus.PENDING);
+        job.setTotalWords(splitTextIntoWords(form.text()).size());
+        job.setProcessedWords(0);
+        job.setCreatedWords(0);
+        job.setCreated(now);
+        job.setUpdated(now);
+
+        log.info("Queued translation job {} with {} words", job.getUuid(), job.getTotalWords());
+        return TranslationJobMapper.entityToDto(translationJobRepository.save(job));
+    }
 
-        final List<AutomaticTranslationWord> words = splitTextIntoWords(form.text());
-
-        final RateLimiter rateLimiter = RateLimiter.create(50); // 50 requests / second
-
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            final List<CompletableFuture<AutomaticTranslationWord>> futures =
-                    words.stream()
-                            .map(word -> CompletableFuture.supplyAsync(() -> {
-                                rateLimiter.acquire();
-                                return translate(word, form.sourceLanguage(), form.targetLanguage(), form.sourcePart());
-                            }, executor))
-                            .toList();
-
-            final List<AutomaticTranslationWord> translatedWords =
-                    futures.stream()
-                            .map(CompletableFuture::join)
-                            .filter(word -> word.answer() != null && !word.answer().isEmpty())
-                            .toList();
+    @Override
+    public TranslationJobDto getJob(final UUID languageUuid, final UUID categoryUuid, final UUID jobUuid) {
+        categoryFacade.verifyCategoryAccess(languageUuid, categoryUuid);
+        return TranslationJobMapper.entityToDto(findJob(languageUuid, categoryUuid, jobUuid));
+    }
 
-            log.info("Successfully translated {} out of {} words", translatedWords.size(), words.size());
+    @Override
+    @Transactional
+    public TranslationJobDto cancelJob(final UUID languageUuid, final UUID categoryUuid, final UUID jobUuid) {
+        categoryFacade.verifyCategoryAccess(languageUuid, categoryUuid);
+        final AccountDto account = accountFacade.getLoggedAccount();
+        findJob(languageUuid, categoryUuid, jobUuid);
+        translationJobRepository.requestCancel(jobUuid, account.id(), TranslationJobStatus.PENDING,
+                TranslationJobStatus.RUNNING, TranslationJobStatus.CANCELLED, DateTimeUtils.timestampUTC());
+        return TranslationJobMapper.entityToDto(findJob(languageUuid, categoryUuid, jobUuid));
+    }
 
-            final List<WordForm> wordForms = mapToWordForms(translatedWords);
-            wordForms.forEach(wordForm -> wordFacade.createWord(languageUuid, categoryUuid, wordForm));
-        }
+    private TranslationJob findJob(final UUID languageUuid, final UUID categoryUuid, final UUID jobUuid) {
+        final AccountDto account = accountFacade.getLoggedAccount();
+        return translationJobRepository.findByUuidAndAccountId(jobUuid, account.id())
+                .filter(job -> job.getLanguageUuid().equals(languageUuid) && job.getCategoryUuid().equals(categoryUuid))
+                .orElseThrow(() -> new NotFoundException(ErrorCodes.TRANSLATION_JOB_NOT_FOUND, jobUuid));
     }
 
-    private List<AutomaticTranslationWord> splitTextIntoWords(final String text) {
+    static List<AutomaticTranslationWord> splitTextIntoWords(final String text) {
         return Arrays.stream(text.split("\\s+"))
                 .map(word -> word.replaceAll("[^a-zA-Z0-9]", ""))
                 .filter(word -> !word.isEmpty())
@@ -70,7 +93,7 @@ class AutomaticTranslationService implements AutomaticTranslationFacade {
                 .toList();
     }
 
-    private List<WordForm> mapToWordForms(final List<AutomaticTranslationWord> translatedWords) {
+    static List<WordForm> mapToWordForms(final List<AutomaticTranslationWord> translatedWords) {
         return translatedWords.stream()
                 .map(tw -> {
                     final List<WordPartForm> wordParts =
@@ -84,8 +107,9 @@ class AutomaticTranslationService implements AutomaticTranslationFacade {
                 .toList();
     }
 
-    private AutomaticTranslationWord translate(final AutomaticTranslationWord word, final String sourceLanguage,
-                                               final String targetLanguage, final SourcePart sourcePart) {
+    static AutomaticTranslationWord translate(final TranslationService translationService,
+                                              final AutomaticTranslationWord word, final String sourceLanguage,
+                                              final String targetLanguage, final SourcePart sourcePart) {
         final String originalWord = word.question();
         final String translatedWord = translationService.translate(originalWord, sourceLanguage, targetLanguage);
 
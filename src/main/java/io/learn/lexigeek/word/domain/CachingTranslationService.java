@@ -0,0 +1,119 @@
+package io.learn.lexigeek.word.domain;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+
+@Slf4j
+@Service
+class CachingTranslationService implements TranslationService {
+
+    private static final String CACHE_NAME = "translations";
+    private static final int MAX_TEXT_LENGTH = 500;
+    private static final int MAX_TRANSLATION_LENGTH = 1000;
+
+    private final MyMemoryTranslationService delegate;
+    private final TranslationCacheRepository translationCacheRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Key, String> cache;
+    private final Duration ttl;
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+
+    CachingTranslationService(final MyMemoryTranslationService delegate,
+                              final TranslationCacheRepository translationCacheRepository,
+                              final PlatformTransactionManager transactionManager,
+                              final MeterRegistry meterRegistry,
+                              @Value("${lexigeek.translation.cache.maximum-size:50000}") final long maximumSize,
+                              @Value("${lexigeek.translation.cache.ttl:P30D}") final Duration ttl) {
+        this.delegate = delegate;
+        this.translationCacheRepository = translationCacheRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.memoryHits = lookups(meterRegistry, "memory");
+        this.databaseHits = lookups(meterRegistry, "database");
+        this.misses = lookups(meterRegistry, "miss");
+    }
+
+    @Override
+    public String translate(final String text, final String sourceLanguage, final String targetLanguage) {
+        final Key key = new Key(text, normalize(sourceLanguage), normalize(targetLanguage));
+
+        final String cached = cache.getIfPresent(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return cached;
+        }
+
+        final Optional<String> stored = translationCacheRepository.findTranslation(key.text(), key.sourceLanguage(),
+                key.targetLanguage(), LocalDateTime.now().minus(ttl));
+        if (stored.isPresent()) {
+            databaseHits.increment();
+            cache.put(key, stored.get());
+            return stored.get();
+        }
+
+        misses.increment();
+        final String translated = delegate.translate(text, sourceLanguage, targetLanguage);
+        if (translated != null && !translated.isEmpty()) {
+            cache.put(key, translated);
+            store(key, translated);
+        }
+        return translated;
+    }
+
+    @Scheduled(fixedDelayString = "${lexigeek.translation.cache.cleanup-interval:PT1H}")
+    public void deleteExpired() {
+        final Integer deleted = transactionTemplate.execute(status ->
+                translationCacheRepository.deleteByCreatedBefore(LocalDateTime.now().minus(ttl)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} expired translations", deleted);
+        }
+    }
+
+    private void store(final Key key, final String translated) {
+        if (key.text().length() > MAX_TEXT_LENGTH || translated.length() > MAX_TRANSLATION_LENGTH) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> translationCacheRepository.upsert(key.text(),
+                    key.sourceLanguage(), key.targetLanguage(), translated, LocalDateTime.now()));
+        } catch (final Exception e) {
+            log.warn("Could not store translation of '{}': {}", key.text(), e.getMessage());
+        }
+    }
+
+    private static Counter lookups(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("lexigeek.translation.lookups")
+                .description("Translation lookups by the level that answered them")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String normalize(final String language) {
+        return language.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(String text, String sourceLanguage, String targetLanguage) {
+    }
+}
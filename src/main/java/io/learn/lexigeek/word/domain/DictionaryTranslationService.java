@@ -0,0 +1,92 @@
+package io.learn.lexigeek.word.domain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Primary
+class DictionaryTranslationService implements TranslationService {
+
+    private static final String SOURCE_SUFFIX = ".tsv";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final TranslationService fallback;
+    private final Map<String, OfflineDictionary> dictionaries;
+    private final Counter hits;
+
+    DictionaryTranslationService(final CachingTranslationService fallback,
+                                 final MeterRegistry meterRegistry,
+                                 @Value("${lexigeek.translation.dictionary.directory:}") final String directory,
+                                 @Value("${lexigeek.translation.dictionary.pairs:}") final String pairs) {
+        this.fallback = fallback;
+        this.dictionaries = directory.isBlank() ? Map.of() : load(Path.of(directory), parsePairs(pairs));
+        this.hits = Counter.builder("lexigeek.translation.lookups")
+                .description("Translation lookups by the level that answered them")
+                .tag("result", "dictionary")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String translate(final String text, final String sourceLanguage, final String targetLanguage) {
+        final OfflineDictionary dictionary = dictionaries.get(pair(sourceLanguage, targetLanguage));
+        if (dictionary != null) {
+            final String translated = dictionary.lookup(text);
+            if (translated != null) {
+                hits.increment();
+                return translated;
+            }
+        }
+        return fallback.translate(text, sourceLanguage, targetLanguage);
+    }
+
+    static Map<String, OfflineDictionary> load(final Path directory, final Set<String> enabledPairs) {
+        final Map<String, OfflineDictionary> loaded = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SOURCE_SUFFIX)) {
+            for (final Path tsv : files) {
+                final String name = tsv.getFileName().toString();
+                final String pair = name.substring(0, name.length() - SOURCE_SUFFIX.length()).toLowerCase(Locale.ROOT);
+                if (!enabledPairs.isEmpty() && !enabledPairs.contains(pair)) {
+                    continue;
+                }
+                final Path index = directory.resolve(pair + INDEX_SUFFIX);
+                if (!Files.exists(index) || Files.getLastModifiedTime(index).compareTo(Files.getLastModifiedTime(tsv)) < 0) {
+                    OfflineDictionary.build(tsv, index);
+                }
+                final OfflineDictionary dictionary = OfflineDictionary.open(index);
+                loaded.put(pair, dictionary);
+                log.info("Loaded offline dictionary {} with {} entries", pair, dictionary.size());
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not load offline dictionaries from " + directory, e);
+        }
+        return Map.copyOf(loaded);
+    }
+
+    private static Set<String> parsePairs(final String pairs) {
+        return Arrays.stream(pairs.split(","))
+                .map(pair -> pair.trim().toLowerCase(Locale.ROOT))
+                .filter(pair -> !pair.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private static String pair(final String sourceLanguage, final String targetLanguage) {
+        return (sourceLanguage.trim() + "-" + targetLanguage.trim()).toLowerCase(Locale.ROOT);
+    }
+}
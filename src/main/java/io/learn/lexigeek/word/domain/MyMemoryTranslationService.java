@@ -1,56 +1,83 @@
 package io.learn.lexigeek.word.domain;
 
-import lombok.RequiredArgsConstructor;
+import io.learn.lexigeek.common.exception.ServiceUnavailableException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 class MyMemoryTranslationService implements TranslationService {
 
-    private static final String API_URL = "https://api.mymemory.translated.net/get";
+    private static final int HTTP_OK = 200;
 
-    private final RestTemplate restTemplate;
+    private final TranslationGateway translationGateway;
+    private final JsonMapper jsonMapper;
+    private final String apiUrl;
+
+    MyMemoryTranslationService(final TranslationGateway translationGateway,
+                               final JsonMapper jsonMapper,
+                               @Value("${lexigeek.translation.provider.url:https://api.mymemory.translated.net/get}") final String apiUrl) {
+        this.translationGateway = translationGateway;
+        this.jsonMapper = jsonMapper;
+        this.apiUrl = apiUrl;
+    }
 
     @Override
-    @SuppressWarnings("unchecked")
     public String translate(final String text, final String sourceLanguage, final String targetLanguage) {
         try {
             final String encodedText = URLEncoder.encode(text, StandardCharsets.UTF_8);
-            final String langPair = sourceLanguage + "|" + targetLanguage;
-
-            final String url = String.format("%s?q=%s&langpair=%s", API_URL, encodedText, langPair);
+            final String langPair = URLEncoder.encode(sourceLanguage + "|" + targetLanguage, StandardCharsets.UTF_8);
 
-            final ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
+            final URI uri = URI.create(String.format("%s?q=%s&langpair=%s", apiUrl, encodedText, langPair));
 
-            final Map<String, Object> body = response.getBody();
-            if (body == null) {
+            final String body = join(translationGateway.get(uri));
+            if (body == null || body.isBlank()) {
                 log.warn("Translation failed for '{}': empty response body", text);
                 return null;
             }
 
-            final Map<String, Object> responseData =
-                    (Map<String, Object>) body.get("responseData");
+            final JsonNode response = jsonMapper.readTree(body);
+            final int responseStatus = response.path("responseStatus").asInt(0);
+            if (responseStatus != HTTP_OK) {
+                log.warn("Translation failed for '{}': provider responded with status {} ({})", text, responseStatus,
+                        response.path("responseDetails").asString(""));
+                return null;
+            }
 
-            final String translatedText =
-                    responseData != null ? (String) responseData.get("translatedText") : null;
+            final JsonNode translatedText = response.path("responseData").path("translatedText");
 
-            if (translatedText == null) {
+            if (!translatedText.isString()) {
                 log.warn("Translation failed for '{}': no translated text in response", text);
+                return null;
             }
 
-            return translatedText;
+            return translatedText.asString();
 
+        } catch (final ServiceUnavailableException e) {
+            throw e;
         } catch (final Exception e) {
             log.error("Error translating '{}': {}", text, e.getMessage());
             return null;
         }
     }
+
+    private static String join(final CompletableFuture<String> response) {
+        try {
+            return response.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof ServiceUnavailableException unavailable) {
+                throw unavailable;
+            }
+            throw e;
+        }
+    }
 }
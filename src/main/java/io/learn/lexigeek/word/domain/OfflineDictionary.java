@@ -0,0 +1,123 @@
+package io.learn.lexigeek.word.domain;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+final class OfflineDictionary {
+
+    private static final int MAGIC = 0x4C474431;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int MAX_LENGTH = 0xFFFF;
+
+    private final MappedByteBuffer buffer;
+    private final int size;
+
+    private OfflineDictionary(final MappedByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a dictionary index");
+        }
+        this.buffer = buffer;
+        this.size = buffer.getInt(Integer.BYTES);
+    }
+
+    static OfflineDictionary open(final Path index) throws IOException {
+        try (FileChannel channel = FileChannel.open(index, StandardOpenOption.READ)) {
+            return new OfflineDictionary(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    static void build(final Path tsv, final Path index) throws IOException {
+        final Map<byte[], byte[]> entries = new TreeMap<>(Arrays::compareUnsigned);
+        try (BufferedReader reader = Files.newBufferedReader(tsv, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int tab = line.indexOf('\t');
+                if (tab <= 0) {
+                    continue;
+                }
+                final byte[] key = normalize(line.substring(0, tab)).getBytes(StandardCharsets.UTF_8);
+                final byte[] value = line.substring(tab + 1).trim().getBytes(StandardCharsets.UTF_8);
+                if (key.length == 0 || value.length == 0 || key.length > MAX_LENGTH || value.length > MAX_LENGTH) {
+                    continue;
+                }
+                entries.putIfAbsent(key, value);
+            }
+        }
+
+        final Path temporary = Files.createTempFile(index.toAbsolutePath().getParent(), index.getFileName().toString(), ".tmp");
+        try (OutputStream file = Files.newOutputStream(temporary);
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file))) {
+            output.writeInt(MAGIC);
+            output.writeInt(entries.size());
+            int position = HEADER_SIZE + entries.size() * Integer.BYTES;
+            for (final Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+                output.writeInt(position);
+                position += 2 * Short.BYTES + entry.getKey().length + entry.getValue().length;
+            }
+            for (final Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+                output.writeShort(entry.getKey().length);
+                output.write(entry.getKey());
+                output.writeShort(entry.getValue().length);
+                output.write(entry.getValue());
+            }
+        }
+        Files.move(temporary, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    String lookup(final String text) {
+        final byte[] key = normalize(text).getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int entry = buffer.getInt(HEADER_SIZE + middle * Integer.BYTES);
+            final int comparison = compare(entry, key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                final int valueOffset = entry + Short.BYTES + Short.toUnsignedInt(buffer.getShort(entry));
+                final byte[] value = new byte[Short.toUnsignedInt(buffer.getShort(valueOffset))];
+                buffer.get(valueOffset + Short.BYTES, value);
+                return new String(value, StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int compare(final int entry, final byte[] key) {
+        final int length = Short.toUnsignedInt(buffer.getShort(entry));
+        final int start = entry + Short.BYTES;
+        final int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            final int difference = Byte.toUnsignedInt(buffer.get(start + i)) - Byte.toUnsignedInt(key[i]);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - key.length;
+    }
+
+    private static String normalize(final String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -45,6 +46,13 @@ class RepeatSession extends AbstractUuidEntity {
     )
     private List<Word> wordQueue = new ArrayList<>();
 
+    @Column(name = "words_left")
+    private Integer wordsLeft;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "created", nullable = false)
     private LocalDateTime created = LocalDateTime.now();
 }
@@ -0,0 +1,68 @@
+package io.learn.lexigeek.word.domain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Service
+@Slf4j
+class RepeatSessionConsistencyService {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final RepeatSessionRepository repeatSessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    RepeatSessionConsistencyService(final RepeatSessionRepository repeatSessionRepository,
+                                    final PlatformTransactionManager transactionManager) {
+        this.repeatSessionRepository = repeatSessionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void verifyWordsLeftCounters() {
+        long verified = 0;
+        long rebuilt = 0;
+        ChunkResult chunk = new ChunkResult(0, 0L, 0);
+        do {
+            final Long afterId = chunk.lastId();
+            chunk = transactionTemplate.execute(status -> verifyChunk(afterId));
+            verified += chunk.size();
+            rebuilt += chunk.rebuilt();
+        } while (chunk.size() == CHUNK_SIZE);
+        log.info("Verified words left counters for {} repeat sessions, rebuilt {}", verified, rebuilt);
+    }
+
+    private ChunkResult verifyChunk(final Long afterId) {
+        final List<RepeatSession> sessions = repeatSessionRepository.findByIdGreaterThanOrderById(afterId,
+                PageRequest.of(0, CHUNK_SIZE));
+        if (sessions.isEmpty()) {
+            return new ChunkResult(0, afterId, 0);
+        }
+        final int rebuilt = (int) sessions.stream()
+                .filter(this::rebuildWordsLeft)
+                .count();
+        return new ChunkResult(sessions.size(), sessions.getLast().getId(), rebuilt);
+    }
+
+    boolean rebuildWordsLeft(final RepeatSession session) {
+        final int expectedWordsLeft = RepeatSessionCounter.calculateWordsLeft(session);
+        if (session.getWordsLeft() != null && session.getWordsLeft() == expectedWordsLeft) {
+            return false;
+        }
+
+        log.warn("Words left counter of repeat session {} drifted: stored {}, expected {}",
+                session.getUuid(), session.getWordsLeft(), expectedWordsLeft);
+        session.setWordsLeft(expectedWordsLeft);
+        repeatSessionRepository.save(session);
+        return true;
+    }
+
+    private record ChunkResult(int size, Long lastId, int rebuilt) {
+    }
+}
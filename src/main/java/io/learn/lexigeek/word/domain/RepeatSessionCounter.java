@@ -0,0 +1,44 @@
+package io.learn.lexigeek.word.domain;
+
+import io.learn.lexigeek.category.domain.CategoryMethod;
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDateTime;
+
+@UtilityClass
+class RepeatSessionCounter {
+
+    int calculateWordsLeft(final RepeatSession session) {
+        int totalWordsLeft = 0;
+
+        for (final Word word : session.getWordQueue()) {
+            totalWordsLeft += calculateWordSlotsRemaining(word, session.getMethod());
+        }
+
+        return totalWordsLeft;
+    }
+
+    int calculateWordSlotsRemaining(final Word word, final CategoryMethod sessionMethod) {
+        final LocalDateTime resetTime = word.getResetTime();
+
+        final long correctStatsAfterReset = word.getWordStats().stream()
+                .filter(stat -> stat.getCorrect() && stat.getAnswerTime().isAfter(resetTime))
+                .count();
+
+        if (sessionMethod == CategoryMethod.BOTH && word.getCategoryMethod() == CategoryMethod.BOTH) {
+            if (correctStatsAfterReset == 0) {
+                return 2;
+            } else if (correctStatsAfterReset == 1) {
+                return 1;
+            } else {
+                return 0;
+            }
+        }
+
+        if (correctStatsAfterReset == 0) {
+            return 1;
+        } else {
+            return 0;
+        }
+    }
+}
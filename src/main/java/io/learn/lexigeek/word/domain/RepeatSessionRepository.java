@@ -1,9 +1,11 @@
 package io.learn.lexigeek.word.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,6 +19,8 @@ interface RepeatSessionRepository extends JpaRepository<RepeatSession, Long> {
 
     @Query("SELECT COUNT(rs) > 0 FROM RepeatSession rs WHERE rs.language.uuid = :languageUuid")
     boolean existsByLanguageUuid(@Param("languageUuid") UUID languageUuid);
+
+    List<RepeatSession> findByIdGreaterThanOrderById(Long id, Pageable pageable);
 }
 
 
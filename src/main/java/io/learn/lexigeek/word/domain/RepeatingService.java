@@ -2,21 +2,22 @@ package io.learn.lexigeek.word.domain;
 
 import io.learn.lexigeek.account.AccountFacade;
 import io.learn.lexigeek.account.dto.AccountDto;
-import io.learn.lexigeek.activity.ActivityFacade;
-import io.learn.lexigeek.activity.domain.ActivityType;
-import io.learn.lexigeek.activity.dto.ActivityForm;
 import io.learn.lexigeek.category.domain.CategoryMethod;
 import io.learn.lexigeek.category.domain.CategoryMode;
 import io.learn.lexigeek.common.exception.AlreadyExistsException;
 import io.learn.lexigeek.common.exception.NotFoundException;
+import io.learn.lexigeek.common.transaction.OptimisticLockRetryExecutor;
 import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.learn.lexigeek.event.EventFacade;
+import io.learn.lexigeek.event.dto.SessionFinishedEvent;
+import io.learn.lexigeek.event.dto.WordAnsweredEvent;
 import io.learn.lexigeek.language.LanguageFacade;
-import io.learn.lexigeek.task.TaskFacade;
 import io.learn.lexigeek.task.dto.TaskType;
 import io.learn.lexigeek.word.RepeatingFacade;
 import io.learn.lexigeek.word.dto.*;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,9 +34,9 @@ class RepeatingService implements RepeatingFacade {
     private final CategoryRepository categoryRepository;
     private final WordRepository wordRepository;
     private final LanguageFacade languageFacade;
-    private final TaskFacade taskFacade;
-    private final ActivityFacade activityFacade;
+    private final EventFacade eventFacade;
     private final AccountFacade accountFacade;
+    private final OptimisticLockRetryExecutor optimisticLockRetryExecutor;
 
     @Override
     @Transactional
@@ -81,9 +82,17 @@ class RepeatingService implements RepeatingFacade {
         session.setMethod(form.method());
         session.setWordQueue(new ArrayList<>(words));
 
-        final RepeatSession savedSession = repeatSessionRepository.save(session);
+        final int wordsLeft = RepeatSessionCounter.calculateWordsLeft(session);
+        session.setWordsLeft(wordsLeft);
 
-        return RepeatMapper.sessionToDto(savedSession, calculateWordsLeftInSession(savedSession));
+        final RepeatSession savedSession;
+        try {
+            savedSession = repeatSessionRepository.saveAndFlush(session);
+        } catch (final DataIntegrityViolationException e) {
+            throw new AlreadyExistsException(ErrorCodes.REPEAT_SESSION_ALREADY_EXISTS, languageUuid);
+        }
+
+        return RepeatMapper.sessionToDto(savedSession, wordsLeft);
     }
 
     @Override
@@ -94,9 +103,7 @@ class RepeatingService implements RepeatingFacade {
         final RepeatSession session = repeatSessionRepository.findByLanguageUuid(languageUuid)
                 .orElseThrow(() -> new NotFoundException(ErrorCodes.REPEAT_SESSION_NOT_FOUND, languageUuid));
 
-        final int wordsLeft = calculateWordsLeftInSession(session);
-
-        return RepeatMapper.sessionToDto(session, wordsLeft);
+        return RepeatMapper.sessionToDto(session, resolveWordsLeft(session));
     }
 
     @Override
@@ -126,8 +133,11 @@ class RepeatingService implements RepeatingFacade {
     }
 
     @Override
-    @Transactional
     public CheckAnswerResultDto checkAnswer(final UUID languageUuid, final UUID wordUuid, final CheckAnswerForm form) {
+        return optimisticLockRetryExecutor.execute(() -> checkAnswerInTransaction(languageUuid, wordUuid, form));
+    }
+
+    private CheckAnswerResultDto checkAnswerInTransaction(final UUID languageUuid, final UUID wordUuid, final CheckAnswerForm form) {
         languageFacade.verifyLanguageOwnership(languageUuid);
 
         final RepeatSession session = repeatSessionRepository.findByLanguageUuid(languageUuid)
@@ -139,8 +149,12 @@ class RepeatingService implements RepeatingFacade {
                 .findFirst()
                 .orElseThrow(() -> new NotFoundException(ErrorCodes.WORD_NOT_IN_SESSION, wordUuid));
 
+        final int wordsLeftBeforeAnswer = resolveWordsLeft(session);
+        final int wordSlotsBeforeAnswer = RepeatSessionCounter.calculateWordSlotsRemaining(word, session.getMethod());
+
         final CheckAnswerResult answerResult = checkAnswers(word, form);
         final boolean correct = answerResult.correct();
+        final AccountDto account = accountFacade.getLoggedAccount();
 
         final WordStats wordStats = new WordStats();
         wordStats.setCorrect(correct);
@@ -148,14 +162,13 @@ class RepeatingService implements RepeatingFacade {
         wordStats.setAnswerTime(LocalDateTime.now());
         word.addWordStats(wordStats);
 
-        if (correct) {
-            final CategoryMode categoryMode = word.getCategories().stream().findFirst().orElseThrow().getMode();
-            final TaskType taskType = categoryMode == CategoryMode.DICTIONARY
-                    ? TaskType.REPEAT_DICTIONARY
-                    : TaskType.REPEAT_EXERCISE;
-
-            taskFacade.fillTask(taskType, languageUuid, 1);
+        final CategoryMode categoryMode = word.getCategories().stream().findFirst().orElseThrow().getMode();
+        final TaskType taskType = categoryMode == CategoryMode.DICTIONARY
+                ? TaskType.REPEAT_DICTIONARY
+                : TaskType.REPEAT_EXERCISE;
+        eventFacade.publish(new WordAnsweredEvent(account.id(), languageUuid, taskType, correct));
 
+        if (correct) {
             if (shouldRemoveWordFromQueue(word, session.getMethod())) {
                 final List<Word> updatedQueue = new ArrayList<>(session.getWordQueue());
                 updatedQueue.removeIf(w -> w.getUuid().equals(wordUuid));
@@ -165,18 +178,22 @@ class RepeatingService implements RepeatingFacade {
 
         wordRepository.save(word);
 
-        final int wordsLeft = calculateWordsLeftInSession(session);
+        final int consumedSlots = wordSlotsBeforeAnswer
+                - RepeatSessionCounter.calculateWordSlotsRemaining(word, session.getMethod());
+        final int wordsLeft = Math.max(0, wordsLeftBeforeAnswer - consumedSlots);
+        session.setWordsLeft(wordsLeft);
+
         final boolean sessionActive = wordsLeft > 0;
 
         if (sessionActive) {
-            repeatSessionRepository.save(session);
+            repeatSessionRepository.saveAndFlush(session);
         } else {
             repeatSessionRepository.delete(session);
+            repeatSessionRepository.flush();
 
-            final AccountDto account = accountFacade.getLoggedAccount();
             final Language language = languageRepository.findByUuid(languageUuid)
                     .orElseThrow(() -> new NotFoundException(ErrorCodes.LANGUAGE_NOT_FOUND, languageUuid));
-            activityFacade.addActivity(account.id(), new ActivityForm(ActivityType.REPEATING_FINISHED, language.getName(), null, null));
+            eventFacade.publish(new SessionFinishedEvent(account.id(), languageUuid, language.getName()));
         }
 
         return new CheckAnswerResultDto(correct, wordsLeft, sessionActive, answerResult.answerDetails());
@@ -196,46 +213,12 @@ class RepeatingService implements RepeatingFacade {
         repeatSessionRepository.delete(session);
     }
 
-    private int calculateWordsLeftInSession(final RepeatSession session) {
-        int totalWordsLeft = 0;
-
-        for (final Word word : session.getWordQueue()) {
-            totalWordsLeft += calculateWordSlotsRemaining(word, session.getMethod());
+    private int resolveWordsLeft(final RepeatSession session) {
+        if (session.getWordsLeft() == null) {
+            session.setWordsLeft(RepeatSessionCounter.calculateWordsLeft(session));
         }
 
-        return totalWordsLeft;
-    }
-
-    private int calculateWordSlotsRemaining(final Word word, final CategoryMethod sessionMethod) {
-        final LocalDateTime resetTime = word.getResetTime();
-
-        final long correctStatsAfterReset = word.getWordStats().stream()
-                .filter(stat -> stat.getCorrect() && stat.getAnswerTime().isAfter(resetTime))
-                .count();
-
-        if (sessionMethod == CategoryMethod.BOTH && word.getCategoryMethod() == CategoryMethod.BOTH) {
-            if (correctStatsAfterReset == 0) {
-                return 2;
-            } else if (correctStatsAfterReset == 1) {
-                return 1;
-            } else {
-                return 0;
-            }
-        }
-
-        if (sessionMethod == CategoryMethod.BOTH && word.getCategoryMethod() != CategoryMethod.BOTH) {
-            if (correctStatsAfterReset == 0) {
-                return 1;
-            } else {
-                return 0;
-            }
-        }
-
-        if (correctStatsAfterReset == 0) {
-            return 1;
-        } else {
-            return 0;
-        }
+        return session.getWordsLeft();
     }
 
     private boolean shouldRemoveWordFromQueue(final Word word, final CategoryMethod sessionMethod) {
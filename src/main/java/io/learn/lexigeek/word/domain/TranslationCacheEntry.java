@@ -0,0 +1,36 @@
+package io.learn.lexigeek.word.domain;
+
+import io.learn.lexigeek.common.entity.AbstractEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldNameConstants;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "translation_cache")
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Setter
+@Getter
+@FieldNameConstants
+class TranslationCacheEntry extends AbstractEntity {
+
+    @Column(name = "source_text", nullable = false, length = 500)
+    private String sourceText;
+
+    @Column(name = "source_language", nullable = false, length = 20)
+    private String sourceLanguage;
+
+    @Column(name = "target_language", nullable = false, length = 20)
+    private String targetLanguage;
+
+    @Column(name = "translated_text", nullable = false, length = 1000)
+    private String translatedText;
+
+    @Column(name = "created", nullable = false)
+    private LocalDateTime created;
+}
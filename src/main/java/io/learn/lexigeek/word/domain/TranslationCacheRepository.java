@@ -0,0 +1,44 @@
+package io.learn.lexigeek.word.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+interface TranslationCacheRepository extends JpaRepository<TranslationCacheEntry, Long> {
+
+    @Query("""
+            SELECT t.translatedText FROM TranslationCacheEntry t
+            WHERE t.sourceText = :sourceText
+                AND t.sourceLanguage = :sourceLanguage
+                AND t.targetLanguage = :targetLanguage
+                AND t.created > :createdAfter
+            """)
+    Optional<String> findTranslation(@Param("sourceText") final String sourceText,
+                                     @Param("sourceLanguage") final String sourceLanguage,
+                                     @Param("targetLanguage") final String targetLanguage,
+                                     @Param("createdAfter") final LocalDateTime createdAfter);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO translation_cache (source_text, source_language, target_language, translated_text, created)
+            VALUES (:sourceText, :sourceLanguage, :targetLanguage, :translatedText, :created)
+            ON CONFLICT (source_text, source_language, target_language)
+            DO UPDATE SET translated_text = EXCLUDED.translated_text,
+                          created = EXCLUDED.created
+            """, nativeQuery = true)
+    void upsert(@Param("sourceText") final String sourceText,
+                @Param("sourceLanguage") final String sourceLanguage,
+                @Param("targetLanguage") final String targetLanguage,
+                @Param("translatedText") final String translatedText,
+                @Param("created") final LocalDateTime created);
+
+    @Modifying
+    @Query("DELETE FROM TranslationCacheEntry t WHERE t.created < :created")
+    int deleteByCreatedBefore(@Param("created") final LocalDateTime created);
+}
@@ -0,0 +1,146 @@
+package io.learn.lexigeek.word.domain;
+
+import io.learn.lexigeek.common.exception.ServiceUnavailableException;
+import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+class TranslationGateway {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration requestTimeout;
+    private final Timer successTimer;
+    private final Timer throttledTimer;
+    private final Timer errorTimer;
+    private final Timer rejectedTimer;
+
+    TranslationGateway(final MeterRegistry meterRegistry,
+                       @Value("${lexigeek.translation.provider.connect-timeout:PT2S}") final Duration connectTimeout,
+                       @Value("${lexigeek.translation.provider.request-timeout:PT5S}") final Duration requestTimeout,
+                       @Value("${lexigeek.translation.provider.max-rate:50}") final double maxRate,
+                       @Value("${lexigeek.translation.provider.min-rate:1}") final double minRate,
+                       @Value("${lexigeek.translation.provider.recovery-interval:PT1S}") final Duration recoveryInterval,
+                       @Value("${lexigeek.translation.provider.failure-threshold:5}") final int failureThreshold,
+                       @Value("${lexigeek.translation.provider.open-duration:PT30S}") final Duration openDuration) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+        this.rateLimiter = new AdaptiveRateLimiter(maxRate, minRate, recoveryInterval);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+        this.requestTimeout = requestTimeout;
+        this.successTimer = outcomeTimer(meterRegistry, "success");
+        this.throttledTimer = outcomeTimer(meterRegistry, "throttled");
+        this.errorTimer = outcomeTimer(meterRegistry, "error");
+        this.rejectedTimer = outcomeTimer(meterRegistry, "rejected");
+        Gauge.builder("lexigeek.translation.provider.rate", rateLimiter, AdaptiveRateLimiter::getRate)
+                .description("Current outbound request rate allowed towards the translation provider")
+                .register(meterRegistry);
+        Gauge.builder("lexigeek.translation.provider.circuit", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Translation provider circuit state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Throttled requests are retried here once the lowered rate and any Retry-After pause allow it. They count
+     * as circuit failures, so persistent throttling ends in an open circuit and a ServiceUnavailableException.
+     */
+    CompletableFuture<String> get(final URI uri) {
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedTimer.record(Duration.ZERO);
+            return CompletableFuture.failedFuture(
+                    new ServiceUnavailableException(ErrorCodes.EXTERNAL_SERVICE_ERROR, uri.getHost()));
+        }
+        rateLimiter.acquire();
+
+        final HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        final long start = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    final long elapsed = System.nanoTime() - start;
+                    if (error != null) {
+                        circuitBreaker.onFailure();
+                        errorTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                        throw new ServiceUnavailableException(ErrorCodes.EXTERNAL_SERVICE_ERROR, error, uri.getHost());
+                    }
+                    if (response.statusCode() == TOO_MANY_REQUESTS) {
+                        circuitBreaker.onFailure();
+                        rateLimiter.onThrottled(retryAfter(response));
+                        throttledTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                        log.warn("Translation provider throttled requests, retrying at {}/s", rateLimiter.getRate());
+                        return CompletableFuture.supplyAsync(() -> get(uri), executor).thenCompose(Function.identity());
+                    }
+                    if (response.statusCode() >= 500) {
+                        circuitBreaker.onFailure();
+                        errorTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                        throw new ServiceUnavailableException(ErrorCodes.EXTERNAL_SERVICE_ERROR, uri.getHost());
+                    }
+                    circuitBreaker.onSuccess();
+                    rateLimiter.onSuccess();
+                    successTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    return CompletableFuture.completedFuture(response.body());
+                })
+                .thenCompose(Function.identity());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        httpClient.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    double getRate() {
+        return rateLimiter.getRate();
+    }
+
+    CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private static Timer outcomeTimer(final MeterRegistry meterRegistry, final String outcome) {
+        return Timer.builder("lexigeek.translation.provider.requests")
+                .description("Requests sent to the translation provider")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Duration retryAfter(final HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return Duration.ofSeconds(Long.parseLong(value.trim()));
+                    } catch (final NumberFormatException e) {
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+}
@@ -0,0 +1,75 @@
+package io.learn.lexigeek.word.domain;
+
+import io.learn.lexigeek.common.entity.AbstractUuidEntity;
+import io.learn.lexigeek.word.dto.SourcePart;
+import io.learn.lexigeek.word.dto.TranslationJobStatus;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldNameConstants;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "translation_jobs")
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Setter
+@Getter
+@FieldNameConstants
+class TranslationJob extends AbstractUuidEntity {
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "language_uuid", nullable = false)
+    private UUID languageUuid;
+
+    @Column(name = "category_uuid", nullable = false)
+    private UUID categoryUuid;
+
+    @Column(name = "source_language", nullable = false, length = 20)
+    private String sourceLanguage;
+
+    @Column(name = "target_language", nullable = false, length = 20)
+    private String targetLanguage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_part", nullable = false, length = 20)
+    private SourcePart sourcePart;
+
+    @Column(name = "text", nullable = false, columnDefinition = "TEXT")
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private TranslationJobStatus status;
+
+    @Column(name = "total_words", nullable = false)
+    private Integer totalWords;
+
+    @Column(name = "processed_words", nullable = false)
+    private Integer processedWords;
+
+    @Column(name = "created_words", nullable = false)
+    private Integer createdWords;
+
+    @Column(name = "cancel_requested", nullable = false)
+    private boolean cancelRequested;
+
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "error", length = 500)
+    private String error;
+
+    @Column(name = "created", nullable = false)
+    private LocalDateTime created;
+
+    @Column(name = "updated", nullable = false)
+    private LocalDateTime updated;
+}
@@ -0,0 +1,21 @@
+package io.learn.lexigeek.word.domain;
+
+import io.learn.lexigeek.word.dto.TranslationJobDto;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+class TranslationJobMapper {
+
+    TranslationJobDto entityToDto(final TranslationJob job) {
+        return new TranslationJobDto(
+                job.getUuid(),
+                job.getStatus(),
+                job.getTotalWords(),
+                job.getProcessedWords(),
+                job.getCreatedWords(),
+                job.getError(),
+                job.getCreated(),
+                job.getUpdated()
+        );
+    }
+}
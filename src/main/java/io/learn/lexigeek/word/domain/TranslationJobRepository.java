@@ -0,0 +1,113 @@
+package io.learn.lexigeek.word.domain;
+
+import io.learn.lexigeek.word.dto.TranslationJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+interface TranslationJobRepository extends JpaRepository<TranslationJob, Long> {
+
+    Optional<TranslationJob> findByUuidAndAccountId(final UUID uuid, final Long accountId);
+
+    @Query(value = """
+            SELECT id FROM translation_jobs
+            WHERE status IN ('PENDING', 'RUNNING')
+              AND (lease_until IS NULL OR lease_until < :now)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> findClaimableJobIds(@Param("now") final LocalDateTime now,
+                                   @Param("limit") final int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE TranslationJob j
+            SET j.status = :running, j.leaseOwner = :leaseOwner, j.leaseUntil = :leaseUntil, j.updated = :now
+            WHERE j.id IN :ids
+            """)
+    int leaseJobs(@Param("ids") final List<Long> ids,
+                  @Param("leaseOwner") final String leaseOwner,
+                  @Param("leaseUntil") final LocalDateTime leaseUntil,
+                  @Param("running") final TranslationJobStatus running,
+                  @Param("now") final LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE TranslationJob j
+            SET j.processedWords = :processedWords,
+                j.createdWords = j.createdWords + :createdWords,
+                j.leaseUntil = :leaseUntil,
+                j.updated = :now
+            WHERE j.id = :id AND j.leaseOwner = :leaseOwner AND j.status = :running
+              AND j.processedWords = :expectedProcessed
+            """)
+    int advance(@Param("id") final Long id,
+                @Param("leaseOwner") final String leaseOwner,
+                @Param("expectedProcessed") final int expectedProcessed,
+                @Param("processedWords") final int processedWords,
+                @Param("createdWords") final int createdWords,
+                @Param("leaseUntil") final LocalDateTime leaseUntil,
+                @Param("running") final TranslationJobStatus running,
+                @Param("now") final LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE TranslationJob j
+            SET j.leaseUntil = :leaseUntil
+            WHERE j.id = :id AND j.leaseOwner = :leaseOwner AND j.status = :running
+            """)
+    int renewLease(@Param("id") final Long id,
+                   @Param("leaseOwner") final String leaseOwner,
+                   @Param("leaseUntil") final LocalDateTime leaseUntil,
+                   @Param("running") final TranslationJobStatus running);
+
+    @Modifying
+    @Query("""
+            UPDATE TranslationJob j
+            SET j.leaseOwner = NULL, j.leaseUntil = :retryAt, j.updated = :now
+            WHERE j.id = :id AND j.leaseOwner = :leaseOwner
+            """)
+    int postpone(@Param("id") final Long id,
+                 @Param("leaseOwner") final String leaseOwner,
+                 @Param("retryAt") final LocalDateTime retryAt,
+                 @Param("now") final LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE TranslationJob j
+            SET j.status = :status, j.error = :error, j.leaseOwner = NULL, j.leaseUntil = NULL, j.updated = :now
+            WHERE j.id = :id AND j.leaseOwner = :leaseOwner
+            """)
+    int finish(@Param("id") final Long id,
+               @Param("leaseOwner") final String leaseOwner,
+               @Param("status") final TranslationJobStatus status,
+               @Param("error") final String error,
+               @Param("now") final LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE TranslationJob j
+            SET j.cancelRequested = TRUE,
+                j.status = CASE WHEN j.status = :pending THEN :cancelled ELSE j.status END,
+                j.updated = :now
+            WHERE j.uuid = :uuid AND j.accountId = :accountId AND j.status IN (:pending, :running)
+            """)
+    int requestCancel(@Param("uuid") final UUID uuid,
+                      @Param("accountId") final Long accountId,
+                      @Param("pending") final TranslationJobStatus pending,
+                      @Param("running") final TranslationJobStatus running,
+                      @Param("cancelled") final TranslationJobStatus cancelled,
+                      @Param("now") final LocalDateTime now);
+
+    @Query("SELECT j.cancelRequested FROM TranslationJob j WHERE j.id = :id")
+    boolean isCancelRequested(@Param("id") final Long id);
+}
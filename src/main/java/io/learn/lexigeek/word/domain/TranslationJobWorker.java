@@ -0,0 +1,222 @@
+package io.learn.lexigeek.word.domain;
+
+import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.account.dto.AccountDto;
+import io.learn.lexigeek.common.exception.ServiceUnavailableException;
+import io.learn.lexigeek.common.utils.DateTimeUtils;
+import io.learn.lexigeek.word.WordFacade;
+import io.learn.lexigeek.word.dto.TranslationJobStatus;
+import io.learn.lexigeek.word.dto.WordForm;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+class TranslationJobWorker {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final TranslationJobRepository translationJobRepository;
+    private final AccountFacade accountFacade;
+    private final WordFacade wordFacade;
+    private final TranslationService translationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final ExecutorService translators = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("translation-job-lease-", 0).daemon(true).factory());
+    private final Semaphore slots;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+    private final Duration retryDelay;
+
+    TranslationJobWorker(final TranslationJobRepository translationJobRepository,
+                         final AccountFacade accountFacade,
+                         final WordFacade wordFacade,
+                         final TranslationService translationService,
+                         final PlatformTransactionManager transactionManager,
+                         @Value("${lexigeek.translation.jobs.workers:4}") final int workers,
+                         @Value("${lexigeek.translation.jobs.chunk-size:25}") final int chunkSize,
+                         @Value("${lexigeek.translation.jobs.lease-duration:PT2M}") final Duration leaseDuration,
+                         @Value("${lexigeek.translation.jobs.retry-delay:PT1M}") final Duration retryDelay) {
+        this.translationJobRepository = translationJobRepository;
+        this.accountFacade = accountFacade;
+        this.wordFacade = wordFacade;
+        this.translationService = translationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = Executors.newFixedThreadPool(workers);
+        this.slots = new Semaphore(workers);
+        this.chunkSize = chunkSize;
+        this.leaseDuration = leaseDuration;
+        this.retryDelay = retryDelay;
+    }
+
+    @Scheduled(fixedDelayString = "${lexigeek.translation.jobs.poll-interval:PT1S}")
+    public void poll() {
+        final int free = slots.availablePermits();
+        if (free == 0) {
+            return;
+        }
+        for (final TranslationJob job : claim(DateTimeUtils.timestampUTC(), free)) {
+            slots.acquireUninterruptibly();
+            workers.execute(() -> {
+                try {
+                    run(job);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+        translators.shutdownNow();
+        heartbeats.shutdownNow();
+    }
+
+    List<TranslationJob> claim(final LocalDateTime now, final int limit) {
+        final String leaseToken = UUID.randomUUID().toString();
+        return transactionTemplate.execute(status -> {
+            final List<Long> ids = translationJobRepository.findClaimableJobIds(now, limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            translationJobRepository.leaseJobs(ids, leaseToken, now.plus(leaseDuration), TranslationJobStatus.RUNNING, now);
+            return translationJobRepository.findAllById(ids);
+        });
+    }
+
+    void run(final TranslationJob job) {
+        final String leaseToken = job.getLeaseOwner();
+        final long renewEvery = Math.max(1, leaseDuration.toMillis() / 3);
+        final ScheduledFuture<?> heartbeat = heartbeats.scheduleAtFixedRate(() -> renewLease(job, leaseToken),
+                renewEvery, renewEvery, TimeUnit.MILLISECONDS);
+        try {
+            final AccountDto account = accountFacade.getAccountById(job.getAccountId());
+            final AccountDto principal = new AccountDto(account.id(), account.uuid(), account.username(), account.email(), null);
+            SecurityContextHolder.getContext().setAuthentication(
+                    UsernamePasswordAuthenticationToken.authenticated(principal, null, List.of()));
+
+            final TranslationJobStatus result = process(job, leaseToken);
+            if (result != null) {
+                finish(job, leaseToken, result, null);
+            }
+        } catch (final ServiceUnavailableException e) {
+            log.warn("Translation provider unavailable, postponing translation job {} by {}", job.getUuid(), retryDelay);
+            postpone(job, leaseToken);
+        } catch (final RuntimeException e) {
+            log.warn("Translation job {} failed", job.getUuid(), e);
+            finish(job, leaseToken, TranslationJobStatus.FAILED, abbreviate(e.getMessage()));
+        } finally {
+            heartbeat.cancel(false);
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private TranslationJobStatus process(final TranslationJob job, final String leaseToken) {
+        final List<AutomaticTranslationWord> words = AutomaticTranslationService.splitTextIntoWords(job.getText());
+        int processed = job.getProcessedWords();
+        while (processed < words.size()) {
+            if (translationJobRepository.isCancelRequested(job.getId())) {
+                return TranslationJobStatus.CANCELLED;
+            }
+            final int next = Math.min(processed + chunkSize, words.size());
+            final List<WordForm> wordForms = AutomaticTranslationService.mapToWordForms(translate(job, words.subList(processed, next)));
+            if (!commitChunk(job, leaseToken, processed, next, wordForms)) {
+                log.info("Lost the lease on translation job {}", job.getUuid());
+                return null;
+            }
+            processed = next;
+        }
+        return TranslationJobStatus.COMPLETED;
+    }
+
+    private List<AutomaticTranslationWord> translate(final TranslationJob job, final List<AutomaticTranslationWord> words) {
+        final List<CompletableFuture<AutomaticTranslationWord>> futures = words.stream()
+                .map(word -> CompletableFuture.supplyAsync(() -> AutomaticTranslationService.translate(translationService,
+                        word, job.getSourceLanguage(), job.getTargetLanguage(), job.getSourcePart()), translators))
+                .toList();
+
+        try {
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .filter(word -> word.answer() != null && !word.answer().isEmpty())
+                    .toList();
+        } catch (final CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean commitChunk(final TranslationJob job, final String leaseToken, final int expectedProcessed,
+                                final int processed, final List<WordForm> wordForms) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            final LocalDateTime now = DateTimeUtils.timestampUTC();
+            final int advanced = translationJobRepository.advance(job.getId(), leaseToken, expectedProcessed, processed,
+                    wordForms.size(), now.plus(leaseDuration), TranslationJobStatus.RUNNING, now);
+            if (advanced == 0) {
+                status.setRollbackOnly();
+                return false;
+            }
+            if (!wordForms.isEmpty()) {
+                wordFacade.createWords(job.getLanguageUuid(), job.getCategoryUuid(), wordForms);
+            }
+            return true;
+        }));
+    }
+
+    private void renewLease(final TranslationJob job, final String leaseToken) {
+        try {
+            final LocalDateTime now = DateTimeUtils.timestampUTC();
+            transactionTemplate.executeWithoutResult(status -> translationJobRepository.renewLease(
+                    job.getId(), leaseToken, now.plus(leaseDuration), TranslationJobStatus.RUNNING));
+        } catch (final RuntimeException e) {
+            log.warn("Could not renew the lease on translation job {}: {}", job.getUuid(), e.getMessage());
+        }
+    }
+
+    private void postpone(final TranslationJob job, final String leaseToken) {
+        final LocalDateTime now = DateTimeUtils.timestampUTC();
+        transactionTemplate.executeWithoutResult(tx -> translationJobRepository.postpone(
+                job.getId(), leaseToken, now.plus(retryDelay), now));
+    }
+
+    private void finish(final TranslationJob job, final String leaseToken, final TranslationJobStatus status,
+                        final String error) {
+        transactionTemplate.executeWithoutResult(tx -> translationJobRepository.finish(
+                job.getId(), leaseToken, status, error, DateTimeUtils.timestampUTC()));
+        log.info("Translation job {} finished with status {}", job.getUuid(), status);
+    }
+
+    private static String abbreviate(final String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
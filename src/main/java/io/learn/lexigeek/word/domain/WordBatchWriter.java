@@ -0,0 +1,88 @@
+package io.learn.lexigeek.word.domain;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+class WordBatchWriter {
+
+    private static final String INSERT_WORD = """
+            INSERT INTO words (uuid, accepted, chosen, comment, created, mechanism, reset_time)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_WORD_PART = """
+            INSERT INTO word_parts (uuid, answer, basic_word, position, to_speech, separator, separator_type, word, word_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_CATEGORY_WORD = "INSERT INTO category_word (category_id, word_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    WordBatchWriter(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void insert(final List<Word> words) {
+        if (words.isEmpty()) {
+            return;
+        }
+
+        final List<Object[]> wordRows = new ArrayList<>(words.size());
+        for (final Word word : words) {
+            wordRows.add(new Object[]{word.getUuid(), word.getAccepted(), word.getChosen(), word.getComment(),
+                    timestamp(word.getCreated()), word.getMechanism().name(), timestamp(word.getResetTime())});
+        }
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_WORD, new String[]{"id", "uuid"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                        new ArgumentPreparedStatementSetter(wordRows.get(i)).setValues(ps);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return wordRows.size();
+                    }
+                }, keyHolder);
+        final Map<UUID, Long> wordIds = new HashMap<>(words.size());
+        for (final Map<String, Object> key : keyHolder.getKeyList()) {
+            wordIds.put((UUID) key.get("uuid"), ((Number) key.get("id")).longValue());
+        }
+
+        final List<Object[]> partRows = new ArrayList<>();
+        final List<Object[]> categoryRows = new ArrayList<>();
+        for (final Word word : words) {
+            final Long wordId = wordIds.get(word.getUuid());
+            for (final WordPart part : word.getWordParts()) {
+                partRows.add(new Object[]{part.getUuid(), part.getAnswer(), part.getBasicWord(), part.getPosition(),
+                        part.getToSpeech(), part.getSeparator(),
+                        part.getSeparatorType() != null ? part.getSeparatorType().name() : null,
+                        part.getWord(), wordId});
+            }
+            for (final Category category : word.getCategories()) {
+                categoryRows.add(new Object[]{category.getId(), wordId});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_WORD_PART, partRows);
+        jdbcTemplate.batchUpdate(INSERT_CATEGORY_WORD, categoryRows);
+    }
+
+    private static Timestamp timestamp(final LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+}
@@ -10,8 +10,10 @@ import io.learn.lexigeek.common.pageable.PageableRequest;
 import io.learn.lexigeek.common.pageable.PageableUtils;
 import io.learn.lexigeek.common.pageable.SortOrder;
 import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.learn.lexigeek.event.EventFacade;
+import io.learn.lexigeek.event.dto.WordAcceptedEvent;
+import io.learn.lexigeek.event.dto.WordCreatedEvent;
 import io.learn.lexigeek.language.LanguageFacade;
-import io.learn.lexigeek.task.TaskFacade;
 import io.learn.lexigeek.task.dto.TaskType;
 import io.learn.lexigeek.word.WordFacade;
 import io.learn.lexigeek.word.dto.*;
@@ -21,7 +23,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -32,11 +33,11 @@ import static java.util.stream.Collectors.toSet;
 class WordService implements WordFacade {
 
     private final WordRepository wordRepository;
-    private final WordStatsRepository wordStatsRepository;
     private final CategoryRepository categoryRepository;
     private final CategoryFacade categoryFacade;
     private final LanguageFacade languageFacade;
-    private final TaskFacade taskFacade;
+    private final EventFacade eventFacade;
+    private final WordBatchWriter wordBatchWriter;
 
     @Override
     public PageDto<WordDto> getWords(final UUID languageUuid, final UUID categoryUuid,
@@ -83,6 +84,7 @@ class WordService implements WordFacade {
     }
 
     @Override
+    @Transactional
     public WordDto createWord(final UUID languageUuid, final UUID categoryUuid, final WordForm form) {
         categoryFacade.verifyCategoryAccess(languageUuid, categoryUuid);
 
@@ -92,13 +94,7 @@ class WordService implements WordFacade {
         final Word word = WordMapper.formToEntity(form);
 
         if (category.getMode() == CategoryMode.DICTIONARY) {
-            final Set<UUID> categories = categoryFacade.getCategories(
-                            languageUuid,
-                            new CategoryFilterForm(null, null, null, CategoryMode.DICTIONARY, null, null),
-                            PageableRequest.builder().singlePage(true).build())
-                    .getItems().stream()
-                    .map(CategoryDto::uuid)
-                    .collect(toSet());
+            final Set<UUID> categories = getDictionaryCategories(languageUuid);
 
             final List<Word> existingWords = wordRepository.findByCategoryUuids(categories);
 
@@ -120,9 +116,69 @@ class WordService implements WordFacade {
 
         word.addCategory(category);
         final Word savedWord = wordRepository.save(word);
+        eventFacade.publish(new WordCreatedEvent(category.getLanguage().getAccount().getId(), languageUuid));
         return WordMapper.entityToDto(savedWord);
     }
 
+    @Override
+    @Transactional
+    public List<WordDto> createWords(final UUID languageUuid, final UUID categoryUuid, final List<WordForm> forms) {
+        categoryFacade.verifyCategoryAccess(languageUuid, categoryUuid);
+
+        final Category category = categoryRepository.findByUuid(categoryUuid)
+                .orElseThrow(() -> new NotFoundException(ErrorCodes.CATEGORY_NOT_FOUND, categoryUuid));
+
+        final List<Word> words = forms.stream().map(WordMapper::formToEntity).toList();
+        final boolean dictionary = category.getMode() == CategoryMode.DICTIONARY;
+        final Map<WordPartKey, Word> knownWords = new HashMap<>();
+
+        if (dictionary) {
+            final List<WordPart> parts = words.stream()
+                    .flatMap(word -> word.getWordParts().stream())
+                    .toList();
+            final Set<String> texts = parts.stream()
+                    .map(WordPart::getWord)
+                    .filter(Objects::nonNull)
+                    .collect(toSet());
+            final boolean nullWords = parts.stream().anyMatch(part -> part.getWord() == null);
+            if (!texts.isEmpty() || nullWords) {
+                wordRepository.findByCategoryUuidsAndPartWords(getDictionaryCategories(languageUuid), texts, nullWords)
+                        .forEach(existingWord -> indexWordParts(knownWords, existingWord));
+            }
+        }
+
+        final Set<Word> result = new LinkedHashSet<>();
+        final List<Word> newWords = new ArrayList<>();
+        final Set<Word> mergedWords = new LinkedHashSet<>();
+        for (final Word word : words) {
+            final Word matchingWord = dictionary ? findIndexedWord(knownWords, word) : null;
+            if (matchingWord != null) {
+                mergeWordParts(matchingWord, word);
+                if (!matchingWord.getCategories().contains(category)) {
+                    matchingWord.addCategory(category);
+                }
+                matchingWord.setAccepted(false);
+                if (matchingWord.getId() != null) {
+                    mergedWords.add(matchingWord);
+                }
+                indexWordParts(knownWords, matchingWord);
+                result.add(matchingWord);
+            } else {
+                word.addCategory(category);
+                newWords.add(word);
+                indexWordParts(knownWords, word);
+                result.add(word);
+            }
+        }
+
+        wordRepository.saveAll(mergedWords);
+        wordBatchWriter.insert(newWords);
+
+        final Long accountId = category.getLanguage().getAccount().getId();
+        newWords.forEach(word -> eventFacade.publish(new WordCreatedEvent(accountId, languageUuid)));
+        return result.stream().map(WordMapper::entityToDto).toList();
+    }
+
     @Override
     public WordDto updateWord(final UUID languageUuid, final UUID categoryUuid,
                               final UUID wordUuid, final WordForm form) {
@@ -164,7 +220,7 @@ class WordService implements WordFacade {
         final TaskType taskType = category.getMode() == CategoryMode.DICTIONARY
                 ? TaskType.ADD_DICTIONARY
                 : TaskType.ADD_EXERCISE;
-        taskFacade.fillTask(taskType, languageUuid, 1);
+        eventFacade.publish(new WordAcceptedEvent(category.getLanguage().getAccount().getId(), languageUuid, taskType));
 
         return WordMapper.entityToDto(savedWord);
     }
@@ -181,6 +237,28 @@ class WordService implements WordFacade {
         return WordMapper.entityToDto(savedWord);
     }
 
+    private Set<UUID> getDictionaryCategories(final UUID languageUuid) {
+        return categoryFacade.getCategories(
+                        languageUuid,
+                        new CategoryFilterForm(null, null, null, CategoryMode.DICTIONARY, null, null),
+                        PageableRequest.builder().singlePage(true).build())
+                .getItems().stream()
+                .map(CategoryDto::uuid)
+                .collect(toSet());
+    }
+
+    private void indexWordParts(final Map<WordPartKey, Word> knownWords, final Word word) {
+        word.getWordParts().forEach(part -> knownWords.putIfAbsent(new WordPartKey(part.getWord(), part.getAnswer()), word));
+    }
+
+    private Word findIndexedWord(final Map<WordPartKey, Word> knownWords, final Word word) {
+        return word.getWordParts().stream()
+                .map(part -> knownWords.get(new WordPartKey(part.getWord(), part.getAnswer())))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
     private Word findWordWithMatchingParts(final List<Word> existingWords, final Word newWord) {
         return existingWords.stream()
                 .filter(existingWord -> hasMatchingWordParts(existingWord, newWord))
@@ -261,51 +339,6 @@ class WordService implements WordFacade {
         }
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<DateStatItem> getWordCreationStatsByDateAndLanguage(final UUID accountUuid,
-                                                                    final LocalDate startDate,
-                                                                    final LocalDate endDate,
-                                                                    final List<UUID> languageUuids) {
-        final List<WordStatsProjection> results = wordRepository.findWordCreationStatsByDateAndLanguage(
-                accountUuid,
-                startDate,
-                endDate,
-                languageUuids != null && !languageUuids.isEmpty() ? languageUuids : null
-        );
-
-        return buildDateStatItems(results, null);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<WordStatsProjection> getAllWordRepeatStatsByDateAndLanguage(final UUID accountUuid,
-                                                                            final LocalDate startDate,
-                                                                            final LocalDate endDate,
-                                                                            final List<UUID> languageUuids) {
-        return wordStatsRepository.findWordRepeatStatsByDateAndLanguage(
-                accountUuid,
-                startDate,
-                endDate,
-                languageUuids != null && !languageUuids.isEmpty() ? languageUuids : null
-        );
-    }
-
-    private List<DateStatItem> buildDateStatItems(final List<WordStatsProjection> projections, final Boolean correctFilter) {
-        final Map<LocalDate, List<LanguageStatItem>> groupedByDate = new HashMap<>();
-
-        for (final WordStatsProjection projection : projections) {
-            if (correctFilter == null || projection.getCorrect().equals(correctFilter)) {
-                final LocalDate date = projection.getDate();
-                final LanguageStatItem item = new LanguageStatItem(projection.getLanguageUuid(), projection.getCount());
-
-                groupedByDate.computeIfAbsent(date, d -> new ArrayList<>()).add(item);
-            }
-        }
-
-        return groupedByDate.entrySet().stream()
-                .map(entry -> new DateStatItem(entry.getKey(), entry.getValue()))
-                .sorted(Comparator.comparing(DateStatItem::date))
-                .toList();
+    private record WordPartKey(String word, Boolean answer) {
     }
 }
@@ -1,7 +0,0 @@
-package io.learn.lexigeek.word.dto;
-
-import java.util.UUID;
-
-public record LanguageStatItem(UUID languageUuid,
-                               Integer count) {
-}
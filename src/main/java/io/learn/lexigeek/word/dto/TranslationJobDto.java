@@ -0,0 +1,14 @@
+package io.learn.lexigeek.word.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TranslationJobDto(UUID uuid,
+                                TranslationJobStatus status,
+                                Integer totalWords,
+                                Integer processedWords,
+                                Integer createdWords,
+                                String error,
+                                LocalDateTime created,
+                                LocalDateTime updated) {
+}
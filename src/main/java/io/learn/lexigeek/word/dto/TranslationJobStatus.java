@@ -0,0 +1,9 @@
+package io.learn.lexigeek.word.dto;
+
+public enum TranslationJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
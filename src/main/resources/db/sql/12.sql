@@ -0,0 +1,6 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:12 labels:LG-14
+
+ALTER TABLE repeat_sessions ADD COLUMN words_left INTEGER;
+
+--rollback ALTER TABLE repeat_sessions DROP COLUMN words_left;
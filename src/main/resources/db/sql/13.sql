@@ -0,0 +1,16 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:13 labels:LG-15
+
+ALTER TABLE repeat_sessions ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+DELETE FROM repeat_sessions older
+USING repeat_sessions newer
+WHERE older.language_id = newer.language_id
+  AND older.id < newer.id;
+
+DROP INDEX IF EXISTS idx_repeat_sessions_language;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_repeat_sessions_language ON repeat_sessions (language_id);
+
+--rollback DROP INDEX IF EXISTS uq_repeat_sessions_language;
+--rollback CREATE INDEX IF NOT EXISTS idx_repeat_sessions_language ON repeat_sessions (language_id);
+--rollback ALTER TABLE repeat_sessions DROP COLUMN version;
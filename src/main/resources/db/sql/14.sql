@@ -0,0 +1,9 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:14 labels:LG-16
+
+ALTER TABLE task_schedules ADD COLUMN next_run_at TIMESTAMP WITHOUT TIME ZONE;
+
+CREATE INDEX IF NOT EXISTS idx_task_schedules_next_run_at ON task_schedules (next_run_at, id);
+
+--rollback DROP INDEX IF EXISTS idx_task_schedules_next_run_at;
+--rollback ALTER TABLE task_schedules DROP COLUMN next_run_at;
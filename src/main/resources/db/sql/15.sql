@@ -0,0 +1,8 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:15 labels:LG-17
+
+ALTER TABLE task_schedules ADD COLUMN lease_owner VARCHAR(100);
+ALTER TABLE task_schedules ADD COLUMN lease_until TIMESTAMP WITHOUT TIME ZONE;
+
+--rollback ALTER TABLE task_schedules DROP COLUMN lease_until;
+--rollback ALTER TABLE task_schedules DROP COLUMN lease_owner;
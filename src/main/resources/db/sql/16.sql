@@ -0,0 +1,22 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:16 labels:LG-18
+
+CREATE TABLE "outbox_events"
+(
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type          VARCHAR(30)                 NOT NULL,
+    account_id    BIGINT                      NOT NULL
+        CONSTRAINT fk_outbox_events_account_id REFERENCES accounts (id) ON DELETE CASCADE,
+    language_uuid UUID,
+    language_name VARCHAR(20),
+    task_type     VARCHAR(50),
+    correct       BOOLEAN,
+    points        INTEGER,
+    attempts      INTEGER                     NOT NULL DEFAULT 0,
+    last_error    VARCHAR(500),
+    created       TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_attempts ON outbox_events (attempts, id);
+
+--rollback DROP TABLE "outbox_events";
@@ -0,0 +1,20 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:17 labels:LG-19
+
+DELETE FROM tasks older
+USING tasks newer
+WHERE older.account_id = newer.account_id
+  AND older.language_id = newer.language_id
+  AND older.type = newer.type
+  AND older.id < newer.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_tasks_account_language_type ON tasks (account_id, language_id, type);
+DROP INDEX IF EXISTS idx_tasks_account;
+DROP INDEX IF EXISTS idx_tasks_type;
+
+ALTER TABLE tasks SET (fillfactor = 90);
+
+--rollback ALTER TABLE tasks RESET (fillfactor);
+--rollback CREATE INDEX IF NOT EXISTS idx_tasks_type ON tasks (type);
+--rollback CREATE INDEX IF NOT EXISTS idx_tasks_account ON tasks (account_id);
+--rollback DROP INDEX IF EXISTS uq_tasks_account_language_type;
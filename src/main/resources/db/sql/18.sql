@@ -0,0 +1,32 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:18 labels:LG-20
+
+CREATE TABLE "daily_statistics"
+(
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id        BIGINT  NOT NULL
+        CONSTRAINT fk_daily_statistics_account_id REFERENCES accounts (id) ON DELETE CASCADE,
+    language_id       BIGINT
+        CONSTRAINT fk_daily_statistics_language_id REFERENCES languages (id) ON DELETE CASCADE,
+    day               DATE    NOT NULL,
+    correct_repeats   INTEGER NOT NULL DEFAULT 0,
+    incorrect_repeats INTEGER NOT NULL DEFAULT 0,
+    words_added       INTEGER NOT NULL DEFAULT 0,
+    stars             INTEGER NOT NULL DEFAULT 0
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_daily_statistics_language_day
+    ON daily_statistics (account_id, language_id, day) WHERE language_id IS NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_daily_statistics_account_day
+    ON daily_statistics (account_id, day) WHERE language_id IS NULL;
+CREATE INDEX IF NOT EXISTS idx_daily_statistics_language ON daily_statistics (language_id);
+
+CREATE TABLE "daily_statistics_backfills"
+(
+    account_id   BIGINT                      NOT NULL PRIMARY KEY
+        CONSTRAINT fk_daily_statistics_backfills_account_id REFERENCES accounts (id) ON DELETE CASCADE,
+    completed_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+--rollback DROP TABLE "daily_statistics_backfills";
+--rollback DROP TABLE "daily_statistics";
@@ -0,0 +1,7 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:19 labels:LG-21
+
+CREATE INDEX IF NOT EXISTS idx_daily_statistics_account_day
+    ON daily_statistics (account_id, day) WHERE language_id IS NOT NULL;
+
+--rollback DROP INDEX IF EXISTS idx_daily_statistics_account_day;
@@ -0,0 +1,11 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:20 labels:LG-22
+
+ALTER TABLE "accounts" ADD COLUMN stars_balance INTEGER NOT NULL DEFAULT 0;
+
+UPDATE accounts a
+SET stars_balance = s.total
+FROM (SELECT account_id, SUM(stars) AS total FROM account_stars GROUP BY account_id) s
+WHERE s.account_id = a.id;
+
+--rollback ALTER TABLE "accounts" DROP COLUMN stars_balance;
@@ -0,0 +1,14 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:21 labels:LG-23
+
+CREATE TABLE "jwt_signing_keys"
+(
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    kid     VARCHAR(36)                 NOT NULL UNIQUE,
+    secret  BYTEA                       NOT NULL,
+    created TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_jwt_signing_keys_created ON jwt_signing_keys (created);
+
+--rollback DROP TABLE "jwt_signing_keys";
@@ -0,0 +1,17 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:22 labels:LG-24
+
+CREATE TABLE "translation_cache"
+(
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    source_text     VARCHAR(500)                NOT NULL,
+    source_language VARCHAR(20)                 NOT NULL,
+    target_language VARCHAR(20)                 NOT NULL,
+    translated_text VARCHAR(1000)               NOT NULL,
+    created         TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT uq_translation_cache_text_languages UNIQUE (source_text, source_language, target_language)
+);
+
+CREATE INDEX IF NOT EXISTS idx_translation_cache_created ON translation_cache (created);
+
+--rollback DROP TABLE "translation_cache";
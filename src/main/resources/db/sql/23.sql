@@ -0,0 +1,32 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:23 labels:LG-25
+
+CREATE TABLE "translation_jobs"
+(
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    uuid             UUID                        NOT NULL UNIQUE,
+    account_id       BIGINT                      NOT NULL
+        CONSTRAINT fk_translation_jobs_account_id REFERENCES accounts (id) ON DELETE CASCADE,
+    language_uuid    UUID                        NOT NULL,
+    category_uuid    UUID                        NOT NULL,
+    source_language  VARCHAR(20)                 NOT NULL,
+    target_language  VARCHAR(20)                 NOT NULL,
+    source_part      VARCHAR(20)                 NOT NULL,
+    text             TEXT                        NOT NULL,
+    status           VARCHAR(20)                 NOT NULL,
+    total_words      INTEGER                     NOT NULL DEFAULT 0,
+    processed_words  INTEGER                     NOT NULL DEFAULT 0,
+    created_words    INTEGER                     NOT NULL DEFAULT 0,
+    cancel_requested BOOLEAN                     NOT NULL DEFAULT FALSE,
+    lease_owner      VARCHAR(64),
+    lease_until      TIMESTAMP WITHOUT TIME ZONE,
+    error            VARCHAR(500),
+    created          TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated          TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_translation_jobs_active
+    ON translation_jobs (id) WHERE status IN ('PENDING', 'RUNNING');
+CREATE INDEX IF NOT EXISTS idx_translation_jobs_account_id ON translation_jobs (account_id);
+
+--rollback DROP TABLE "translation_jobs";
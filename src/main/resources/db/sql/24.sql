@@ -0,0 +1,6 @@
+--liquibase formatted sql
+--changeset marcin.kaczor:24 labels:LG-26
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS reset_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT '-infinity';
+
+--rollback ALTER TABLE tasks DROP COLUMN IF EXISTS reset_at;
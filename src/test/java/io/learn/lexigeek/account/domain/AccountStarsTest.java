@@ -0,0 +1,68 @@
+package io.learn.lexigeek.account.domain;
+
+import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.account.dto.AccountStarsDto;
+import io.learn.lexigeek.common.dto.DateRangeForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class AccountStarsTest {
+
+    @Autowired
+    private AccountFacade accountFacade;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String email = "stars-" + UUID.randomUUID() + "@example.com";
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        accountId = jdbcTemplate.queryForObject("""
+                INSERT INTO accounts (uuid, username, email, password)
+                VALUES (?, 'stars', ?, 'password')
+                RETURNING id
+                """, Long.class, UUID.randomUUID(), email);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("DELETE FROM accounts WHERE email = ?", email);
+    }
+
+    @Test
+    void addStars_updatesBalanceAndDailyAggregate() {
+        // When
+        accountFacade.addStars(accountId, 3);
+        accountFacade.addStars(accountId, 4);
+
+        // Then
+        final LocalDate today = LocalDate.now();
+        assertThat(accountFacade.getStars()).isEqualTo(7);
+        assertThat(jdbcTemplate.queryForObject("SELECT stars_balance FROM accounts WHERE id = ?",
+                Integer.class, accountId)).isEqualTo(7);
+        assertThat(accountFacade.getStars(new DateRangeForm(today.minusDays(1), today)))
+                .extracting(AccountStarsDto::date, AccountStarsDto::stars)
+                .containsExactly(
+                        tuple(today.minusDays(1), 0),
+                        tuple(today, 7));
+    }
+}
@@ -11,6 +11,7 @@ import io.learn.lexigeek.common.pageable.PageDto;
 import io.learn.lexigeek.common.pageable.PageableRequest;
 import io.learn.lexigeek.common.validation.ErrorCodes;
 import io.learn.lexigeek.language.LanguageFacade;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,7 +20,9 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +35,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,7 +44,10 @@ class CategoryServiceTest {
     private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
     private final LanguageRepository languageRepository = mock(LanguageRepository.class);
     private final LanguageFacade languageFacade = mock(LanguageFacade.class);
-    private final CategoryService categoryService = new CategoryService(categoryRepository, languageRepository, languageFacade);
+    private final CategoryOwnershipCache categoryOwnershipCache =
+            new CategoryOwnershipCache(categoryRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+    private final CategoryService categoryService =
+            new CategoryService(categoryRepository, languageRepository, languageFacade, categoryOwnershipCache);
 
     private UUID languageUuid;
     private Language language;
@@ -685,5 +692,72 @@ class CategoryServiceTest {
             verify(categoryRepository, never()).save(any());
         }
     }
-}
 
+    @Nested
+    class VerifyCategoryAccessTests {
+
+        @Test
+        void cachedCategory_isVerifiedWithoutQuery() {
+            // Given
+            final UUID categoryUuid = UUID.randomUUID();
+            when(categoryRepository.findLanguageUuidByUuid(categoryUuid)).thenReturn(Optional.of(languageUuid));
+
+            // When
+            categoryService.verifyCategoryAccess(languageUuid, categoryUuid);
+            categoryService.verifyCategoryAccess(languageUuid, categoryUuid);
+
+            // Then
+            verify(categoryRepository, times(1)).findLanguageUuidByUuid(categoryUuid);
+            verify(languageFacade, times(2)).verifyLanguageOwnership(languageUuid);
+        }
+
+        @Test
+        void categoryOfAnotherLanguage_throwsNotFoundException() {
+            // Given
+            final UUID categoryUuid = UUID.randomUUID();
+            when(categoryRepository.findLanguageUuidByUuid(categoryUuid)).thenReturn(Optional.of(UUID.randomUUID()));
+
+            // When / Then
+            assertThatThrownBy(() -> categoryService.verifyCategoryAccess(languageUuid, categoryUuid))
+                    .isInstanceOf(NotFoundException.class);
+        }
+
+        @Test
+        void verifyCategoriesAccess_countsOnlyUncachedCategories() {
+            // Given
+            final UUID cachedUuid = UUID.randomUUID();
+            final UUID uncachedUuid = UUID.randomUUID();
+            when(categoryRepository.findLanguageUuidByUuid(cachedUuid)).thenReturn(Optional.of(languageUuid));
+            when(categoryRepository.countByUuidInAndLanguageUuid(List.of(uncachedUuid), languageUuid)).thenReturn(1L);
+            categoryService.verifyCategoryAccess(languageUuid, cachedUuid);
+
+            // When
+            categoryService.verifyCategoriesAccess(languageUuid, List.of(cachedUuid, uncachedUuid));
+            categoryService.verifyCategoriesAccess(languageUuid, List.of(cachedUuid, uncachedUuid));
+
+            // Then
+            verify(categoryRepository, times(1)).countByUuidInAndLanguageUuid(List.of(uncachedUuid), languageUuid);
+        }
+
+        @Test
+        void afterDelete_queriesCategoryAgain() {
+            // Given
+            final UUID categoryUuid = UUID.randomUUID();
+            final Category category = new Category();
+            category.setUuid(categoryUuid);
+            category.setPosition(0);
+            when(categoryRepository.findLanguageUuidByUuid(categoryUuid))
+                    .thenReturn(Optional.of(languageUuid), Optional.empty());
+            when(categoryRepository.findByUuidAndLanguageUuid(categoryUuid, languageUuid)).thenReturn(Optional.of(category));
+            categoryService.verifyCategoryAccess(languageUuid, categoryUuid);
+
+            // When
+            categoryService.deleteCategory(languageUuid, categoryUuid);
+
+            // Then
+            assertThatThrownBy(() -> categoryService.verifyCategoryAccess(languageUuid, categoryUuid))
+                    .isInstanceOf(NotFoundException.class);
+            verify(categoryRepository, times(2)).findLanguageUuidByUuid(categoryUuid);
+        }
+    }
+}
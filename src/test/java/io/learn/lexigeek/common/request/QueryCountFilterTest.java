@@ -0,0 +1,52 @@
+package io.learn.lexigeek.common.request;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCountFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountFilter filter = new QueryCountFilter(meterRegistry);
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @Test
+    void recordsStatementsExecutedDuringRequest() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/languages/1/words");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/languages/{languageUuid}/words");
+        });
+
+        // Then
+        final DistributionSummary summary = meterRegistry.get(QueryCountFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/languages/{languageUuid}/words")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void statementsOutsideRequest_areNotCounted() throws Exception {
+        // Given
+        inspector.inspect("select 1");
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/account"), new MockHttpServletResponse(),
+                (req, res) -> {
+                });
+
+        // Then
+        assertThat(meterRegistry.get(QueryCountFilter.METRIC_NAME).summary().totalAmount()).isZero();
+    }
+}
@@ -0,0 +1,221 @@
+package io.learn.lexigeek.event.domain;
+
+import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.activity.ActivityFacade;
+import io.learn.lexigeek.activity.domain.ActivityType;
+import io.learn.lexigeek.activity.dto.ActivityForm;
+import io.learn.lexigeek.event.dto.*;
+import io.learn.lexigeek.statistics.DailyStatisticsFacade;
+import io.learn.lexigeek.task.TaskFacade;
+import io.learn.lexigeek.task.dto.TaskProgressDto;
+import io.learn.lexigeek.task.dto.TaskType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxEventProcessorTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 14, 10, 30);
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final TaskFacade taskFacade = mock(TaskFacade.class);
+    private final ActivityFacade activityFacade = mock(ActivityFacade.class);
+    private final AccountFacade accountFacade = mock(AccountFacade.class);
+    private final DailyStatisticsFacade dailyStatisticsFacade = mock(DailyStatisticsFacade.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxEventProcessor outboxEventProcessor = new OutboxEventProcessor(
+            outboxEventRepository,
+            taskFacade,
+            activityFacade,
+            accountFacade,
+            dailyStatisticsFacade,
+            mock(PlatformTransactionManager.class),
+            meterRegistry,
+            BATCH_SIZE,
+            MAX_ATTEMPTS
+    );
+
+    private final UUID languageUuid = UUID.randomUUID();
+
+    @Nested
+    class ProcessBatchTests {
+
+        @Test
+        void success_appliesAggregatedSideEffectsAndDeletesEvents() {
+            // Given
+            final List<OutboxEvent> events = List.of(
+                    createEvent(1L, new WordAnsweredEvent(1L, languageUuid, TaskType.REPEAT_DICTIONARY, true)),
+                    createEvent(2L, new WordAnsweredEvent(1L, languageUuid, TaskType.REPEAT_DICTIONARY, true)),
+                    createEvent(3L, new WordAnsweredEvent(1L, languageUuid, TaskType.REPEAT_DICTIONARY, false)),
+                    createEvent(4L, new WordAcceptedEvent(1L, languageUuid, TaskType.ADD_DICTIONARY)),
+                    createEvent(5L, new SessionFinishedEvent(1L, languageUuid, "English")),
+                    createEvent(6L, new StarsAwardedEvent(1L, languageUuid, "English", TaskType.REPEAT_DICTIONARY, 5)),
+                    createEvent(7L, new StarsAwardedEvent(1L, languageUuid, "English", TaskType.ADD_DICTIONARY, 3)),
+                    createEvent(8L, new WordCreatedEvent(1L, languageUuid)));
+            when(outboxEventRepository.findClaimableEvents(MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(events);
+
+            // When
+            final int processed = outboxEventProcessor.processBatch();
+
+            // Then
+            assertThat(processed).isEqualTo(8);
+            verify(taskFacade).fillTasks(List.of(
+                    new TaskProgressDto(1L, TaskType.REPEAT_DICTIONARY, languageUuid, 2, CREATED),
+                    new TaskProgressDto(1L, TaskType.ADD_DICTIONARY, languageUuid, 1, CREATED)));
+            verify(activityFacade).addActivity(1L,
+                    new ActivityForm(ActivityType.REPEATING_FINISHED, "English", null, null));
+            verify(activityFacade).addActivity(1L,
+                    new ActivityForm(ActivityType.STARS_ADDED, "English", "REPEAT_DICTIONARY", "5"));
+            verify(activityFacade).addActivity(1L,
+                    new ActivityForm(ActivityType.STARS_ADDED, "English", "ADD_DICTIONARY", "3"));
+            verify(accountFacade).addStars(1L, 8);
+            verify(dailyStatisticsFacade).lockAccounts(List.of(1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L));
+            verify(dailyStatisticsFacade).addLanguageStatistics(1L, languageUuid, CREATED.toLocalDate(), 2, 1, 1);
+            verify(outboxEventRepository).deleteAllByIdIn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L));
+            assertThat(meterRegistry.counter("lexigeek.event.processed").count()).isEqualTo(8);
+        }
+
+        @Test
+        void success_splitsDailyStatisticsByEventDay() {
+            // Given
+            final OutboxEvent yesterday = createEvent(1L, new WordAnsweredEvent(1L, languageUuid, TaskType.REPEAT_EXERCISE, false));
+            yesterday.setCreated(CREATED.minusDays(1));
+            final OutboxEvent today = createEvent(2L, new WordAnsweredEvent(1L, languageUuid, TaskType.REPEAT_EXERCISE, true));
+            when(outboxEventRepository.findClaimableEvents(MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(yesterday, today));
+
+            // When
+            outboxEventProcessor.processBatch();
+
+            // Then
+            final LocalDate day = CREATED.toLocalDate();
+            verify(dailyStatisticsFacade).addLanguageStatistics(1L, languageUuid, day.minusDays(1), 0, 1, 0);
+            verify(dailyStatisticsFacade).addLanguageStatistics(1L, languageUuid, day, 1, 0, 0);
+        }
+
+        @Test
+        void success_splitsTaskProgressByEventDayAndCarriesLatestTimestamp() {
+            // Given
+            final OutboxEvent yesterday = createEvent(1L, new WordAcceptedEvent(1L, languageUuid, TaskType.ADD_DICTIONARY));
+            yesterday.setCreated(CREATED.minusDays(1));
+            final OutboxEvent earlier = createEvent(2L, new WordAcceptedEvent(1L, languageUuid, TaskType.ADD_DICTIONARY));
+            earlier.setCreated(CREATED.minusMinutes(5));
+            final OutboxEvent later = createEvent(3L, new WordAcceptedEvent(1L, languageUuid, TaskType.ADD_DICTIONARY));
+            when(outboxEventRepository.findClaimableEvents(MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(yesterday, earlier, later));
+
+            // When
+            outboxEventProcessor.processBatch();
+
+            // Then
+            verify(taskFacade).fillTasks(List.of(
+                    new TaskProgressDto(1L, TaskType.ADD_DICTIONARY, languageUuid, 1, CREATED.minusDays(1)),
+                    new TaskProgressDto(1L, TaskType.ADD_DICTIONARY, languageUuid, 2, CREATED)));
+        }
+
+        @Test
+        void whenNoEvents_doesNothing() {
+            // Given
+            when(outboxEventRepository.findClaimableEvents(MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of());
+
+            // When
+            final int processed = outboxEventProcessor.processBatch();
+
+            // Then
+            assertThat(processed).isZero();
+            verifyNoInteractions(taskFacade, activityFacade, accountFacade, dailyStatisticsFacade);
+            verify(outboxEventRepository, never()).deleteAllByIdIn(any());
+        }
+
+        @Test
+        void whenBatchFails_retriesEventsOneByOneAndMarksFailingEvent() {
+            // Given
+            final OutboxEvent accepted = createEvent(1L, new WordAcceptedEvent(1L, languageUuid, TaskType.ADD_EXERCISE));
+            final OutboxEvent stars = createEvent(2L, new StarsAwardedEvent(2L, languageUuid, "German", TaskType.ADD_EXERCISE, 4));
+            when(outboxEventRepository.findClaimableEvents(MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(accepted, stars));
+            when(outboxEventRepository.findPendingEventIds(MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(1L, 2L));
+            when(outboxEventRepository.findClaimableEventById(1L, MAX_ATTEMPTS)).thenReturn(Optional.of(accepted));
+            when(outboxEventRepository.findClaimableEventById(2L, MAX_ATTEMPTS)).thenReturn(Optional.of(stars));
+            doThrow(new IllegalStateException("boom")).when(accountFacade).addStars(eq(2L), anyInt());
+
+            // When
+            final int processed = outboxEventProcessor.processBatch();
+
+            // Then
+            assertThat(processed).isEqualTo(1);
+            verify(outboxEventRepository, never()).deleteAllByIdIn(any());
+            verify(outboxEventRepository).delete(accepted);
+            verify(outboxEventRepository, never()).delete(stars);
+            verify(outboxEventRepository).markFailed(2L, "boom");
+            assertThat(meterRegistry.counter("lexigeek.event.failed").count()).isEqualTo(1);
+        }
+
+        @Test
+        void whenEventClaimedByAnotherNode_skipsIt() {
+            // Given
+            when(outboxEventRepository.findClaimableEvents(MAX_ATTEMPTS, BATCH_SIZE))
+                    .thenThrow(new IllegalStateException("connection reset"));
+            when(outboxEventRepository.findPendingEventIds(MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(1L));
+            when(outboxEventRepository.findClaimableEventById(1L, MAX_ATTEMPTS)).thenReturn(Optional.empty());
+
+            // When
+            final int processed = outboxEventProcessor.processBatch();
+
+            // Then
+            assertThat(processed).isZero();
+            verifyNoInteractions(taskFacade, activityFacade, accountFacade, dailyStatisticsFacade);
+            verify(outboxEventRepository, never()).markFailed(any(), any());
+        }
+    }
+
+    @Nested
+    class ProcessPendingEventsTests {
+
+        @Test
+        void success_drainsFullBatchesAndUpdatesBacklog() {
+            // Given
+            final List<OutboxEvent> fullBatch = new ArrayList<>();
+            for (long id = 1; id <= BATCH_SIZE; id++) {
+                fullBatch.add(createEvent(id, new WordAcceptedEvent(1L, languageUuid, TaskType.ADD_DICTIONARY)));
+            }
+            when(outboxEventRepository.findClaimableEvents(MAX_ATTEMPTS, BATCH_SIZE))
+                    .thenReturn(fullBatch)
+                    .thenReturn(List.of());
+            when(outboxEventRepository.countByAttemptsLessThan(MAX_ATTEMPTS)).thenReturn(3L);
+
+            // When
+            outboxEventProcessor.processPendingEvents();
+
+            // Then
+            verify(outboxEventRepository, times(2)).findClaimableEvents(MAX_ATTEMPTS, BATCH_SIZE);
+            @SuppressWarnings("unchecked") final ArgumentCaptor<List<TaskProgressDto>> captor = ArgumentCaptor.forClass(List.class);
+            verify(taskFacade).fillTasks(captor.capture());
+            assertThat(captor.getValue())
+                    .containsExactly(new TaskProgressDto(1L, TaskType.ADD_DICTIONARY, languageUuid, BATCH_SIZE, CREATED));
+            assertThat(meterRegistry.get("lexigeek.event.backlog").gauge().value()).isEqualTo(3);
+        }
+    }
+
+    private OutboxEvent createEvent(final Long id, final DomainEvent event) {
+        final OutboxEvent entity = OutboxEventMapper.eventToEntity(event);
+        entity.setCreated(CREATED);
+        final OutboxEvent outboxEvent = spy(entity);
+        doReturn(id).when(outboxEvent).getId();
+        return outboxEvent;
+    }
+}
@@ -9,6 +9,9 @@ import io.learn.lexigeek.common.pageable.OrderString;
 import io.learn.lexigeek.language.dto.LanguageDto;
 import io.learn.lexigeek.language.dto.LanguageFilterForm;
 import io.learn.lexigeek.language.dto.LanguageForm;
+import io.learn.lexigeek.task.TaskFacade;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,8 +19,15 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,7 +41,11 @@ class LanguageServiceTest {
     private final LanguageRepository languageRepository = mock(LanguageRepository.class);
     private final AccountRepository accountRepository = mock(AccountRepository.class);
     private final AccountFacade accountFacade = mock(AccountFacade.class);
-    private final LanguageService languageService = new LanguageService(languageRepository, accountRepository, accountFacade);
+    private final TaskFacade taskFacade = mock(TaskFacade.class);
+    private final LanguageOwnershipCache languageOwnershipCache =
+            new LanguageOwnershipCache(languageRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+    private final LanguageService languageService =
+            new LanguageService(languageRepository, accountRepository, accountFacade, taskFacade, languageOwnershipCache);
 
     @Nested
     class GetLanguagesTests {
@@ -209,4 +223,112 @@ class LanguageServiceTest {
             verify(languageRepository, never()).delete(any(Language.class));
         }
     }
+
+    @Nested
+    class VerifyLanguageOwnershipTests {
+
+        @BeforeEach
+        void prepare() {
+            final AccountDto logged = new AccountDto(1L, UUID.randomUUID(), "user", "user@example.com", "secret");
+            when(accountFacade.getLoggedAccount()).thenReturn(logged);
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        }
+
+        @AfterEach
+        void cleanup() {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        @Test
+        void withinRequest_queriesOwnershipOnce() {
+            final UUID langUuid = UUID.randomUUID();
+            when(languageRepository.findAccountIdByUuid(langUuid)).thenReturn(Optional.of(1L));
+
+            languageService.verifyLanguageOwnership(langUuid);
+            languageService.verifyLanguageOwnership(langUuid);
+
+            verify(languageRepository, times(1)).findAccountIdByUuid(langUuid);
+            verify(accountFacade, times(1)).getLoggedAccount();
+        }
+
+        @Test
+        void whenLanguageNotFound_doesNotMemoizeFailure() {
+            final UUID langUuid = UUID.randomUUID();
+            when(languageRepository.findAccountIdByUuid(langUuid)).thenReturn(Optional.empty());
+
+            assertThrows(NotFoundException.class, () -> languageService.verifyLanguageOwnership(langUuid));
+            assertThrows(NotFoundException.class, () -> languageService.verifyLanguageOwnership(langUuid));
+
+            verify(languageRepository, times(2)).findAccountIdByUuid(langUuid);
+        }
+
+        @Test
+        void acrossRequests_usesCachedOwner() {
+            RequestContextHolder.resetRequestAttributes();
+            final UUID langUuid = UUID.randomUUID();
+            when(languageRepository.findAccountIdByUuid(langUuid)).thenReturn(Optional.of(1L));
+
+            languageService.verifyLanguageOwnership(langUuid);
+            languageService.verifyLanguageOwnership(langUuid);
+
+            verify(languageRepository, times(1)).findAccountIdByUuid(langUuid);
+        }
+
+        @Test
+        void whenCachedOwnerIsAnotherAccount_throwsNotFoundException() {
+            RequestContextHolder.resetRequestAttributes();
+            final UUID langUuid = UUID.randomUUID();
+            when(languageRepository.findAccountIdByUuid(langUuid)).thenReturn(Optional.of(2L));
+
+            assertThrows(NotFoundException.class, () -> languageService.verifyLanguageOwnership(langUuid));
+            assertThrows(NotFoundException.class, () -> languageService.verifyLanguageOwnership(langUuid));
+
+            verify(languageRepository, times(1)).findAccountIdByUuid(langUuid);
+        }
+
+        @Test
+        void afterDelete_queriesOwnerAgain() {
+            RequestContextHolder.resetRequestAttributes();
+            final UUID langUuid = UUID.randomUUID();
+            final Language existing = new Language();
+            existing.setUuid(langUuid);
+            when(languageRepository.findAccountIdByUuid(langUuid)).thenReturn(Optional.of(1L), Optional.empty());
+            when(languageRepository.findByUuidAndAccountId(langUuid, 1L)).thenReturn(Optional.of(existing));
+
+            languageService.verifyLanguageOwnership(langUuid);
+            languageService.deleteLanguage(langUuid);
+
+            assertThrows(NotFoundException.class, () -> languageService.verifyLanguageOwnership(langUuid));
+            verify(languageRepository, times(2)).findAccountIdByUuid(langUuid);
+        }
+
+        @Test
+        void whenDeleteCommitsDuringLoad_doesNotCacheStaleOwner() {
+            RequestContextHolder.resetRequestAttributes();
+            final UUID langUuid = UUID.randomUUID();
+            final Language existing = new Language();
+            existing.setUuid(langUuid);
+            when(languageRepository.findByUuidAndAccountId(langUuid, 1L)).thenReturn(Optional.of(existing));
+
+            final List<TransactionSynchronization> pendingDelete;
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                languageService.deleteLanguage(langUuid);
+                pendingDelete = TransactionSynchronizationManager.getSynchronizations();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            when(languageRepository.findAccountIdByUuid(langUuid))
+                    .thenAnswer(invocation -> {
+                        pendingDelete.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+                        return Optional.of(1L);
+                    })
+                    .thenReturn(Optional.empty());
+
+            languageService.verifyLanguageOwnership(langUuid);
+
+            assertThrows(NotFoundException.class, () -> languageService.verifyLanguageOwnership(langUuid));
+            verify(languageRepository, times(2)).findAccountIdByUuid(langUuid);
+        }
+    }
 }
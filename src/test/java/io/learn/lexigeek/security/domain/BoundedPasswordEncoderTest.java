@@ -0,0 +1,89 @@
+package io.learn.lexigeek.security.domain;
+
+import io.learn.lexigeek.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void cleanup() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void matches_delegatesAndRecordsLatency() {
+        // Given
+        encoder = new BoundedPasswordEncoder(delegate, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        when(delegate.matches("secret", "hash")).thenReturn(true);
+
+        // When
+        final boolean matches = encoder.matches("secret", "hash");
+
+        // Then
+        assertThat(matches).isTrue();
+        assertThat(meterRegistry.get("lexigeek.security.password.hash").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void saturatedPool_rejectsImmediately() throws Exception {
+        // Given
+        encoder = new BoundedPasswordEncoder(delegate, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        final CountDownLatch started = new CountDownLatch(1);
+        when(delegate.matches("blocking", "hash")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        CompletableFuture.runAsync(() -> encoder.matches("blocking", "hash"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> encoder.matches("blocking", "hash"));
+        waitForQueueDepth(1);
+
+        // When / Then
+        assertThatThrownBy(() -> encoder.matches("secret", "hash"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("lexigeek.security.password.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void slowHash_timesOut() {
+        // Given
+        encoder = new BoundedPasswordEncoder(delegate, meterRegistry, 1, 1, Duration.ofMillis(50));
+        when(delegate.encode("secret")).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+
+        // When / Then
+        assertThatThrownBy(() -> encoder.encode("secret")).isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private void waitForQueueDepth(final int depth) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("lexigeek.security.password.queue").gauge().value() < depth
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.learn.lexigeek.security.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver clientIpResolver = new ClientIpResolver(List.of("10.0.0.0/8", "127.0.0.1/32"));
+
+    @Test
+    void requestFromLoadBalancer_usesForwardedClientAddress() {
+        // Given
+        final MockHttpServletRequest request = request("10.0.0.5", "203.0.113.7");
+
+        // When / Then
+        assertThat(clientIpResolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void chainOfProxies_skipsTrustedHopsFromTheRight() {
+        // Given
+        final MockHttpServletRequest request = request("10.0.0.5", "198.51.100.1, 203.0.113.7, 10.0.0.9");
+
+        // When / Then
+        assertThat(clientIpResolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void directRequest_ignoresSpoofedForwardedHeader() {
+        // Given
+        final MockHttpServletRequest request = request("203.0.113.7", "198.51.100.1");
+
+        // When / Then
+        assertThat(clientIpResolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void trustedProxyWithoutHeader_usesRemoteAddress() {
+        // Given
+        final MockHttpServletRequest request = request("10.0.0.5", null);
+
+        // When / Then
+        assertThat(clientIpResolver.resolve(request)).isEqualTo("10.0.0.5");
+    }
+
+    @Test
+    void malformedForwardedAddress_isTreatedAsClient() {
+        // Given
+        final MockHttpServletRequest request = request("10.0.0.5", "unknown");
+
+        // When / Then
+        assertThat(clientIpResolver.resolve(request)).isEqualTo("unknown");
+    }
+
+    private static MockHttpServletRequest request(final String remoteAddr, final String forwardedFor) {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,144 @@
+package io.learn.lexigeek.security.domain;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.account.dto.AccountDto;
+import io.learn.lexigeek.common.exception.NotFoundException;
+import io.learn.lexigeek.common.validation.ErrorCodes;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final AccountFacade accountFacade = mock(AccountFacade.class);
+    private final JwtKeyring jwtKeyring = new JwtKeyring(mock(JwtSigningKeyRepository.class),
+            mock(PlatformTransactionManager.class), Duration.ofDays(7), Duration.ofMinutes(10));
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtKeyring, accountFacade);
+    private final AccountDto account = new AccountDto(1L, UUID.randomUUID(), "user", EMAIL, null);
+    private final JwtSigningKey signingKey = JwtKeyringTest.key("kid-1", LocalDateTime.now().minusDays(1));
+
+    @BeforeEach
+    void setUp() {
+        jwtKeyring.load(List.of(signingKey), LocalDateTime.now());
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void accessToken_resolvesPrincipalFromClaims() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(JwtUtils.ACCESS_COOKIE_NAME, jwtKeyring.generateToken(account, 60)));
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isEqualTo(account);
+        verifyNoInteractions(accountFacade);
+    }
+
+    @Test
+    void refreshToken_mintsAccessTokenForExistingAccount() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(JwtUtils.REFRESH_COOKIE_NAME, jwtKeyring.generateToken(account, 60)));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        when(accountFacade.getAccountByEmail(EMAIL)).thenReturn(new AccountDto(1L, account.uuid(), "user", EMAIL, "hash"));
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getHeader("Set-Cookie")).startsWith(JwtUtils.ACCESS_COOKIE_NAME + "=");
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(account);
+        verify(accountFacade).getAccountByEmail(EMAIL);
+    }
+
+    @Test
+    void refreshToken_forDeletedAccount_leavesRequestUnauthenticated() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(JwtUtils.REFRESH_COOKIE_NAME, jwtKeyring.generateToken(account, 60)));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        when(accountFacade.getAccountByEmail(EMAIL)).thenThrow(new NotFoundException(ErrorCodes.USER_NOT_FOUND, EMAIL));
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getHeader("Set-Cookie")).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void refreshToken_forReRegisteredEmail_leavesRequestUnauthenticated() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(JwtUtils.REFRESH_COOKIE_NAME, jwtKeyring.generateToken(account, 60)));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        when(accountFacade.getAccountByEmail(EMAIL)).thenReturn(new AccountDto(2L, UUID.randomUUID(), "user", EMAIL, "hash"));
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getHeader("Set-Cookie")).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void tokenWithoutAccountClaims_leavesRequestUnauthenticated() throws Exception {
+        // Given
+        final String legacyToken = Jwts.builder()
+                .header().keyId(signingKey.getKid()).and()
+                .subject(EMAIL)
+                .signWith(Keys.hmacShaKeyFor(signingKey.getSecret()))
+                .compact();
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(JwtUtils.ACCESS_COOKIE_NAME, legacyToken));
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(accountFacade);
+    }
+
+    @Test
+    void invalidToken_leavesRequestUnauthenticated() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(JwtUtils.ACCESS_COOKIE_NAME, "not-a-token"));
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
@@ -0,0 +1,127 @@
+package io.learn.lexigeek.security.domain;
+
+import io.jsonwebtoken.Claims;
+import io.learn.lexigeek.account.dto.AccountDto;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtKeyringTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private final AccountDto account = new AccountDto(1L, UUID.randomUUID(), "user", "user@example.com", null);
+
+    @Test
+    void tokenSignedOnOneNode_isAcceptedByAnother() {
+        // Given
+        final List<JwtSigningKey> keys = List.of(key("kid-1", NOW.minusDays(1)));
+        final JwtKeyring issuer = keyring();
+        final JwtKeyring verifier = keyring();
+        issuer.load(keys, NOW);
+        verifier.load(keys, NOW);
+
+        // When
+        final Optional<Claims> claims = verifier.parseClaims(issuer.generateToken(account, 60));
+
+        // Then
+        assertThat(claims).isPresent();
+        assertThat(JwtUtils.toAccount(claims.get())).contains(account);
+    }
+
+    @Test
+    void newKeyIsNotUsedForSigningUntilActivated() {
+        // Given
+        final JwtSigningKey current = key("kid-1", NOW.minusDays(7));
+        final JwtSigningKey fresh = key("kid-2", NOW.minusMinutes(1));
+        final JwtKeyring keyring = keyring();
+        keyring.load(List.of(fresh, current), NOW);
+        final JwtKeyring onlyCurrent = keyring();
+        onlyCurrent.load(List.of(current), NOW);
+
+        // When
+        final String token = keyring.generateToken(account, 60);
+
+        // Then
+        assertThat(onlyCurrent.parseClaims(token)).isPresent();
+    }
+
+    @Test
+    void tokensSignedWithPreviousKey_remainValidAfterRotation() {
+        // Given
+        final JwtSigningKey previous = key("kid-1", NOW.minusDays(8));
+        final JwtSigningKey current = key("kid-2", NOW.minusDays(1));
+        final JwtKeyring before = keyring();
+        before.load(List.of(previous), NOW.minusDays(2));
+        final String token = before.generateToken(account, 60);
+        final JwtKeyring after = keyring();
+
+        // When
+        after.load(List.of(current, previous), NOW);
+
+        // Then
+        assertThat(after.parseClaims(token)).isPresent();
+    }
+
+    @Test
+    void tokenWithUnknownKid_isRejected() {
+        // Given
+        final JwtKeyring issuer = keyring();
+        issuer.load(List.of(key("kid-1", NOW.minusDays(1))), NOW);
+        final JwtKeyring verifier = keyring();
+        verifier.load(List.of(key("kid-2", NOW.minusDays(1))), NOW);
+
+        // When / Then
+        assertThat(verifier.parseClaims(issuer.generateToken(account, 60))).isEmpty();
+    }
+
+    @Test
+    void refresh_takesRotationLockBeforeInsertingKey() {
+        // Given
+        final JwtSigningKeyRepository repository = mock(JwtSigningKeyRepository.class);
+        when(repository.findByCreatedAfterOrderByCreatedDesc(any()))
+                .thenReturn(List.of(key("kid-1", LocalDateTime.now().minusDays(1))));
+        final JwtKeyring keyring = new JwtKeyring(repository, mock(PlatformTransactionManager.class),
+                Duration.ofDays(7), Duration.ofMinutes(10));
+
+        // When
+        keyring.refresh();
+
+        // Then
+        final InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).lockRotation(anyLong());
+        inOrder.verify(repository).insertIfNoneCreatedAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    void load_withoutKeys_throwsException() {
+        assertThatThrownBy(() -> keyring().load(List.of(), NOW)).isInstanceOf(IllegalStateException.class);
+    }
+
+    static JwtSigningKey key(final String kid, final LocalDateTime created) {
+        final JwtSigningKey key = new JwtSigningKey();
+        key.setKid(kid);
+        key.setSecret(UUID.randomUUID().toString().getBytes());
+        key.setCreated(created);
+        return key;
+    }
+
+    private static JwtKeyring keyring() {
+        return new JwtKeyring(mock(JwtSigningKeyRepository.class), mock(PlatformTransactionManager.class),
+                Duration.ofDays(7), Duration.ofMinutes(10));
+    }
+}
@@ -0,0 +1,56 @@
+package io.learn.lexigeek.security.domain;
+
+import io.learn.lexigeek.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String IP = "10.0.0.1";
+
+    private final LoginThrottle loginThrottle =
+            new LoginThrottle(new SimpleMeterRegistry(), 3, 5, Duration.ofMinutes(15));
+
+    @Test
+    void tooManyFailuresForEmail_throttlesRegardlessOfCase() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.recordFailure(EMAIL, "10.0.0." + i);
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> loginThrottle.check("User@Example.com", "10.0.0.99"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void tooManyFailuresFromIp_throttlesOtherEmails() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.recordFailure("user" + i + "@example.com", IP);
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> loginThrottle.check("other@example.com", IP))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> loginThrottle.check("other@example.com", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void success_resetsEmailFailures() {
+        // Given
+        loginThrottle.recordFailure(EMAIL, IP);
+        loginThrottle.recordFailure(EMAIL, IP);
+        loginThrottle.recordSuccess(EMAIL);
+        loginThrottle.recordFailure(EMAIL, IP);
+
+        // When / Then
+        assertThatCode(() -> loginThrottle.check(EMAIL, IP)).doesNotThrowAnyException();
+    }
+}
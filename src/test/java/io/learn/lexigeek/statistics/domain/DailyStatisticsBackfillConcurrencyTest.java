@@ -0,0 +1,109 @@
+package io.learn.lexigeek.statistics.domain;
+
+import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.account.dto.AccountForm;
+import io.learn.lexigeek.statistics.DailyStatisticsFacade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DailyStatisticsBackfillConcurrencyTest {
+
+    @Autowired
+    private AccountFacade accountFacade;
+
+    @Autowired
+    private DailyStatisticsFacade dailyStatisticsFacade;
+
+    @Autowired
+    private DailyStatisticsBackfillService backfillService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String email;
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        email = "backfill-" + UUID.randomUUID() + "@example.com";
+        accountFacade.createAccount(new AccountForm("backfill", email, "password"));
+        accountId = jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE email = ?", Long.class, email);
+        accountFacade.addStars(accountId, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM accounts WHERE email = ?", email);
+    }
+
+    @Test
+    void backfillDuringProcessing_keepsConcurrentIncrement() throws Exception {
+        // Given
+        final CountDownLatch incremented = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Future<?> processing = executor.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> {
+                        dailyStatisticsFacade.lockAccounts(List.of(accountId));
+                        accountFacade.addStars(accountId, 3);
+                        incremented.countDown();
+                        awaitQuietly(release);
+                    }));
+            assertThat(incremented.await(5, TimeUnit.SECONDS)).isTrue();
+
+            final Future<Integer> backfill = executor.submit(backfillService::backfillBatch);
+            awaitBlockedBackend();
+            release.countDown();
+
+            processing.get(10, TimeUnit.SECONDS);
+            backfill.get(10, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT stars FROM daily_statistics WHERE account_id = ? AND language_id IS NULL",
+                Integer.class, accountId)).isEqualTo(5);
+    }
+
+    private void awaitBlockedBackend() throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            final Integer waiting = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_locks WHERE NOT granted",
+                    Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
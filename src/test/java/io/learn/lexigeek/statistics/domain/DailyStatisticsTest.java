@@ -0,0 +1,177 @@
+package io.learn.lexigeek.statistics.domain;
+
+import io.learn.lexigeek.statistics.DailyStatisticsFacade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class DailyStatisticsTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 3, 10);
+    private static final LocalDate SECOND_DAY = FIRST_DAY.plusDays(1);
+    private static final int BACKFILL_MAX_EVENT_ATTEMPTS = 10;
+
+    @Autowired
+    private DailyStatisticsFacade dailyStatisticsFacade;
+
+    @Autowired
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Autowired
+    private StatisticsCache statisticsCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String emailPrefix = "daily-statistics-" + UUID.randomUUID() + "-";
+    private DailyStatisticsBackfillService dailyStatisticsBackfillService;
+    private Long accountId;
+    private Long languageId;
+    private UUID languageUuid;
+
+    @BeforeEach
+    void setUp() {
+        dailyStatisticsBackfillService = new DailyStatisticsBackfillService(dailyStatisticsRepository,
+                statisticsCache, transactionManager, 100, BACKFILL_MAX_EVENT_ATTEMPTS);
+        accountId = jdbcTemplate.queryForObject("""
+                INSERT INTO accounts (uuid, username, email, password)
+                VALUES (?, 'statistics', ?, 'password')
+                RETURNING id
+                """, Long.class, UUID.randomUUID(), emailPrefix + "0@example.com");
+        languageUuid = UUID.randomUUID();
+        languageId = jdbcTemplate.queryForObject("""
+                INSERT INTO languages (uuid, name, shortcut, account_id)
+                VALUES (?, 'Statistics', 'ST', ?)
+                RETURNING id
+                """, Long.class, languageUuid, accountId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM accounts WHERE email LIKE ?", emailPrefix + "%");
+    }
+
+    @Test
+    void incrementalUpdates_accumulatePerLanguageAndDay() {
+        // When
+        dailyStatisticsFacade.addLanguageStatistics(accountId, languageUuid, FIRST_DAY, 2, 1, 0);
+        dailyStatisticsFacade.addLanguageStatistics(accountId, languageUuid, FIRST_DAY, 1, 0, 3);
+        dailyStatisticsFacade.addLanguageStatistics(accountId, languageUuid, SECOND_DAY, 0, 2, 0);
+        dailyStatisticsFacade.addStars(accountId, FIRST_DAY, 4);
+        dailyStatisticsFacade.addStars(accountId, FIRST_DAY, 1);
+
+        // Then
+        assertThat(dailyStatisticsRepository.findLanguageStatistics(accountId, FIRST_DAY, SECOND_DAY, null))
+                .extracting(DailyLanguageStatisticsProjection::getDay,
+                        DailyLanguageStatisticsProjection::getLanguageUuid,
+                        DailyLanguageStatisticsProjection::getCorrectRepeats,
+                        DailyLanguageStatisticsProjection::getIncorrectRepeats,
+                        DailyLanguageStatisticsProjection::getWordsAdded)
+                .containsExactlyInAnyOrder(
+                        tuple(FIRST_DAY, languageUuid, 3, 1, 3),
+                        tuple(SECOND_DAY, languageUuid, 0, 2, 0));
+        assertThat(dailyStatisticsRepository.findStarsStatistics(accountId, FIRST_DAY, SECOND_DAY))
+                .extracting(DailyStarsProjection::getDay, DailyStarsProjection::getStars)
+                .containsExactly(tuple(FIRST_DAY, 5));
+        assertThat(dailyStatisticsRepository.findLanguageStatistics(accountId, FIRST_DAY, SECOND_DAY,
+                List.of(UUID.randomUUID()))).isEmpty();
+    }
+
+    @Test
+    void backfill_rebuildsFromHistory_andLeavesPendingEventsToTheProcessor() {
+        // Given
+        final Long categoryId = jdbcTemplate.queryForObject("""
+                INSERT INTO categories (uuid, name, mode, method, position, language_id)
+                VALUES (?, 'Statistics', 'DICTIONARY', 'BOTH', 0, ?)
+                RETURNING id
+                """, Long.class, UUID.randomUUID(), languageId);
+        final Long firstWordId = insertWord(categoryId, FIRST_DAY.atTime(9, 0));
+        final Long secondWordId = insertWord(categoryId, SECOND_DAY.atTime(9, 0));
+        insertWordStats(firstWordId, true, FIRST_DAY.atTime(10, 0));
+        insertWordStats(firstWordId, false, FIRST_DAY.atTime(10, 5));
+        insertWordStats(secondWordId, true, SECOND_DAY.atTime(10, 0));
+        insertWordStats(secondWordId, true, SECOND_DAY.atTime(10, 5));
+        // attempts above the running processor's limit keep the event pending for the whole test
+        jdbcTemplate.update("""
+                INSERT INTO outbox_events (type, account_id, language_uuid, task_type, correct, attempts, created)
+                VALUES ('WORD_ANSWERED', ?, ?, 'REPEAT_DICTIONARY', TRUE, ?, ?)
+                """, accountId, languageUuid, BACKFILL_MAX_EVENT_ATTEMPTS - 1, SECOND_DAY.atTime(10, 5));
+        jdbcTemplate.update("INSERT INTO account_stars (uuid, stars, account_id, created) VALUES (?, 3, ?, ?)",
+                UUID.randomUUID(), accountId, FIRST_DAY.atTime(11, 0));
+        dailyStatisticsFacade.addLanguageStatistics(accountId, languageUuid, FIRST_DAY, 40, 40, 40);
+
+        // When
+        dailyStatisticsBackfillService.backfill();
+
+        // Then
+        assertThat(languageRows()).containsExactlyInAnyOrder(
+                Map.of("day", Date.valueOf(FIRST_DAY), "correct_repeats", 1, "incorrect_repeats", 1,
+                        "words_added", 1),
+                Map.of("day", Date.valueOf(SECOND_DAY), "correct_repeats", 1, "incorrect_repeats", 0,
+                        "words_added", 1));
+        assertThat(dailyStatisticsRepository.findStarsStatistics(accountId, FIRST_DAY, SECOND_DAY))
+                .extracting(DailyStarsProjection::getDay, DailyStarsProjection::getStars)
+                .containsExactly(tuple(FIRST_DAY, 3));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM daily_statistics_backfills WHERE account_id = ?", Integer.class, accountId))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void backfill_skipsAccountsAlreadyBackfilled() {
+        // Given
+        dailyStatisticsBackfillService.backfill();
+        dailyStatisticsFacade.addLanguageStatistics(accountId, languageUuid, FIRST_DAY, 2, 0, 0);
+
+        // When
+        dailyStatisticsBackfillService.backfill();
+
+        // Then
+        assertThat(languageRows()).containsExactly(
+                Map.of("day", Date.valueOf(FIRST_DAY), "correct_repeats", 2, "incorrect_repeats", 0,
+                        "words_added", 0));
+    }
+
+    private Long insertWord(final Long categoryId, final LocalDateTime created) {
+        final Long wordId = jdbcTemplate.queryForObject("""
+                INSERT INTO words (uuid, mechanism, created)
+                VALUES (?, 'BASIC', ?)
+                RETURNING id
+                """, Long.class, UUID.randomUUID(), created);
+        jdbcTemplate.update("INSERT INTO category_word (category_id, word_id) VALUES (?, ?)", categoryId, wordId);
+        return wordId;
+    }
+
+    private void insertWordStats(final Long wordId, final boolean correct, final LocalDateTime answerTime) {
+        jdbcTemplate.update("""
+                INSERT INTO word_stats (uuid, method, word_id, correct, answer_time)
+                VALUES (?, 'QUESTION_TO_ANSWER', ?, ?, ?)
+                """, UUID.randomUUID(), wordId, correct, answerTime);
+    }
+
+    private List<Map<String, Object>> languageRows() {
+        return jdbcTemplate.queryForList("""
+                SELECT day, correct_repeats, incorrect_repeats, words_added
+                FROM daily_statistics
+                WHERE account_id = ? AND language_id = ?
+                """, accountId, languageId);
+    }
+}
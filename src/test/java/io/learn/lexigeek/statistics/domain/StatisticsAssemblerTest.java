@@ -0,0 +1,122 @@
+package io.learn.lexigeek.statistics.domain;
+
+import io.learn.lexigeek.statistics.dto.LanguageStats;
+import io.learn.lexigeek.statistics.dto.UserStatDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatisticsAssemblerTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 2, 27);
+    private static final LocalDate END = START.plusDays(3);
+
+    private final UUID english = UUID.randomUUID();
+    private final UUID german = UUID.randomUUID();
+
+    @Test
+    void assemble_emitsEveryDayWithPerLanguageStatsAndTotals() {
+        // Given
+        final StatisticsAssembler assembler = new StatisticsAssembler(START, END);
+        assembler.addLanguageStatistics(row(START, english, 3, 1, 2));
+        assembler.addLanguageStatistics(row(START, german, 1, 0, 0));
+        assembler.addLanguageStatistics(row(START.plusDays(2), german, 0, 4, 1));
+        assembler.addStars(stars(START.plusDays(2), 5));
+
+        // When
+        final List<UserStatDto> result = assembler.assemble(true, true);
+
+        // Then
+        assertThat(result).extracting(UserStatDto::date)
+                .containsExactly(START, START.plusDays(1), START.plusDays(2), END);
+        assertThat(result.getFirst()).isEqualTo(new UserStatDto(START, 4, 2, null, 1, Map.of(
+                english, new LanguageStats(3, 2, 1),
+                german, new LanguageStats(1, 0, 0))));
+        assertThat(result.get(1)).isEqualTo(new UserStatDto(START.plusDays(1), 0, 0, null, 0, Map.of()));
+        assertThat(result.get(2)).isEqualTo(new UserStatDto(START.plusDays(2), 0, 1, 5, 4, Map.of(
+                german, new LanguageStats(0, 1, 4))));
+    }
+
+    @Test
+    void assemble_withoutTotalsAndStars_leavesThemEmpty() {
+        // Given
+        final StatisticsAssembler assembler = new StatisticsAssembler(START, START);
+        assembler.addLanguageStatistics(row(START, english, 1, 1, 1));
+        assembler.addStars(stars(START, 2));
+
+        // When
+        final List<UserStatDto> result = assembler.assemble(false, false);
+
+        // Then
+        assertThat(result).containsExactly(new UserStatDto(START, null, null, null, null,
+                Map.of(english, new LanguageStats(1, 1, 1))));
+    }
+
+    @Test
+    void assemble_skipsZeroRowsAndRowsOutsideRange() {
+        // Given
+        final StatisticsAssembler assembler = new StatisticsAssembler(START, END);
+        assembler.addLanguageStatistics(row(START, english, 0, 0, 0));
+        assembler.addLanguageStatistics(row(START.minusDays(1), english, 5, 5, 5));
+        assembler.addLanguageStatistics(row(END.plusDays(1), english, 5, 5, 5));
+
+        // When
+        final List<UserStatDto> result = assembler.assemble(true, true);
+
+        // Then
+        assertThat(result).hasSize(4)
+                .allSatisfy(dto -> {
+                    assertThat(dto.languageStats()).isEmpty();
+                    assertThat(dto.repeat()).isZero();
+                });
+    }
+
+    private static DailyLanguageStatisticsProjection row(final LocalDate day, final UUID languageUuid,
+                                                         final int correct, final int incorrect, final int added) {
+        return new DailyLanguageStatisticsProjection() {
+            @Override
+            public LocalDate getDay() {
+                return day;
+            }
+
+            @Override
+            public UUID getLanguageUuid() {
+                return languageUuid;
+            }
+
+            @Override
+            public Integer getCorrectRepeats() {
+                return correct;
+            }
+
+            @Override
+            public Integer getIncorrectRepeats() {
+                return incorrect;
+            }
+
+            @Override
+            public Integer getWordsAdded() {
+                return added;
+            }
+        };
+    }
+
+    private static DailyStarsProjection stars(final LocalDate day, final int stars) {
+        return new DailyStarsProjection() {
+            @Override
+            public LocalDate getDay() {
+                return day;
+            }
+
+            @Override
+            public Integer getStars() {
+                return stars;
+            }
+        };
+    }
+}
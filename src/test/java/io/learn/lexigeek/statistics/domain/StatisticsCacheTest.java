@@ -0,0 +1,86 @@
+package io.learn.lexigeek.statistics.domain;
+
+import io.learn.lexigeek.statistics.dto.UserStatDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatisticsCacheTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final LocalDate START = LocalDate.now().minusDays(10);
+    private static final LocalDate END = LocalDate.now().minusDays(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatisticsCache statisticsCache = new StatisticsCache(meterRegistry, 100, Duration.ofMinutes(10));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_returnsCachedResultForSameKey() {
+        // When
+        final List<UserStatDto> first = get(Set.of(), true);
+        final List<UserStatDto> second = get(Set.of(), true);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "statistics").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void get_loadsSeparatelyForDifferentFlagsAndLanguages() {
+        // When
+        get(null, true);
+        get(null, false);
+        get(Set.of(UUID.randomUUID()), true);
+
+        // Then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void evict_pastDay_reloadsAccountStatistics() {
+        // Given
+        get(null, true);
+
+        // When
+        statisticsCache.evict(ACCOUNT_ID, END);
+        get(null, true);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evict_today_keepsCachedPastDays() {
+        // Given
+        get(null, true);
+
+        // When
+        statisticsCache.evict(ACCOUNT_ID, LocalDate.now());
+        statisticsCache.evict(2L, END);
+        get(null, true);
+
+        // Then
+        assertThat(loads).hasValue(1);
+    }
+
+    private List<UserStatDto> get(final Set<UUID> languageUuids, final boolean showTotal) {
+        final Supplier<List<UserStatDto>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of(new UserStatDto(START, 1, 1, null, 0, Map.of()));
+        };
+        return statisticsCache.get(ACCOUNT_ID, START, END, languageUuids, showTotal, true, loader);
+    }
+}
@@ -0,0 +1,201 @@
+package io.learn.lexigeek.statistics.domain;
+
+import io.learn.lexigeek.common.exception.ServiceUnavailableException;
+import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.learn.lexigeek.statistics.dto.UserStatDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StatisticsLoaderTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2025, 5, 5);
+
+    private final DailyStatisticsRepository dailyStatisticsRepository = mock(DailyStatisticsRepository.class);
+    private final UUID languageUuid = UUID.randomUUID();
+    private StatisticsLoader statisticsLoader;
+
+    @AfterEach
+    void tearDown() {
+        statisticsLoader.shutdown();
+    }
+
+    @Nested
+    class SequentialTests {
+
+        @Test
+        void load_combinesLanguageAndStarsRows() {
+            // Given
+            statisticsLoader = createLoader(false, Duration.ofSeconds(5));
+            stubRows();
+
+            // When
+            final List<UserStatDto> result = statisticsLoader.load(ACCOUNT_ID, DAY, DAY, null, true, true);
+
+            // Then
+            assertThat(result).singleElement().satisfies(dto -> {
+                assertThat(dto.repeat()).isEqualTo(2);
+                assertThat(dto.stars()).isEqualTo(4);
+            });
+        }
+
+        @Test
+        void load_withoutStars_skipsStarsQuery() {
+            // Given
+            statisticsLoader = createLoader(false, Duration.ofSeconds(5));
+            stubRows();
+
+            // When
+            statisticsLoader.load(ACCOUNT_ID, DAY, DAY, null, true, false);
+
+            // Then
+            verify(dailyStatisticsRepository, never()).findStarsStatistics(any(), any(), any());
+        }
+
+        @Test
+        void load_readsBothSourcesInOneTransaction() {
+            // Given
+            final CountingTransactionManager transactionManager = new CountingTransactionManager();
+            statisticsLoader = new StatisticsLoader(dailyStatisticsRepository, transactionManager, false,
+                    Duration.ofSeconds(5));
+            stubRows();
+
+            // When
+            statisticsLoader.load(ACCOUNT_ID, DAY, DAY, null, true, true);
+
+            // Then
+            assertThat(transactionManager.opened).hasValue(1);
+            assertThat(transactionManager.peak).hasValue(1);
+        }
+    }
+
+    @Nested
+    class ParallelTests {
+
+        @Test
+        void load_fetchesSourcesConcurrently() {
+            // Given
+            statisticsLoader = createLoader(true, Duration.ofSeconds(5));
+            stubRows();
+
+            // When
+            final List<UserStatDto> result = statisticsLoader.load(ACCOUNT_ID, DAY, DAY, null, true, true);
+
+            // Then
+            assertThat(result).singleElement().satisfies(dto -> {
+                assertThat(dto.repeat()).isEqualTo(2);
+                assertThat(dto.repeatErrors()).isEqualTo(1);
+                assertThat(dto.stars()).isEqualTo(4);
+            });
+        }
+
+        @Test
+        void load_holdsOneConnectionPerSource() {
+            // Given
+            final CountingTransactionManager transactionManager = new CountingTransactionManager();
+            statisticsLoader = new StatisticsLoader(dailyStatisticsRepository, transactionManager, true,
+                    Duration.ofSeconds(5));
+            stubRows();
+
+            // When
+            statisticsLoader.load(ACCOUNT_ID, DAY, DAY, null, true, true);
+
+            // Then
+            assertThat(transactionManager.opened).hasValue(2);
+            assertThat(transactionManager.peak.get()).isLessThanOrEqualTo(2);
+            assertThat(transactionManager.threads).hasSize(2).doesNotContain(Thread.currentThread());
+        }
+
+        @Test
+        void load_whenSourceIsTooSlow_throwsServiceUnavailable() {
+            // Given
+            statisticsLoader = createLoader(true, Duration.ofMillis(100));
+            stubRows();
+            when(dailyStatisticsRepository.findStarsStatistics(ACCOUNT_ID, DAY, DAY)).thenAnswer(invocation -> {
+                Thread.sleep(2_000);
+                return List.of();
+            });
+
+            // When / Then
+            assertThatThrownBy(() -> statisticsLoader.load(ACCOUNT_ID, DAY, DAY, null, true, true))
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .hasFieldOrPropertyWithValue("error", ErrorCodes.STATISTICS_TIMEOUT);
+        }
+
+        @Test
+        void load_whenSourceFails_rethrowsItsException() {
+            // Given
+            statisticsLoader = createLoader(true, Duration.ofSeconds(5));
+            stubRows();
+            when(dailyStatisticsRepository.findStarsStatistics(ACCOUNT_ID, DAY, DAY))
+                    .thenThrow(new IllegalStateException("boom"));
+
+            // When / Then
+            assertThatThrownBy(() -> statisticsLoader.load(ACCOUNT_ID, DAY, DAY, null, true, true))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+        }
+    }
+
+    private static final class CountingTransactionManager implements PlatformTransactionManager {
+
+        private final AtomicInteger opened = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public TransactionStatus getTransaction(final TransactionDefinition definition) {
+            opened.incrementAndGet();
+            threads.add(Thread.currentThread());
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(final TransactionStatus status) {
+            active.decrementAndGet();
+        }
+
+        @Override
+        public void rollback(final TransactionStatus status) {
+            active.decrementAndGet();
+        }
+    }
+
+    private StatisticsLoader createLoader(final boolean parallel, final Duration timeout) {
+        return new StatisticsLoader(dailyStatisticsRepository, mock(PlatformTransactionManager.class), parallel, timeout);
+    }
+
+    private void stubRows() {
+        final DailyLanguageStatisticsProjection languageRow = mock(DailyLanguageStatisticsProjection.class);
+        when(languageRow.getDay()).thenReturn(DAY);
+        when(languageRow.getLanguageUuid()).thenReturn(languageUuid);
+        when(languageRow.getCorrectRepeats()).thenReturn(2);
+        when(languageRow.getIncorrectRepeats()).thenReturn(1);
+        when(languageRow.getWordsAdded()).thenReturn(0);
+        final DailyStarsProjection starsRow = mock(DailyStarsProjection.class);
+        when(starsRow.getDay()).thenReturn(DAY);
+        when(starsRow.getStars()).thenReturn(4);
+        when(dailyStatisticsRepository.findLanguageStatistics(ACCOUNT_ID, DAY, DAY, null)).thenReturn(List.of(languageRow));
+        when(dailyStatisticsRepository.findStarsStatistics(ACCOUNT_ID, DAY, DAY)).thenReturn(List.of(starsRow));
+    }
+}
@@ -0,0 +1,50 @@
+package io.learn.lexigeek.statistics.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StatisticsQueryPlanTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 1, 31);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void languageStatisticsRange_usesAccountDayIndex() {
+        // When
+        final String plan = explain("""
+                SELECT d.day, l.uuid, d.correct_repeats, d.incorrect_repeats, d.words_added
+                FROM daily_statistics d
+                JOIN languages l ON l.id = d.language_id
+                WHERE d.account_id = ?
+                  AND d.language_id IS NOT NULL
+                  AND d.day BETWEEN ? AND ?
+                """);
+
+        // Then
+        assertThat(plan).contains("idx_daily_statistics_account_day");
+    }
+
+    private String explain(final String sql) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            final List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, 1L, START, END);
+            return String.join("\n", lines);
+        });
+    }
+}
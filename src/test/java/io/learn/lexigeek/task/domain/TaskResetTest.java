@@ -0,0 +1,216 @@
+package io.learn.lexigeek.task.domain;
+
+import io.learn.lexigeek.common.utils.DateTimeUtils;
+import io.learn.lexigeek.task.dto.TaskType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TaskResetTest {
+
+    @MockitoBean
+    private TaskSchedulerService taskSchedulerService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String emailPrefix = "reset-" + UUID.randomUUID() + "-";
+    private Long firstAccountId;
+    private Long secondAccountId;
+    private Long customLanguageId;
+    private Long defaultLanguageId;
+    private Long otherAccountLanguageId;
+
+    @BeforeEach
+    void setUp() {
+        firstAccountId = insertAccount(0);
+        secondAccountId = insertAccount(1);
+        customLanguageId = insertLanguage(firstAccountId);
+        defaultLanguageId = insertLanguage(firstAccountId);
+        otherAccountLanguageId = insertLanguage(secondAccountId);
+
+        jdbcTemplate.update("""
+                INSERT INTO task_settings (uuid, language_id, account_id,
+                                           repeat_dictionary_enabled, repeat_dictionary_maximum,
+                                           repeat_exercise_enabled, add_dictionary_enabled, add_dictionary_maximum,
+                                           add_exercise_enabled)
+                VALUES (?, ?, ?, TRUE, 50, FALSE, TRUE, 20, FALSE)
+                """, UUID.randomUUID(), customLanguageId, firstAccountId);
+        insertDefaultSettings(defaultLanguageId, firstAccountId);
+        insertDefaultSettings(otherAccountLanguageId, secondAccountId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM accounts WHERE email LIKE ?", emailPrefix + "%");
+    }
+
+    @Test
+    void resetsExistingRowsInPlace_andInsertsOrDeletesOnlyChangedSettings() {
+        // Given
+        final Long keptTaskId = insertTask(firstAccountId, customLanguageId, "REPEAT_DICTIONARY", 12, 30, 1);
+        final Long disabledTaskId = insertTask(firstAccountId, customLanguageId, "REPEAT_EXERCISE", 5, 30, 3);
+
+        // When
+        resetTasks(firstAccountId);
+        resetTasks(secondAccountId);
+
+        // Then
+        final Map<String, Object> keptTask = jdbcTemplate.queryForMap(
+                "SELECT current, maximum, stars_reward FROM tasks WHERE id = ?", keptTaskId);
+        assertThat(keptTask).containsEntry("current", 0)
+                .containsEntry("maximum", 50)
+                .containsEntry("stars_reward", 2);
+        assertThat(countTasks("id = ?", disabledTaskId)).isZero();
+
+        assertThat(taskTypes(customLanguageId)).containsExactlyInAnyOrder("REPEAT_DICTIONARY", "ADD_DICTIONARY");
+        assertThat(taskTypes(defaultLanguageId))
+                .containsExactlyInAnyOrder("REPEAT_DICTIONARY", "REPEAT_EXERCISE", "ADD_DICTIONARY");
+        assertThat(taskTypes(otherAccountLanguageId))
+                .containsExactlyInAnyOrder("REPEAT_DICTIONARY", "REPEAT_EXERCISE", "ADD_DICTIONARY");
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT stars_reward FROM tasks WHERE language_id = ? AND type = 'ADD_DICTIONARY'
+                """, Integer.class, customLanguageId)).isEqualTo(3);
+    }
+
+    @Test
+    void incrementCurrent_skipsProgressThatPredatesTheReset() {
+        // Given
+        final LocalDateTime resetAt = LocalDateTime.of(2025, 3, 15, 0, 0);
+        resetTasks(firstAccountId, resetAt);
+        final UUID languageUuid = jdbcTemplate.queryForObject("SELECT uuid FROM languages WHERE id = ?",
+                UUID.class, defaultLanguageId);
+
+        // When
+        final Integer stale = new TransactionTemplate(transactionManager).execute(status ->
+                taskRepository.incrementCurrent(firstAccountId, TaskType.REPEAT_DICTIONARY, languageUuid, 3,
+                        resetAt.minusSeconds(1)));
+        final Integer fresh = new TransactionTemplate(transactionManager).execute(status ->
+                taskRepository.incrementCurrent(firstAccountId, TaskType.REPEAT_DICTIONARY, languageUuid, 2,
+                        resetAt.plusSeconds(1)));
+
+        // Then
+        assertThat(stale).isZero();
+        assertThat(fresh).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT current FROM tasks WHERE language_id = ? AND type = 'REPEAT_DICTIONARY'
+                """, Integer.class, defaultLanguageId)).isEqualTo(2);
+    }
+
+    @Test
+    void incrementCurrent_allowsProgressOverMaximum() {
+        // Given
+        final LocalDateTime resetAt = LocalDateTime.of(2025, 3, 15, 0, 0);
+        resetTasks(firstAccountId, resetAt);
+        final UUID languageUuid = jdbcTemplate.queryForObject("SELECT uuid FROM languages WHERE id = ?",
+                UUID.class, customLanguageId);
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                taskRepository.incrementCurrent(firstAccountId, TaskType.ADD_DICTIONARY, languageUuid, 25, resetAt));
+
+        // Then
+        assertThat(jdbcTemplate.queryForMap("""
+                SELECT current, maximum FROM tasks WHERE language_id = ? AND type = 'ADD_DICTIONARY'
+                """, customLanguageId)).containsEntry("current", 25).containsEntry("maximum", 20);
+    }
+
+    @Test
+    void insertedTasks_deriveStarsRewardForEveryTaskType() {
+        // Given
+        final Long languageId = insertLanguage(secondAccountId);
+        jdbcTemplate.update("""
+                INSERT INTO task_settings (uuid, language_id, account_id,
+                                           repeat_dictionary_enabled, repeat_dictionary_maximum,
+                                           repeat_exercise_enabled, repeat_exercise_maximum,
+                                           add_dictionary_enabled, add_dictionary_maximum,
+                                           add_exercise_enabled, add_exercise_maximum)
+                VALUES (?, ?, ?, TRUE, 100, TRUE, 100, TRUE, 100, TRUE, 100)
+                """, UUID.randomUUID(), languageId, secondAccountId);
+
+        // When
+        resetTasks(secondAccountId);
+
+        // Then
+        final Map<String, Integer> rewards = new HashMap<>();
+        jdbcTemplate.query("SELECT type, stars_reward FROM tasks WHERE language_id = ?", rs -> {
+            rewards.put(rs.getString("type"), rs.getInt("stars_reward"));
+        }, languageId);
+        assertThat(rewards).containsOnly(
+                Map.entry("REPEAT_DICTIONARY", 5),
+                Map.entry("REPEAT_EXERCISE", 10),
+                Map.entry("ADD_DICTIONARY", 12),
+                Map.entry("ADD_EXERCISE", 20));
+    }
+
+    private void resetTasks(final Long accountId) {
+        resetTasks(accountId, DateTimeUtils.timestampUTC());
+    }
+
+    private void resetTasks(final Long accountId, final LocalDateTime resetAt) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskRepository.deleteDisabledTasks(accountId);
+            taskRepository.resetTasks(accountId, resetAt);
+            taskRepository.insertMissingTasks(accountId, resetAt);
+        });
+    }
+
+    private Long insertAccount(final int index) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO accounts (uuid, username, email, password)
+                VALUES (?, 'reset', ?, 'password')
+                RETURNING id
+                """, Long.class, UUID.randomUUID(), emailPrefix + index + "@example.com");
+    }
+
+    private Long insertLanguage(final Long accountId) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO languages (uuid, name, shortcut, account_id)
+                VALUES (?, 'Reset', 'RS', ?)
+                RETURNING id
+                """, Long.class, UUID.randomUUID(), accountId);
+    }
+
+    private void insertDefaultSettings(final Long languageId, final Long accountId) {
+        jdbcTemplate.update("INSERT INTO task_settings (uuid, language_id, account_id) VALUES (?, ?, ?)",
+                UUID.randomUUID(), languageId, accountId);
+    }
+
+    private Long insertTask(final Long accountId, final Long languageId, final String type,
+                            final int current, final int maximum, final int starsReward) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO tasks (uuid, type, current, maximum, stars_reward, language_id, account_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                RETURNING id
+                """, Long.class, UUID.randomUUID(), type, current, maximum, starsReward, languageId, accountId);
+    }
+
+    private List<String> taskTypes(final Long languageId) {
+        return jdbcTemplate.queryForList("SELECT type FROM tasks WHERE language_id = ?", String.class, languageId);
+    }
+
+    private Integer countTasks(final String condition, final Object argument) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE " + condition, Integer.class, argument);
+    }
+}
@@ -0,0 +1,181 @@
+package io.learn.lexigeek.task.domain;
+
+import io.learn.lexigeek.task.dto.TaskFrequency;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskScheduleCalculatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 0, 30);
+
+    @Nested
+    class DailyTests {
+
+        @Test
+        void beforeScheduledTime_returnsToday() {
+            // Given
+            final TaskSchedule schedule = createSchedule(TaskFrequency.DAILY, null, 12, 30, null);
+
+            // When
+            final LocalDateTime result = TaskScheduleCalculator.calculateNextRunAt(schedule, NOW);
+
+            // Then
+            assertThat(result).isEqualTo(LocalDateTime.of(2025, 1, 15, 12, 30));
+        }
+
+        @Test
+        void afterScheduledTime_returnsTomorrow() {
+            // Given
+            final TaskSchedule schedule = createSchedule(TaskFrequency.DAILY, null, 8, 0, null);
+
+            // When
+            final LocalDateTime result = TaskScheduleCalculator.calculateNextRunAt(schedule, NOW);
+
+            // Then
+            assertThat(result).isEqualTo(LocalDateTime.of(2025, 1, 16, 8, 0));
+        }
+
+        @Test
+        void alreadyRunToday_returnsTomorrow() {
+            // Given
+            final TaskSchedule schedule = createSchedule(TaskFrequency.DAILY, null, 12, 30,
+                    LocalDateTime.of(2025, 1, 15, 6, 0));
+
+            // When
+            final LocalDateTime result = TaskScheduleCalculator.calculateNextRunAt(schedule, NOW);
+
+            // Then
+            assertThat(result).isEqualTo(LocalDateTime.of(2025, 1, 16, 12, 30));
+        }
+
+        @Test
+        void justRun_returnsNextDay() {
+            // Given
+            final TaskSchedule schedule = createSchedule(TaskFrequency.DAILY, null, 10, 0, NOW);
+
+            // When
+            final LocalDateTime result = TaskScheduleCalculator.calculateNextRunAt(schedule, NOW);
+
+            // Then
+            assertThat(result).isEqualTo(LocalDateTime.of(2025, 1, 16, 10, 0));
+        }
+    }
+
+    @Nested
+    class EveryNDaysTests {
+
+        @Test
+        void withLastRun_returnsLastRunPlusInterval() {
+            // Given
+            final TaskSchedule schedule = createSchedule(TaskFrequency.EVERY_N_DAYS, 3, 10, 0,
+                    LocalDateTime.of(2025, 1, 15, 10, 0));
+
+            // When
+            final LocalDateTime result = TaskScheduleCalculator.calculateNextRunAt(schedule, NOW);
+
+            // Then
+            assertThat(result).isEqualTo(LocalDateTime.of(2025, 1, 18, 10, 0));
+        }
+
+        @Test
+        void withoutLastRun_returnsNextOccurrence() {
+            // Given
+            final TaskSchedule schedule = createSchedule(TaskFrequency.EVERY_N_DAYS, 3, 11, 0, null);
+
+            // When
+            final LocalDateTime result = TaskScheduleCalculator.calculateNextRunAt(schedule, NOW);
+
+            // Then
+            assertThat(result).isEqualTo(LocalDateTime.of(2025, 1, 15, 11, 0));
+        }
+
+        @Test
+        void withInvalidInterval_defaultsToOneDay() {
+            // Given
+            final TaskSchedule schedule = createSchedule(TaskFrequency.EVERY_N_DAYS, 0, 10, 0,
+                    LocalDateTime.of(2025, 1, 15, 10, 0));
+
+            // When
+            final LocalDateTime result = TaskScheduleCalculator.calculateNextRunAt(schedule, NOW);
+
+            // Then
+            assertThat(result).isEqualTo(LocalDateTime.of(2025, 1, 16, 10, 0));
+        }
+    }
+
+    @Nested
+    class WeeklyTests {
+
+        @Test
+        void returnsNextMatchingDayOfWeek() {
+            // Given
+            final TaskSchedule schedule = createSchedule(TaskFrequency.WEEKLY, 1, 9, 0, null);
+
+            // When
+            final LocalDateTime result = TaskScheduleCalculator.calculateNextRunAt(schedule, NOW);
+
+            // Then
+            assertThat(result).isEqualTo(LocalDateTime.of(2025, 1, 20, 9, 0));
+        }
+
+        @Test
+        void withInvalidDay_defaultsToMonday() {
+            // Given
+            final TaskSchedule schedule = createSchedule(TaskFrequency.WEEKLY, 9, 9, 0, null);
+
+            // When
+            final LocalDateTime result = TaskScheduleCalculator.calculateNextRunAt(schedule, NOW);
+
+            // Then
+            assertThat(result).isEqualTo(LocalDateTime.of(2025, 1, 20, 9, 0));
+        }
+    }
+
+    @Nested
+    class MonthlyTests {
+
+        @Test
+        void returnsNextMatchingDayOfMonth() {
+            // Given
+            final TaskSchedule schedule = createSchedule(TaskFrequency.MONTHLY, 10, 9, 0, null);
+
+            // When
+            final LocalDateTime result = TaskScheduleCalculator.calculateNextRunAt(schedule, NOW);
+
+            // Then
+            assertThat(result).isEqualTo(LocalDateTime.of(2025, 2, 10, 9, 0));
+        }
+
+        @Test
+        void whenDayExceedsMonthLength_returnsLastDayOfMonth() {
+            // Given
+            final TaskSchedule schedule = createSchedule(TaskFrequency.MONTHLY, 31, 9, 0,
+                    LocalDateTime.of(2025, 1, 31, 9, 0));
+
+            // When
+            final LocalDateTime result = TaskScheduleCalculator.calculateNextRunAt(schedule,
+                    LocalDateTime.of(2025, 1, 31, 9, 0));
+
+            // Then
+            assertThat(result).isEqualTo(LocalDateTime.of(2025, 2, 28, 9, 0));
+        }
+    }
+
+    private TaskSchedule createSchedule(final TaskFrequency frequency,
+                                        final Integer frequencyValue,
+                                        final int hour,
+                                        final int minute,
+                                        final LocalDateTime lastRunAt) {
+        final TaskSchedule schedule = new TaskSchedule();
+        schedule.setFrequency(frequency);
+        schedule.setFrequencyValue(frequencyValue);
+        schedule.setHour(hour);
+        schedule.setMinute(minute);
+        schedule.setLastRunAt(lastRunAt);
+        return schedule;
+    }
+}
@@ -0,0 +1,165 @@
+package io.learn.lexigeek.task.domain;
+
+import io.learn.lexigeek.account.dto.AccountDto;
+import io.learn.lexigeek.task.TaskFacade;
+import io.learn.lexigeek.task.dto.TaskFrequency;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class TaskScheduleExecutorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 9, 0);
+    private static final int PARALLELISM = 2;
+
+    private final TaskScheduleRepository taskScheduleRepository = mock(TaskScheduleRepository.class);
+    private final TaskFacade taskFacade = mock(TaskFacade.class);
+    private final TaskScheduleLeaseService taskScheduleLeaseService = mock(TaskScheduleLeaseService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskScheduleExecutor taskScheduleExecutor = new TaskScheduleExecutor(
+            taskScheduleRepository,
+            taskFacade,
+            taskScheduleLeaseService,
+            mock(PlatformTransactionManager.class),
+            meterRegistry,
+            PARALLELISM
+    );
+
+    @Nested
+    class ExecuteTests {
+
+        @Test
+        void success_reloadsTasksAndAdvancesSchedules() {
+            // Given
+            final TaskSchedule first = createSchedule(1L);
+            final TaskSchedule second = createSchedule(2L);
+
+            // When
+            taskScheduleExecutor.execute(List.of(first, second), NOW);
+
+            // Then
+            verify(taskFacade, times(2)).reloadTasks(any(AccountDto.class));
+            assertThat(first.getLastRunAt()).isEqualTo(NOW);
+            assertThat(first.getNextRunAt()).isEqualTo(NOW.plusDays(1));
+            assertThat(second.getLastRunAt()).isEqualTo(NOW);
+            assertThat(meterRegistry.timer("lexigeek.task.schedule.run", "outcome", "success").count()).isEqualTo(2);
+            assertThat(meterRegistry.timer("lexigeek.task.schedule.batch").count()).isEqualTo(1);
+        }
+
+        @Test
+        void whenOneAccountFails_continuesWithOthersAndSkipsFailedRun() {
+            // Given
+            final TaskSchedule failing = createSchedule(1L);
+            final TaskSchedule healthy = createSchedule(2L);
+            doThrow(new IllegalStateException("boom")).when(taskFacade)
+                    .reloadTasks(argThat(account -> account != null && account.id().equals(1L)));
+
+            // When
+            taskScheduleExecutor.execute(List.of(failing, healthy), NOW);
+
+            // Then
+            assertThat(failing.getLastRunAt()).isNull();
+            assertThat(failing.getNextRunAt()).isEqualTo(NOW.plusDays(1));
+            assertThat(healthy.getLastRunAt()).isEqualTo(NOW);
+            assertThat(meterRegistry.timer("lexigeek.task.schedule.run", "outcome", "failure").count()).isEqualTo(1);
+            assertThat(meterRegistry.timer("lexigeek.task.schedule.run", "outcome", "success").count()).isEqualTo(1);
+        }
+
+        @Test
+        void success_releasesLeaseAfterRun() {
+            // Given
+            final TaskSchedule schedule = createSchedule(1L);
+
+            // When
+            taskScheduleExecutor.execute(List.of(schedule), NOW);
+
+            // Then
+            verify(taskScheduleLeaseService).releaseLease(schedule);
+            verify(taskScheduleRepository).save(schedule);
+        }
+
+        @Test
+        void whenLeaseTakenOver_doesNotAdvanceSchedule() {
+            // Given
+            final TaskSchedule schedule = createSchedule(1L);
+            when(taskScheduleLeaseService.lockLeasedSchedule(1L)).thenReturn(Optional.empty());
+
+            // When
+            taskScheduleExecutor.execute(List.of(schedule), NOW);
+
+            // Then
+            verify(taskFacade, never()).reloadTasks(any(AccountDto.class));
+            assertThat(schedule.getLastRunAt()).isNull();
+            assertThat(schedule.getNextRunAt()).isNull();
+            verify(taskScheduleRepository, never()).save(any());
+            assertThat(meterRegistry.timer("lexigeek.task.schedule.run", "outcome", "lease_lost").count()).isEqualTo(1);
+        }
+
+        @Test
+        void success_neverExceedsConfiguredParallelism() {
+            // Given
+            final AtomicInteger running = new AtomicInteger();
+            final AtomicInteger maxRunning = new AtomicInteger();
+            doAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return List.of();
+            }).when(taskFacade).reloadTasks(any(AccountDto.class));
+
+            final List<TaskSchedule> schedules = List.of(createSchedule(1L), createSchedule(2L),
+                    createSchedule(3L), createSchedule(4L), createSchedule(5L), createSchedule(6L));
+
+            // When
+            taskScheduleExecutor.execute(schedules, NOW);
+
+            // Then
+            verify(taskFacade, times(6)).reloadTasks(any(AccountDto.class));
+            assertThat(maxRunning.get()).isBetween(1, PARALLELISM);
+        }
+    }
+
+    @Nested
+    class BacklogTests {
+
+        @Test
+        void success_decrementsBacklogAsSchedulesComplete() {
+            // Given
+            taskScheduleExecutor.updateBacklog(3);
+
+            // When
+            taskScheduleExecutor.execute(List.of(createSchedule(1L), createSchedule(2L)), NOW);
+
+            // Then
+            assertThat(meterRegistry.get("lexigeek.task.schedule.backlog").gauge().value()).isEqualTo(1.0);
+        }
+    }
+
+    private TaskSchedule createSchedule(final Long id) {
+        final Account account = mock(Account.class);
+        when(account.getId()).thenReturn(id);
+        when(account.getUuid()).thenReturn(UUID.randomUUID());
+
+        final TaskSchedule schedule = spy(new TaskSchedule());
+        doReturn(id).when(schedule).getId();
+        schedule.setAccount(account);
+        schedule.setFrequency(TaskFrequency.DAILY);
+        schedule.setHour(NOW.getHour());
+        schedule.setMinute(NOW.getMinute());
+        when(taskScheduleLeaseService.lockLeasedSchedule(id)).thenReturn(Optional.of(schedule));
+        when(taskScheduleRepository.findById(id)).thenReturn(Optional.of(schedule));
+        return schedule;
+    }
+}
@@ -0,0 +1,154 @@
+package io.learn.lexigeek.task.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TaskScheduleLeaseServiceTest {
+
+    private static final int SCHEDULE_COUNT = 60;
+    private static final int NODE_COUNT = 4;
+    private static final int CHUNK_SIZE = 7;
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(5);
+    private static final LocalDateTime DUE_AT = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime NOW = DUE_AT.plusMinutes(1);
+
+    @MockitoBean
+    private TaskSchedulerService taskSchedulerService;
+
+    @Autowired
+    private TaskScheduleRepository taskScheduleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String emailPrefix = "lease-" + UUID.randomUUID() + "-";
+    private final Set<Long> scheduleIds = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            final Long accountId = jdbcTemplate.queryForObject("""
+                    INSERT INTO accounts (uuid, username, email, password)
+                    VALUES (?, 'lease', ?, 'password')
+                    RETURNING id
+                    """, Long.class, UUID.randomUUID(), emailPrefix + i + "@example.com");
+            final Long scheduleId = jdbcTemplate.queryForObject("""
+                    INSERT INTO task_schedules (uuid, account_id, next_run_at)
+                    VALUES (?, ?, ?)
+                    RETURNING id
+                    """, Long.class, UUID.randomUUID(), accountId, DUE_AT);
+            scheduleIds.add(scheduleId);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM accounts WHERE email LIKE ?", emailPrefix + "%");
+    }
+
+    @Test
+    void concurrentNodes_claimDisjointSchedules() throws InterruptedException {
+        // Given
+        final List<TaskScheduleLeaseService> nodes = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodes.add(createNode("node-" + i));
+        }
+        final Queue<Long> claimedIds = new ConcurrentLinkedQueue<>();
+        final Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final TaskScheduleLeaseService node : nodes) {
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        List<TaskSchedule> claimed;
+                        do {
+                            claimed = node.claimDueSchedules(NOW, CHUNK_SIZE);
+                            claimed.forEach(schedule -> claimedIds.add(schedule.getId()));
+                        } while (!claimed.isEmpty());
+                    } catch (final Throwable e) {
+                        errors.add(e);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+
+        // Then
+        assertThat(errors).isEmpty();
+        final List<Long> ownClaims = claimedIds.stream()
+                .filter(scheduleIds::contains)
+                .toList();
+        assertThat(ownClaims).doesNotHaveDuplicates();
+        assertThat(ownClaims).containsExactlyInAnyOrderElementsOf(scheduleIds);
+
+        final Integer leasedByNodes = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM task_schedules ts
+                JOIN accounts a ON a.id = ts.account_id
+                WHERE a.email LIKE ? AND ts.lease_owner LIKE 'node-%'
+                """, Integer.class, emailPrefix + "%");
+        assertThat(leasedByNodes).isEqualTo(SCHEDULE_COUNT);
+    }
+
+    @Test
+    void expiredLease_isClaimedByAnotherNode() {
+        // Given
+        final TaskScheduleLeaseService crashedNode = createNode("crashed-node");
+        final TaskScheduleLeaseService survivingNode = createNode("surviving-node");
+        final Set<Long> crashedClaims = claimAll(crashedNode, NOW);
+
+        // When
+        final Set<Long> claimsBeforeExpiry = claimAll(survivingNode, NOW.plus(LEASE_DURATION).minusSeconds(1));
+        final Set<Long> claimsAfterExpiry = claimAll(survivingNode, NOW.plus(LEASE_DURATION).plusSeconds(1));
+
+        // Then
+        assertThat(crashedClaims).containsAll(scheduleIds);
+        assertThat(claimsBeforeExpiry).doesNotContainAnyElementsOf(scheduleIds);
+        assertThat(claimsAfterExpiry).containsAll(scheduleIds);
+    }
+
+    private Set<Long> claimAll(final TaskScheduleLeaseService node, final LocalDateTime now) {
+        final Set<Long> claimed = new HashSet<>();
+        List<TaskSchedule> chunk;
+        do {
+            chunk = node.claimDueSchedules(now, CHUNK_SIZE);
+            chunk.forEach(schedule -> claimed.add(schedule.getId()));
+        } while (!chunk.isEmpty());
+        return claimed;
+    }
+
+    private TaskScheduleLeaseService createNode(final String nodeId) {
+        return new TaskScheduleLeaseService(taskScheduleRepository, transactionManager, nodeId, LEASE_DURATION);
+    }
+}
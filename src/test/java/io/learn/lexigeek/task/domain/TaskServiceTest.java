@@ -3,12 +3,19 @@ package io.learn.lexigeek.task.domain;
 import io.learn.lexigeek.account.AccountFacade;
 import io.learn.lexigeek.account.dto.AccountDto;
 import io.learn.lexigeek.common.exception.NotFoundException;
+import io.learn.lexigeek.common.utils.DateTimeUtils;
 import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.learn.lexigeek.event.EventFacade;
+import io.learn.lexigeek.event.dto.StarsAwardedEvent;
 import io.learn.lexigeek.task.dto.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -16,7 +23,10 @@ import java.util.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class TaskServiceTest {
@@ -27,15 +37,9 @@ class TaskServiceTest {
     private final AccountRepository accountRepository = mock(AccountRepository.class);
     private final LanguageRepository languageRepository = mock(LanguageRepository.class);
     private final AccountFacade accountFacade = mock(AccountFacade.class);
+    private final EventFacade eventFacade = mock(EventFacade.class);
 
-    private final TaskService taskService = new TaskService(
-            taskRepository,
-            taskSettingsRepository,
-            taskScheduleRepository,
-            accountRepository,
-            languageRepository,
-            accountFacade
-    );
+    private final TaskService taskService = createTaskService(false);
 
     private UUID accountUuid;
     private UUID languageUuid;
@@ -111,163 +115,193 @@ class TaskServiceTest {
     class ReloadTasksTests {
 
         @Test
-        void success_deletesOldAndCreatesNewTasks() {
+        void success_resetsTasksInPlaceAndReturnsCurrentTasks() {
             // Given
             when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
-            when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
 
             Task oldTask = createTask(TaskType.REPEAT_DICTIONARY, 15, 30, 2);
-            when(taskRepository.findAllByAccountId(accountId)).thenReturn(List.of(oldTask));
-
-            TaskSettings settings = createTaskSettings();
-            when(taskSettingsRepository.findAllByAccountId(accountId)).thenReturn(List.of(settings));
-
-            ArgumentCaptor<List<Task>> taskCaptor = ArgumentCaptor.forClass(List.class);
-            when(taskRepository.saveAll(taskCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+            Task resetTask = createTask(TaskType.REPEAT_DICTIONARY, 0, 50, 2);
+            when(taskRepository.findAllByAccountId(accountId))
+                    .thenReturn(List.of(oldTask))
+                    .thenReturn(List.of(resetTask));
 
             // When
             List<TaskDto> result = taskService.reloadTasks();
 
             // Then
-            assertThat(result).isNotEmpty();
-            verify(taskRepository).deleteAllByAccountId(accountId);
-            verify(taskRepository).saveAll(any());
-
-            List<Task> savedTasks = taskCaptor.getValue();
-            assertThat(savedTasks).hasSize(3); // 3 enabled task types in default settings
-            assertThat(savedTasks).extracting(Task::getCurrent).allMatch(current -> current == 0);
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).current()).isZero();
+            assertThat(result.get(0).maximum()).isEqualTo(50);
+
+            InOrder inOrder = inOrder(taskRepository);
+            inOrder.verify(taskRepository).deleteDisabledTasks(accountId);
+            inOrder.verify(taskRepository).resetTasks(eq(accountId), any());
+            inOrder.verify(taskRepository).insertMissingTasks(eq(accountId), any());
+            verify(taskRepository, never()).saveAll(any());
         }
 
         @Test
         void success_awardsStarsForCompletedTasks() {
             // Given
             when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
-            when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
 
             Task completedTask = createTask(TaskType.REPEAT_DICTIONARY, 30, 30, 5);
             when(taskRepository.findAllByAccountId(accountId)).thenReturn(List.of(completedTask));
 
-            when(taskSettingsRepository.findAllByAccountId(accountId)).thenReturn(Collections.emptyList());
-            when(taskRepository.saveAll(any())).thenReturn(Collections.emptyList());
-
             // When
             taskService.reloadTasks();
 
             // Then
-            verify(accountFacade).addStars(accountDto, 5);
-            verify(taskRepository).deleteAllByAccountId(accountId);
+            verify(eventFacade).publish(new StarsAwardedEvent(accountId, languageUuid, "English", TaskType.REPEAT_DICTIONARY, 5));
+            verify(taskRepository).resetTasks(eq(accountId), any());
         }
 
         @Test
         void success_awardsStarsForMultipleCompletedTasks() {
             // Given
             when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
-            when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
 
             Task completedTask1 = createTask(TaskType.REPEAT_DICTIONARY, 30, 30, 5);
             Task completedTask2 = createTask(TaskType.ADD_DICTIONARY, 10, 10, 3);
             Task incompleteTask = createTask(TaskType.REPEAT_EXERCISE, 15, 30, 2);
             when(taskRepository.findAllByAccountId(accountId)).thenReturn(List.of(completedTask1, completedTask2, incompleteTask));
 
-            when(taskSettingsRepository.findAllByAccountId(accountId)).thenReturn(Collections.emptyList());
-            when(taskRepository.saveAll(any())).thenReturn(Collections.emptyList());
-
             // When
             taskService.reloadTasks();
 
             // Then
-            verify(accountFacade).addStars(accountDto, 8); // 5 + 3
+            verify(eventFacade).publish(new StarsAwardedEvent(accountId, languageUuid, "English", TaskType.REPEAT_DICTIONARY, 5));
+            verify(eventFacade).publish(new StarsAwardedEvent(accountId, languageUuid, "English", TaskType.ADD_DICTIONARY, 3));
+            verify(eventFacade, never()).publish(argThat(event ->
+                    event instanceof StarsAwardedEvent stars && stars.taskType() == TaskType.REPEAT_EXERCISE));
         }
 
         @Test
         void success_doesNotAwardStarsWhenNoTasksCompleted() {
             // Given
             when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
-            when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
 
             Task incompleteTask = createTask(TaskType.REPEAT_DICTIONARY, 15, 30, 2);
             when(taskRepository.findAllByAccountId(accountId)).thenReturn(List.of(incompleteTask));
 
-            when(taskSettingsRepository.findAllByAccountId(accountId)).thenReturn(Collections.emptyList());
-            when(taskRepository.saveAll(any())).thenReturn(Collections.emptyList());
-
             // When
             taskService.reloadTasks();
 
             // Then
-            verify(accountFacade, never()).addStars(any(), anyInt());
+            verify(eventFacade, never()).publish(any());
         }
 
         @Test
-        void success_createsTasksBasedOnSettings() {
+        void whenCoalescingEnabled_appliesPendingProgressBeforeAwardingStarsAndResetting() {
             // Given
-            when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
-            when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
-            when(taskRepository.findAllByAccountId(accountId)).thenReturn(Collections.emptyList());
+            final TaskService coalescingTaskService = createTaskService(true);
+            when(taskRepository.incrementCurrent(eq(accountId), eq(TaskType.REPEAT_DICTIONARY), eq(languageUuid), eq(3), any()))
+                    .thenReturn(1);
+            when(taskRepository.findAllByAccountId(accountId))
+                    .thenReturn(List.of(createTask(TaskType.REPEAT_DICTIONARY, 30, 30, 5)));
+            coalescingTaskService.fillTask(accountId, TaskType.REPEAT_DICTIONARY, languageUuid, 3);
 
-            TaskSettings settings = new TaskSettings();
-            settings.setLanguage(language);
-            settings.setAccount(account);
-            settings.setRepeatDictionaryEnabled(true);
-            settings.setRepeatDictionaryMaximum(50);
-            settings.setRepeatExerciseEnabled(false);
-            settings.setAddDictionaryEnabled(true);
-            settings.setAddDictionaryMaximum(20);
-            settings.setAddExerciseEnabled(false);
+            // When
+            coalescingTaskService.reloadTasks(accountDto);
+            taskProgressCoalescer.flush();
 
-            when(taskSettingsRepository.findAllByAccountId(accountId)).thenReturn(List.of(settings));
+            // Then
+            InOrder inOrder = inOrder(taskRepository);
+            inOrder.verify(taskRepository).incrementCurrent(eq(accountId), eq(TaskType.REPEAT_DICTIONARY), eq(languageUuid), eq(3), any());
+            inOrder.verify(taskRepository).findAllByAccountId(accountId);
+            inOrder.verify(taskRepository).resetTasks(eq(accountId), any());
+            verify(taskRepository, times(1)).incrementCurrent(anyLong(), any(), any(), anyInt(), any());
+            verify(eventFacade).publish(new StarsAwardedEvent(accountId, languageUuid, "English", TaskType.REPEAT_DICTIONARY, 5));
+        }
 
-            ArgumentCaptor<List<Task>> taskCaptor = ArgumentCaptor.forClass(List.class);
-            when(taskRepository.saveAll(taskCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        @Test
+        void whenCoalescingEnabled_keepsPendingProgressOfOtherAccounts() {
+            // Given
+            final TaskService coalescingTaskService = createTaskService(true);
+            final Long otherAccountId = 9L;
+            coalescingTaskService.fillTask(otherAccountId, TaskType.ADD_DICTIONARY, languageUuid, 2);
 
             // When
-            taskService.reloadTasks();
+            coalescingTaskService.reloadTasks(accountDto);
 
             // Then
-            List<Task> savedTasks = taskCaptor.getValue();
-            assertThat(savedTasks).hasSize(2);
-            assertThat(savedTasks).extracting(Task::getType)
-                    .containsExactlyInAnyOrder(TaskType.REPEAT_DICTIONARY, TaskType.ADD_DICTIONARY);
+            verify(taskRepository, never()).incrementCurrent(anyLong(), any(), any(), anyInt(), any());
+
+            // When
+            taskProgressCoalescer.flush();
 
-            Task repeatTask = savedTasks.stream()
-                    .filter(t -> t.getType() == TaskType.REPEAT_DICTIONARY)
-                    .findFirst()
-                    .orElseThrow();
-            assertThat(repeatTask.getMaximum()).isEqualTo(50);
+            // Then
+            verify(taskRepository).incrementCurrent(eq(otherAccountId), eq(TaskType.ADD_DICTIONARY), eq(languageUuid), eq(2), any());
         }
 
         @Test
-        void whenAccountNotFound_throwsNotFoundException() {
+        void whenReloadRollsBack_requeuesFlushedAccountProgress() {
             // Given
-            when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
-            when(taskRepository.findAllByAccountId(accountId)).thenReturn(Collections.emptyList());
-            when(accountRepository.findById(accountId)).thenReturn(Optional.empty());
+            final TaskService coalescingTaskService = createTaskService(true);
+            coalescingTaskService.fillTask(accountId, TaskType.REPEAT_EXERCISE, languageUuid, 4);
+            TransactionSynchronizationManager.initSynchronization();
 
-            TaskSettings settings = createTaskSettings();
-            when(taskSettingsRepository.findAllByAccountId(accountId)).thenReturn(List.of(settings));
-
-            // When & Then
-            assertThatThrownBy(() -> taskService.reloadTasks())
-                    .isInstanceOf(NotFoundException.class)
-                    .hasFieldOrPropertyWithValue("error", ErrorCodes.USER_NOT_FOUND);
+            // When
+            try {
+                taskProgressCoalescer.flush(accountId);
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            taskProgressCoalescer.flush();
 
-            verify(taskRepository, never()).saveAll(any());
+            // Then
+            verify(taskRepository, times(2))
+                    .incrementCurrent(eq(accountId), eq(TaskType.REPEAT_EXERCISE), eq(languageUuid), eq(4), any());
         }
 
         @Test
         void withAccountDto_reloadsTasks() {
             // Given
-            when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
             when(taskRepository.findAllByAccountId(accountId)).thenReturn(Collections.emptyList());
-            when(taskSettingsRepository.findAllByAccountId(accountId)).thenReturn(Collections.emptyList());
-            when(taskRepository.saveAll(any())).thenReturn(Collections.emptyList());
 
             // When
             List<TaskDto> result = taskService.reloadTasks(accountDto);
 
             // Then
             assertThat(result).isEmpty();
-            verify(taskRepository).deleteAllByAccountId(accountId);
+            verify(taskRepository).resetTasks(eq(accountId), any());
+            verify(accountFacade, never()).getLoggedAccount();
+        }
+    }
+
+    @Nested
+    class InitializeTasksForLanguageTests {
+
+        @Test
+        void success_savesDefaultSettingsAndInsertsTasksFromThem() {
+            // Given
+            when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
+            when(languageRepository.findByUuid(languageUuid)).thenReturn(Optional.of(language));
+            when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+
+            // When
+            taskService.initializeTasksForLanguage(languageUuid);
+
+            // Then
+            InOrder inOrder = inOrder(taskSettingsRepository, taskRepository);
+            inOrder.verify(taskSettingsRepository).save(any(TaskSettings.class));
+            inOrder.verify(taskRepository).insertMissingTasks(eq(accountId), any());
+            verify(taskRepository, never()).saveAll(any());
+        }
+
+        @Test
+        void whenLanguageNotFound_throwsNotFoundException() {
+            // Given
+            when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
+            when(languageRepository.findByUuid(languageUuid)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> taskService.initializeTasksForLanguage(languageUuid))
+                    .isInstanceOf(NotFoundException.class)
+                    .hasFieldOrPropertyWithValue("error", ErrorCodes.LANGUAGE_NOT_FOUND);
+            verify(taskRepository, never()).insertMissingTasks(anyLong(), any());
         }
     }
 
@@ -438,6 +472,8 @@ class TaskServiceTest {
             TaskSchedule savedSchedule = scheduleCaptor.getValue();
             assertThat(savedSchedule.getAccount()).isEqualTo(account);
             assertThat(savedSchedule.getFrequency()).isEqualTo(TaskFrequency.EVERY_N_DAYS);
+            assertThat(savedSchedule.getNextRunAt()).isAfter(LocalDateTime.now().minusDays(1));
+            assertThat(savedSchedule.getNextRunAt().getMinute()).isEqualTo(savedSchedule.getMinute());
         }
 
         @Test
@@ -555,96 +591,99 @@ class TaskServiceTest {
         void success_incrementsTaskProgress() {
             // Given
             when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
-            when(languageRepository.findByUuid(languageUuid)).thenReturn(Optional.of(language));
-
-            Task task = createTask(TaskType.REPEAT_DICTIONARY, 10, 30, 2);
-            when(taskRepository.findByAccountIdAndTypeAndLanguageId(accountId, TaskType.REPEAT_DICTIONARY, languageId))
-                    .thenReturn(Optional.of(task));
+            when(taskRepository.incrementCurrent(eq(accountId), eq(TaskType.REPEAT_DICTIONARY), eq(languageUuid), eq(5), any())).thenReturn(1);
 
             // When
             taskService.fillTask(TaskType.REPEAT_DICTIONARY, languageUuid, 5);
 
             // Then
-            assertThat(task.getCurrent()).isEqualTo(15);
-            verify(taskRepository).save(task);
+            verify(taskRepository).incrementCurrent(eq(accountId), eq(TaskType.REPEAT_DICTIONARY), eq(languageUuid), eq(5), any());
+            verify(taskRepository, never()).save(any());
+            verify(languageRepository, never()).findByUuid(any());
         }
 
         @Test
         void success_incrementsTaskProgressMultipleTimes() {
             // Given
             when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
-            when(languageRepository.findByUuid(languageUuid)).thenReturn(Optional.of(language));
-
-            Task task = createTask(TaskType.ADD_DICTIONARY, 5, 10, 3);
-            when(taskRepository.findByAccountIdAndTypeAndLanguageId(accountId, TaskType.ADD_DICTIONARY, languageId))
-                    .thenReturn(Optional.of(task));
+            when(taskRepository.incrementCurrent(eq(accountId), eq(TaskType.ADD_DICTIONARY), eq(languageUuid), anyInt(), any()))
+                    .thenReturn(1);
 
             // When
             taskService.fillTask(TaskType.ADD_DICTIONARY, languageUuid, 2);
             taskService.fillTask(TaskType.ADD_DICTIONARY, languageUuid, 1);
 
             // Then
-            assertThat(task.getCurrent()).isEqualTo(8);
-            verify(taskRepository, times(2)).save(task);
+            verify(taskRepository).incrementCurrent(eq(accountId), eq(TaskType.ADD_DICTIONARY), eq(languageUuid), eq(2), any());
+            verify(taskRepository).incrementCurrent(eq(accountId), eq(TaskType.ADD_DICTIONARY), eq(languageUuid), eq(1), any());
         }
 
         @Test
-        void success_allowsProgressOverMaximum() {
+        void success_withAccountId_skipsLoggedAccountLookup() {
             // Given
-            when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
-            when(languageRepository.findByUuid(languageUuid)).thenReturn(Optional.of(language));
-
-            Task task = createTask(TaskType.REPEAT_EXERCISE, 28, 30, 2);
-            when(taskRepository.findByAccountIdAndTypeAndLanguageId(accountId, TaskType.REPEAT_EXERCISE, languageId))
-                    .thenReturn(Optional.of(task));
+            when(taskRepository.incrementCurrent(eq(accountId), eq(TaskType.REPEAT_EXERCISE), eq(languageUuid), eq(10), any())).thenReturn(1);
 
             // When
-            taskService.fillTask(TaskType.REPEAT_EXERCISE, languageUuid, 5);
+            taskService.fillTask(accountId, TaskType.REPEAT_EXERCISE, languageUuid, 10);
 
             // Then
-            assertThat(task.getCurrent()).isEqualTo(33);
-            verify(taskRepository).save(task);
+            verify(taskRepository).incrementCurrent(eq(accountId), eq(TaskType.REPEAT_EXERCISE), eq(languageUuid), eq(10), any());
+            verify(accountFacade, never()).getLoggedAccount();
         }
 
         @Test
         void success_worksForDifferentTaskTypes() {
             // Given
             when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
-            when(languageRepository.findByUuid(languageUuid)).thenReturn(Optional.of(language));
-
-            Task exerciseTask = createTask(TaskType.REPEAT_EXERCISE, 0, 30, 2);
-            when(taskRepository.findByAccountIdAndTypeAndLanguageId(accountId, TaskType.REPEAT_EXERCISE, languageId))
-                    .thenReturn(Optional.of(exerciseTask));
+            when(taskRepository.incrementCurrent(eq(accountId), any(), eq(languageUuid), anyInt(), any())).thenReturn(1);
 
             // When
             taskService.fillTask(TaskType.REPEAT_EXERCISE, languageUuid, 10);
+            taskService.fillTask(TaskType.ADD_EXERCISE, languageUuid, 1);
+
+            // Then
+            verify(taskRepository).incrementCurrent(eq(accountId), eq(TaskType.REPEAT_EXERCISE), eq(languageUuid), eq(10), any());
+            verify(taskRepository).incrementCurrent(eq(accountId), eq(TaskType.ADD_EXERCISE), eq(languageUuid), eq(1), any());
+            verify(taskRepository, never()).incrementCurrent(anyLong(), eq(TaskType.REPEAT_DICTIONARY), any(), anyInt(), any());
+        }
+
+        @Test
+        void success_stampsIncrementWithCurrentTime() {
+            // Given
+            when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
+            when(taskRepository.incrementCurrent(eq(accountId), eq(TaskType.REPEAT_DICTIONARY), eq(languageUuid), eq(1), any()))
+                    .thenReturn(1);
+            final LocalDateTime before = DateTimeUtils.timestampUTC();
+
+            // When
+            taskService.fillTask(TaskType.REPEAT_DICTIONARY, languageUuid, 1);
 
             // Then
-            assertThat(exerciseTask.getCurrent()).isEqualTo(10);
-            verify(taskRepository).save(exerciseTask);
+            ArgumentCaptor<LocalDateTime> occurredAt = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(taskRepository).incrementCurrent(eq(accountId), eq(TaskType.REPEAT_DICTIONARY), eq(languageUuid), eq(1),
+                    occurredAt.capture());
+            assertThat(occurredAt.getValue()).isBetween(before, DateTimeUtils.timestampUTC());
         }
 
         @Test
         void whenLanguageNotFound_throwsNotFoundException() {
             // Given
             when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
+            when(taskRepository.incrementCurrent(eq(accountId), eq(TaskType.REPEAT_DICTIONARY), eq(languageUuid), eq(5), any())).thenReturn(0);
             when(languageRepository.findByUuid(languageUuid)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> taskService.fillTask(TaskType.REPEAT_DICTIONARY, languageUuid, 5))
                     .isInstanceOf(NotFoundException.class)
                     .hasFieldOrPropertyWithValue("error", ErrorCodes.LANGUAGE_NOT_FOUND);
-
-            verify(taskRepository, never()).findByAccountIdAndTypeAndLanguageId(anyLong(), any(), anyLong());
         }
 
         @Test
         void whenTaskNotFound_throwsNotFoundException() {
             // Given
             when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
+            when(taskRepository.incrementCurrent(eq(accountId), eq(TaskType.ADD_EXERCISE), eq(languageUuid), eq(5), any())).thenReturn(0);
             when(languageRepository.findByUuid(languageUuid)).thenReturn(Optional.of(language));
-            when(taskRepository.findByAccountIdAndTypeAndLanguageId(accountId, TaskType.ADD_EXERCISE, languageId))
-                    .thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> taskService.fillTask(TaskType.ADD_EXERCISE, languageUuid, 5))
@@ -655,26 +694,103 @@ class TaskServiceTest {
         }
 
         @Test
-        void success_incrementsWithOnePoint() {
+        void fillTasks_incrementsEachTaskAndSkipsMissingOnes() {
             // Given
-            when(accountFacade.getLoggedAccount()).thenReturn(accountDto);
-            when(languageRepository.findByUuid(languageUuid)).thenReturn(Optional.of(language));
+            final LocalDateTime occurredAt = LocalDateTime.of(2025, 3, 14, 23, 59);
+            when(taskRepository.incrementCurrent(accountId, TaskType.REPEAT_DICTIONARY, languageUuid, 4, occurredAt)).thenReturn(1);
+            when(taskRepository.incrementCurrent(accountId, TaskType.ADD_EXERCISE, languageUuid, 2, occurredAt)).thenReturn(0);
+
+            // When
+            taskService.fillTasks(List.of(
+                    new TaskProgressDto(accountId, TaskType.REPEAT_DICTIONARY, languageUuid, 4, occurredAt),
+                    new TaskProgressDto(accountId, TaskType.ADD_EXERCISE, languageUuid, 2, occurredAt)));
+
+            // Then
+            verify(taskRepository).incrementCurrent(accountId, TaskType.REPEAT_DICTIONARY, languageUuid, 4, occurredAt);
+            verify(taskRepository).incrementCurrent(accountId, TaskType.ADD_EXERCISE, languageUuid, 2, occurredAt);
+            verify(languageRepository, never()).findByUuid(any());
+        }
 
-            Task task = createTask(TaskType.REPEAT_DICTIONARY, 0, 30, 2);
-            when(taskRepository.findByAccountIdAndTypeAndLanguageId(accountId, TaskType.REPEAT_DICTIONARY, languageId))
-                    .thenReturn(Optional.of(task));
+        @Test
+        void fillTasks_whenCoalescingEnabled_buffersProgressUntilFlush() {
+            // Given
+            final TaskService coalescingTaskService = createTaskService(true);
+            final LocalDateTime earlier = LocalDateTime.of(2025, 3, 14, 23, 58);
+            final LocalDateTime later = earlier.plusMinutes(1);
 
             // When
-            taskService.fillTask(TaskType.REPEAT_DICTIONARY, languageUuid, 1);
+            coalescingTaskService.fillTasks(List.of(
+                    new TaskProgressDto(accountId, TaskType.ADD_DICTIONARY, languageUuid, 2, later),
+                    new TaskProgressDto(accountId, TaskType.ADD_DICTIONARY, languageUuid, 1, earlier)));
+
+            // Then
+            verify(taskRepository, never()).incrementCurrent(anyLong(), any(), any(), anyInt(), any());
+
+            // When
+            taskProgressCoalescer.flush();
+
+            // Then
+            verify(taskRepository).incrementCurrent(accountId, TaskType.ADD_DICTIONARY, languageUuid, 3, later);
+        }
+
+        @Test
+        void whenCoalescingEnabled_mergesIncrementsUntilFlush() {
+            // Given
+            final TaskService coalescingTaskService = createTaskService(true);
+            when(taskRepository.incrementCurrent(eq(accountId), eq(TaskType.REPEAT_DICTIONARY), eq(languageUuid), eq(3), any())).thenReturn(1);
+
+            // When
+            coalescingTaskService.fillTask(accountId, TaskType.REPEAT_DICTIONARY, languageUuid, 1);
+            coalescingTaskService.fillTask(accountId, TaskType.REPEAT_DICTIONARY, languageUuid, 2);
+
+            // Then
+            verify(taskRepository, never()).incrementCurrent(anyLong(), any(), any(), anyInt(), any());
+
+            // When
+            taskProgressCoalescer.flush();
+            taskProgressCoalescer.flush();
+
+            // Then
+            verify(taskRepository).incrementCurrent(eq(accountId), eq(TaskType.REPEAT_DICTIONARY), eq(languageUuid), eq(3), any());
+        }
+
+        @Test
+        void whenCoalescedFlushFails_requeuesIncrements() {
+            // Given
+            final TaskService coalescingTaskService = createTaskService(true);
+            when(taskRepository.incrementCurrent(eq(accountId), eq(TaskType.REPEAT_DICTIONARY), eq(languageUuid), eq(4), any()))
+                    .thenThrow(new IllegalStateException("connection lost"))
+                    .thenReturn(1);
+
+            coalescingTaskService.fillTask(accountId, TaskType.REPEAT_DICTIONARY, languageUuid, 4);
+
+            // When
+            taskProgressCoalescer.flush();
+            taskProgressCoalescer.flush();
 
             // Then
-            assertThat(task.getCurrent()).isEqualTo(1);
-            verify(taskRepository).save(task);
+            verify(taskRepository, times(2)).incrementCurrent(eq(accountId), eq(TaskType.REPEAT_DICTIONARY), eq(languageUuid), eq(4), any());
         }
     }
 
     // Helper methods
 
+    private TaskProgressCoalescer taskProgressCoalescer;
+
+    private TaskService createTaskService(final boolean coalesce) {
+        taskProgressCoalescer = new TaskProgressCoalescer(taskRepository, mock(PlatformTransactionManager.class), coalesce);
+        return new TaskService(
+                taskRepository,
+                taskSettingsRepository,
+                taskScheduleRepository,
+                accountRepository,
+                languageRepository,
+                accountFacade,
+                eventFacade,
+                taskProgressCoalescer
+        );
+    }
+
     private Task createTask(TaskType type, int current, int maximum, int starsReward) {
         Task task = new Task();
         task.setType(type);
@@ -0,0 +1,79 @@
+package io.learn.lexigeek.word.domain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CachingTranslationServiceTest {
+
+    private final MyMemoryTranslationService delegate = mock(MyMemoryTranslationService.class);
+    private final TranslationCacheRepository translationCacheRepository = mock(TranslationCacheRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CachingTranslationService service = new CachingTranslationService(delegate,
+            translationCacheRepository, mock(PlatformTransactionManager.class), meterRegistry, 100, Duration.ofDays(30));
+
+    @Test
+    void miss_translatesRemotelyAndStores() {
+        // Given
+        when(translationCacheRepository.findTranslation(anyString(), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(delegate.translate("dog", "en", "pl")).thenReturn("pies");
+
+        // When
+        final String first = service.translate("dog", "en", "pl");
+        final String second = service.translate("dog", "EN", "pl");
+
+        // Then
+        assertThat(first).isEqualTo("pies");
+        assertThat(second).isEqualTo("pies");
+        verify(delegate, times(1)).translate("dog", "en", "pl");
+        verify(translationCacheRepository).upsert(eq("dog"), eq("en"), eq("pl"), eq("pies"), any(LocalDateTime.class));
+        assertThat(lookups("miss")).isEqualTo(1);
+        assertThat(lookups("memory")).isEqualTo(1);
+    }
+
+    @Test
+    void storedTranslation_isServedWithoutNetworkCall() {
+        // Given
+        when(translationCacheRepository.findTranslation(eq("cat"), eq("en"), eq("pl"), any(LocalDateTime.class)))
+                .thenReturn(Optional.of("kot"));
+
+        // When
+        final String translated = service.translate("cat", "en", "pl");
+
+        // Then
+        assertThat(translated).isEqualTo("kot");
+        verifyNoInteractions(delegate);
+        assertThat(lookups("database")).isEqualTo(1);
+    }
+
+    @Test
+    void failedTranslation_isNotCached() {
+        // Given
+        when(translationCacheRepository.findTranslation(anyString(), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(delegate.translate("xyz", "en", "pl")).thenReturn(null);
+
+        // When
+        service.translate("xyz", "en", "pl");
+        service.translate("xyz", "en", "pl");
+
+        // Then
+        verify(delegate, times(2)).translate("xyz", "en", "pl");
+        verify(translationCacheRepository, never()).upsert(anyString(), anyString(), anyString(), anyString(),
+                any(LocalDateTime.class));
+    }
+
+    private double lookups(final String result) {
+        return meterRegistry.get("lexigeek.translation.lookups").tag("result", result).counter().count();
+    }
+}
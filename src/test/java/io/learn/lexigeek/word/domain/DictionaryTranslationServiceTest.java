@@ -0,0 +1,86 @@
+package io.learn.lexigeek.word.domain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class DictionaryTranslationServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final CachingTranslationService fallback = mock(CachingTranslationService.class);
+
+    @Test
+    void lookup_findsEntriesRegardlessOfCase() throws IOException {
+        // Given
+        final Path tsv = Files.writeString(directory.resolve("en-pl.tsv"),
+                "dog\tpies\nCat\tkot\nżółw\tturtle\nbroken line\n\tmissing key\ndog\tduplicate\n");
+        final Path index = directory.resolve("en-pl.idx");
+        OfflineDictionary.build(tsv, index);
+
+        // When
+        final OfflineDictionary dictionary = OfflineDictionary.open(index);
+
+        // Then
+        assertThat(dictionary.size()).isEqualTo(3);
+        assertThat(dictionary.lookup("dog")).isEqualTo("pies");
+        assertThat(dictionary.lookup(" CAT ")).isEqualTo("kot");
+        assertThat(dictionary.lookup("Żółw")).isEqualTo("turtle");
+        assertThat(dictionary.lookup("bird")).isNull();
+        assertThat(dictionary.lookup("")).isNull();
+    }
+
+    @Test
+    void load_skipsPairsThatAreNotEnabled() throws IOException {
+        // Given
+        Files.writeString(directory.resolve("en-pl.tsv"), "dog\tpies\n");
+        Files.writeString(directory.resolve("en-de.tsv"), "dog\tHund\n");
+
+        // When
+        final Map<String, OfflineDictionary> dictionaries = DictionaryTranslationService.load(directory, Set.of("en-pl"));
+
+        // Then
+        assertThat(dictionaries).containsOnlyKeys("en-pl");
+        assertThat(Files.exists(directory.resolve("en-de.idx"))).isFalse();
+    }
+
+    @Test
+    void translate_usesDictionaryBeforeFallback() throws IOException {
+        // Given
+        Files.writeString(directory.resolve("en-pl.tsv"), "dog\tpies\n");
+        final DictionaryTranslationService service = new DictionaryTranslationService(fallback,
+                new SimpleMeterRegistry(), directory.toString(), "");
+        when(fallback.translate("cat", "en", "pl")).thenReturn("kot");
+        when(fallback.translate("dog", "en", "de")).thenReturn("Hund");
+
+        // When / Then
+        assertThat(service.translate("dog", "EN", "pl")).isEqualTo("pies");
+        assertThat(service.translate("cat", "en", "pl")).isEqualTo("kot");
+        assertThat(service.translate("dog", "en", "de")).isEqualTo("Hund");
+        verify(fallback, never()).translate("dog", "EN", "pl");
+    }
+
+    @Test
+    void translate_withoutDirectory_delegatesEverything() {
+        // Given
+        final DictionaryTranslationService service = new DictionaryTranslationService(fallback,
+                new SimpleMeterRegistry(), "", "");
+        when(fallback.translate("dog", "en", "pl")).thenReturn("pies");
+
+        // When
+        final String translated = service.translate("dog", "en", "pl");
+
+        // Then
+        assertThat(translated).isEqualTo("pies");
+    }
+}
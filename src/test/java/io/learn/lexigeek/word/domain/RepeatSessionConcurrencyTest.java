@@ -0,0 +1,233 @@
+package io.learn.lexigeek.word.domain;
+
+import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.account.dto.AccountForm;
+import io.learn.lexigeek.category.CategoryFacade;
+import io.learn.lexigeek.category.domain.CategoryMethod;
+import io.learn.lexigeek.category.domain.CategoryMode;
+import io.learn.lexigeek.category.dto.CategoryForm;
+import io.learn.lexigeek.common.exception.AlreadyExistsException;
+import io.learn.lexigeek.common.exception.NotFoundException;
+import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.learn.lexigeek.language.LanguageFacade;
+import io.learn.lexigeek.language.dto.LanguageForm;
+import io.learn.lexigeek.word.RepeatingFacade;
+import io.learn.lexigeek.word.WordFacade;
+import io.learn.lexigeek.word.dto.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RepeatSessionConcurrencyTest {
+
+    private static final int WORD_COUNT = 20;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private AccountFacade accountFacade;
+
+    @Autowired
+    private LanguageFacade languageFacade;
+
+    @Autowired
+    private CategoryFacade categoryFacade;
+
+    @Autowired
+    private WordFacade wordFacade;
+
+    @Autowired
+    private RepeatingFacade repeatingFacade;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String email;
+    private UUID languageUuid;
+    private UUID categoryUuid;
+    private final List<UUID> wordUuids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        email = "concurrency-" + UUID.randomUUID() + "@example.com";
+        accountFacade.createAccount(new AccountForm("concurrency", email, "password"));
+        authenticate();
+
+        languageFacade.createLanguage(new LanguageForm("Concurrency", "CON", "", false, ""));
+        languageUuid = jdbcTemplate.queryForObject("""
+                SELECT l.uuid FROM languages l
+                JOIN accounts a ON a.id = l.account_id
+                WHERE a.email = ?
+                """, UUID.class, email);
+
+        categoryFacade.createCategory(languageUuid,
+                new CategoryForm("Concurrency", CategoryMode.DICTIONARY, CategoryMethod.QUESTION_TO_ANSWER, null));
+        categoryUuid = jdbcTemplate.queryForObject("""
+                SELECT c.uuid FROM categories c
+                JOIN languages l ON l.id = c.language_id
+                WHERE l.uuid = ?
+                """, UUID.class, languageUuid);
+
+        for (int i = 0; i < WORD_COUNT; i++) {
+            final WordDto word = wordFacade.createWord(languageUuid, categoryUuid, new WordForm(null, WordMechanism.BASIC, List.of(
+                    new WordPartForm(false, null, 0, false, false, null, "question-" + i),
+                    new WordPartForm(true, null, 1, true, false, null, "answer-" + i))));
+            wordFacade.acceptWord(languageUuid, categoryUuid, word.uuid());
+            wordUuids.add(word.uuid());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM accounts WHERE email = ?", email);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentAnswers_keepSessionInvariants() throws InterruptedException {
+        // Given
+        final RepeatSessionDto session = repeatingFacade.startSession(languageUuid,
+                new StartRepeatSessionForm(List.of(categoryUuid), WORD_COUNT, CategoryMethod.QUESTION_TO_ANSWER, false));
+        assertThat(session.wordsLeft()).isEqualTo(WORD_COUNT);
+
+        final AtomicInteger acceptedCorrectAnswers = new AtomicInteger();
+        final AtomicInteger acceptedAnswers = new AtomicInteger();
+        final AtomicInteger finishedSessions = new AtomicInteger();
+        final Queue<CheckAnswerResultDto> results = new ConcurrentLinkedQueue<>();
+        final Queue<Throwable> unexpectedErrors = new ConcurrentLinkedQueue<>();
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                executor.submit(() -> {
+                    authenticate();
+                    start.await();
+                    while (true) {
+                        final int index = ThreadLocalRandom.current().nextInt(WORD_COUNT);
+                        final boolean answerCorrectly = ThreadLocalRandom.current().nextInt(4) > 0;
+                        final String answer = answerCorrectly ? "answer-" + index : "wrong";
+                        try {
+                            final CheckAnswerResultDto result = repeatingFacade.checkAnswer(languageUuid, wordUuids.get(index),
+                                    new CheckAnswerForm(Map.of("0", answer), WordMethod.QUESTION_TO_ANSWER));
+                            results.add(result);
+                            acceptedAnswers.incrementAndGet();
+                            if (result.correct()) {
+                                acceptedCorrectAnswers.incrementAndGet();
+                            }
+                            if (!result.sessionActive()) {
+                                finishedSessions.incrementAndGet();
+                                return null;
+                            }
+                        } catch (final NotFoundException e) {
+                            if (e.getError() == ErrorCodes.REPEAT_SESSION_NOT_FOUND) {
+                                return null;
+                            }
+                            if (e.getError() != ErrorCodes.WORD_NOT_IN_SESSION) {
+                                unexpectedErrors.add(e);
+                                return null;
+                            }
+                        } catch (final OptimisticLockingFailureException e) {
+                            // retries exhausted under contention, nothing was committed
+                        } catch (final Throwable e) {
+                            unexpectedErrors.add(e);
+                            return null;
+                        }
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        }
+
+        // Then
+        assertThat(unexpectedErrors).isEmpty();
+        assertThat(finishedSessions.get()).isEqualTo(1);
+        assertThat(acceptedCorrectAnswers.get()).isEqualTo(WORD_COUNT);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.wordsLeft()).isBetween(0, WORD_COUNT);
+            assertThat(result.sessionActive()).isEqualTo(result.wordsLeft() > 0);
+        });
+
+        final Integer storedStats = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM word_stats ws
+                JOIN category_word cw ON cw.word_id = ws.word_id
+                JOIN categories c ON c.id = cw.category_id
+                WHERE c.uuid = ?
+                """, Integer.class, categoryUuid);
+        assertThat(storedStats).isEqualTo(acceptedAnswers.get());
+
+        assertThatThrownBy(() -> repeatingFacade.getActiveSession(languageUuid))
+                .isInstanceOf(NotFoundException.class)
+                .hasFieldOrPropertyWithValue("error", ErrorCodes.REPEAT_SESSION_NOT_FOUND);
+    }
+
+    @Test
+    void concurrentStarts_createSingleSession() throws InterruptedException {
+        // Given
+        final AtomicInteger startedSessions = new AtomicInteger();
+        final Queue<Throwable> unexpectedErrors = new ConcurrentLinkedQueue<>();
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                executor.submit(() -> {
+                    authenticate();
+                    start.await();
+                    try {
+                        repeatingFacade.startSession(languageUuid, new StartRepeatSessionForm(
+                                List.of(categoryUuid), WORD_COUNT, CategoryMethod.QUESTION_TO_ANSWER, false));
+                        startedSessions.incrementAndGet();
+                    } catch (final AlreadyExistsException e) {
+                        // expected for every thread but one
+                    } catch (final Throwable e) {
+                        unexpectedErrors.add(e);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        }
+
+        // Then
+        assertThat(unexpectedErrors).isEmpty();
+        assertThat(startedSessions.get()).isEqualTo(1);
+        final Integer sessions = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM repeat_sessions rs
+                JOIN languages l ON l.id = rs.language_id
+                WHERE l.uuid = ?
+                """, Integer.class, languageUuid);
+        assertThat(sessions).isEqualTo(1);
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+    }
+}
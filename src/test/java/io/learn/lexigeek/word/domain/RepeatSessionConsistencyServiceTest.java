@@ -0,0 +1,153 @@
+package io.learn.lexigeek.word.domain;
+
+import io.learn.lexigeek.category.domain.CategoryMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class RepeatSessionConsistencyServiceTest {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final RepeatSessionRepository repeatSessionRepository = mock(RepeatSessionRepository.class);
+    private final RepeatSessionConsistencyService consistencyService =
+            new RepeatSessionConsistencyService(repeatSessionRepository, mock(PlatformTransactionManager.class));
+
+    private Word answeredWord;
+    private Word pendingWord;
+
+    @BeforeEach
+    void setUp() {
+        final Category category = mock(Category.class);
+        when(category.getMethod()).thenReturn(CategoryMethod.BOTH);
+
+        answeredWord = new Word();
+        answeredWord.setUuid(UUID.randomUUID());
+        answeredWord.setResetTime(LocalDateTime.now().minusDays(1));
+        answeredWord.addCategory(category);
+
+        final WordStats wordStats = new WordStats();
+        wordStats.setCorrect(true);
+        wordStats.setMethod(WordMethod.QUESTION_TO_ANSWER);
+        wordStats.setAnswerTime(LocalDateTime.now());
+        answeredWord.addWordStats(wordStats);
+
+        pendingWord = new Word();
+        pendingWord.setUuid(UUID.randomUUID());
+        pendingWord.setResetTime(LocalDateTime.now().minusDays(1));
+        pendingWord.addCategory(category);
+    }
+
+    @Nested
+    class RebuildWordsLeftTests {
+
+        @Test
+        void whenCounterMatches_doesNothing() {
+            // Given
+            final RepeatSession session = createSession(3);
+
+            // When
+            final boolean rebuilt = consistencyService.rebuildWordsLeft(session);
+
+            // Then
+            assertThat(rebuilt).isFalse();
+            assertThat(session.getWordsLeft()).isEqualTo(3);
+            verify(repeatSessionRepository, never()).save(any());
+        }
+
+        @Test
+        void whenCounterDrifted_rebuildsFromWordStats() {
+            // Given
+            final RepeatSession session = createSession(4);
+
+            // When
+            final boolean rebuilt = consistencyService.rebuildWordsLeft(session);
+
+            // Then
+            assertThat(rebuilt).isTrue();
+            assertThat(session.getWordsLeft()).isEqualTo(3);
+            verify(repeatSessionRepository).save(session);
+        }
+
+        @Test
+        void whenCounterMissing_rebuildsFromWordStats() {
+            // Given
+            final RepeatSession session = createSession(null);
+
+            // When
+            final boolean rebuilt = consistencyService.rebuildWordsLeft(session);
+
+            // Then
+            assertThat(rebuilt).isTrue();
+            assertThat(session.getWordsLeft()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    class VerifyWordsLeftCountersTests {
+
+        @Test
+        void success_rebuildsOnlyDriftedSessions() {
+            // Given
+            final RepeatSession consistentSession = createSession(1L, 3);
+            final RepeatSession driftedSession = createSession(2L, 0);
+            when(repeatSessionRepository.findByIdGreaterThanOrderById(0L, PageRequest.of(0, CHUNK_SIZE)))
+                    .thenReturn(List.of(consistentSession, driftedSession));
+
+            // When
+            consistencyService.verifyWordsLeftCounters();
+
+            // Then
+            assertThat(driftedSession.getWordsLeft()).isEqualTo(3);
+            verify(repeatSessionRepository).save(driftedSession);
+            verify(repeatSessionRepository, never()).save(consistentSession);
+            verify(repeatSessionRepository, never()).findAll();
+        }
+
+        @Test
+        void success_pagesThroughSessionsAfterLastSeenId() {
+            // Given
+            final List<RepeatSession> fullChunk = new ArrayList<>();
+            for (long id = 1; id <= CHUNK_SIZE; id++) {
+                fullChunk.add(createSession(id, 3));
+            }
+            final RepeatSession driftedSession = createSession(CHUNK_SIZE + 1L, 0);
+            when(repeatSessionRepository.findByIdGreaterThanOrderById(0L, PageRequest.of(0, CHUNK_SIZE)))
+                    .thenReturn(fullChunk);
+            when(repeatSessionRepository.findByIdGreaterThanOrderById((long) CHUNK_SIZE, PageRequest.of(0, CHUNK_SIZE)))
+                    .thenReturn(List.of(driftedSession));
+
+            // When
+            consistencyService.verifyWordsLeftCounters();
+
+            // Then
+            verify(repeatSessionRepository, times(2)).findByIdGreaterThanOrderById(anyLong(), any());
+            verify(repeatSessionRepository).save(driftedSession);
+        }
+    }
+
+    private RepeatSession createSession(final Long id, final Integer wordsLeft) {
+        final RepeatSession session = spy(createSession(wordsLeft));
+        doReturn(id).when(session).getId();
+        return session;
+    }
+
+    private RepeatSession createSession(final Integer wordsLeft) {
+        final RepeatSession session = new RepeatSession();
+        session.setUuid(UUID.randomUUID());
+        session.setMethod(CategoryMethod.BOTH);
+        session.setWordQueue(new ArrayList<>(List.of(answeredWord, pendingWord)));
+        session.setWordsLeft(wordsLeft);
+        return session;
+    }
+}
@@ -1,17 +1,26 @@
 package io.learn.lexigeek.word.domain;
 
+import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.account.dto.AccountDto;
 import io.learn.lexigeek.category.domain.CategoryMethod;
 import io.learn.lexigeek.category.domain.CategoryMode;
 import io.learn.lexigeek.common.exception.AlreadyExistsException;
 import io.learn.lexigeek.common.exception.NotFoundException;
+import io.learn.lexigeek.common.transaction.OptimisticLockRetryExecutor;
 import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.learn.lexigeek.event.EventFacade;
+import io.learn.lexigeek.event.dto.SessionFinishedEvent;
+import io.learn.lexigeek.event.dto.WordAnsweredEvent;
 import io.learn.lexigeek.language.LanguageFacade;
-import io.learn.lexigeek.task.TaskFacade;
+import io.learn.lexigeek.task.dto.TaskType;
 import io.learn.lexigeek.word.dto.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -28,14 +37,17 @@ class RepeatingServiceTest {
     private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
     private final WordRepository wordRepository = mock(WordRepository.class);
     private final LanguageFacade languageFacade = mock(LanguageFacade.class);
-    private final TaskFacade taskFacade = mock(TaskFacade.class);
+    private final EventFacade eventFacade = mock(EventFacade.class);
+    private final AccountFacade accountFacade = mock(AccountFacade.class);
     private final RepeatingService repeatingService = new RepeatingService(
             repeatSessionRepository,
             languageRepository,
             categoryRepository,
             wordRepository,
             languageFacade,
-            taskFacade
+            eventFacade,
+            accountFacade,
+            new OptimisticLockRetryExecutor(mock(PlatformTransactionManager.class))
     );
 
     private UUID languageUuid;
@@ -66,6 +78,10 @@ class RepeatingServiceTest {
         word.setChosen(false);
         word.setResetTime(LocalDateTime.now().minusDays(1));
         word.addCategory(category);
+
+        when(accountFacade.getLoggedAccount())
+                .thenReturn(new AccountDto(1L, UUID.randomUUID(), "user", "user@example.com", null));
+        when(languageRepository.findByUuid(languageUuid)).thenReturn(Optional.of(language));
     }
 
     @Nested
@@ -99,7 +115,7 @@ class RepeatingServiceTest {
             savedSession.setMethod(CategoryMethod.QUESTION_TO_ANSWER);
             savedSession.setWordQueue(List.of(word));
 
-            when(repeatSessionRepository.save(any(RepeatSession.class))).thenReturn(savedSession);
+            when(repeatSessionRepository.saveAndFlush(any(RepeatSession.class))).thenReturn(savedSession);
 
             final StartRepeatSessionForm form = new StartRepeatSessionForm(
                     List.of(categoryUuid),
@@ -118,7 +134,7 @@ class RepeatingServiceTest {
             assertThat(result.wordsLeft()).isGreaterThan(0);
 
             verify(languageFacade).verifyLanguageOwnership(languageUuid);
-            verify(repeatSessionRepository).save(any(RepeatSession.class));
+            verify(repeatSessionRepository).saveAndFlush(any(RepeatSession.class));
         }
 
         @Test
@@ -142,6 +158,29 @@ class RepeatingServiceTest {
             verify(languageRepository, never()).findByUuid(any());
         }
 
+        @Test
+        void whenConcurrentSessionInserted_throwsAlreadyExistsException() {
+            // Given
+            doNothing().when(languageFacade).verifyLanguageOwnership(languageUuid);
+            when(repeatSessionRepository.existsByLanguageUuid(languageUuid)).thenReturn(false);
+            when(categoryRepository.findAllByUuidIn(anyList())).thenReturn(List.of(category));
+            when(wordRepository.findByCategoryUuids(anySet())).thenReturn(List.of(word));
+            when(repeatSessionRepository.saveAndFlush(any(RepeatSession.class)))
+                    .thenThrow(new DataIntegrityViolationException("uq_repeat_sessions_language"));
+
+            final StartRepeatSessionForm form = new StartRepeatSessionForm(
+                    List.of(categoryUuid),
+                    10,
+                    CategoryMethod.QUESTION_TO_ANSWER,
+                    false
+            );
+
+            // When & Then
+            assertThatThrownBy(() -> repeatingService.startSession(languageUuid, form))
+                    .isInstanceOf(AlreadyExistsException.class)
+                    .hasFieldOrPropertyWithValue("error", ErrorCodes.REPEAT_SESSION_ALREADY_EXISTS);
+        }
+
         @Test
         void whenLanguageNotFound_throwsNotFoundException() {
             // Given
@@ -216,7 +255,7 @@ class RepeatingServiceTest {
             savedSession.setMethod(CategoryMethod.BOTH);
             savedSession.setWordQueue(List.of(word));
 
-            when(repeatSessionRepository.save(any(RepeatSession.class))).thenReturn(savedSession);
+            when(repeatSessionRepository.saveAndFlush(any(RepeatSession.class))).thenReturn(savedSession);
 
             final StartRepeatSessionForm form = new StartRepeatSessionForm(
                     List.of(categoryUuid),
@@ -231,7 +270,7 @@ class RepeatingServiceTest {
             // Then
             assertThat(result).isNotNull();
             assertThat(result.method()).isEqualTo(CategoryMethod.BOTH);
-            verify(repeatSessionRepository).save(any(RepeatSession.class));
+            verify(repeatSessionRepository).saveAndFlush(any(RepeatSession.class));
         }
 
         @Test
@@ -263,7 +302,7 @@ class RepeatingServiceTest {
             savedSession.setMethod(CategoryMethod.QUESTION_TO_ANSWER);
             savedSession.setWordQueue(List.of(word));
 
-            when(repeatSessionRepository.save(any(RepeatSession.class))).thenReturn(savedSession);
+            when(repeatSessionRepository.saveAndFlush(any(RepeatSession.class))).thenReturn(savedSession);
 
             final StartRepeatSessionForm form = new StartRepeatSessionForm(
                     List.of(categoryUuid),
@@ -277,7 +316,7 @@ class RepeatingServiceTest {
 
             // Then
             assertThat(result).isNotNull();
-            verify(repeatSessionRepository).save(any(RepeatSession.class));
+            verify(repeatSessionRepository).saveAndFlush(any(RepeatSession.class));
         }
 
         @Test
@@ -329,6 +368,48 @@ class RepeatingServiceTest {
             verify(repeatSessionRepository).findByLanguageUuid(languageUuid);
         }
 
+        @Test
+        void success_returnsStoredWordsLeft() {
+            // Given
+            doNothing().when(languageFacade).verifyLanguageOwnership(languageUuid);
+
+            final RepeatSession session = new RepeatSession();
+            session.setUuid(UUID.randomUUID());
+            session.setLanguage(language);
+            session.setMethod(CategoryMethod.QUESTION_TO_ANSWER);
+            session.setWordQueue(List.of(word));
+            session.setWordsLeft(7);
+
+            when(repeatSessionRepository.findByLanguageUuid(languageUuid)).thenReturn(Optional.of(session));
+
+            // When
+            final RepeatSessionDto result = repeatingService.getActiveSession(languageUuid);
+
+            // Then
+            assertThat(result.wordsLeft()).isEqualTo(7);
+        }
+
+        @Test
+        void whenWordsLeftMissing_rebuildsFromWordQueue() {
+            // Given
+            doNothing().when(languageFacade).verifyLanguageOwnership(languageUuid);
+
+            final RepeatSession session = new RepeatSession();
+            session.setUuid(UUID.randomUUID());
+            session.setLanguage(language);
+            session.setMethod(CategoryMethod.QUESTION_TO_ANSWER);
+            session.setWordQueue(List.of(word));
+
+            when(repeatSessionRepository.findByLanguageUuid(languageUuid)).thenReturn(Optional.of(session));
+
+            // When
+            final RepeatSessionDto result = repeatingService.getActiveSession(languageUuid);
+
+            // Then
+            assertThat(result.wordsLeft()).isEqualTo(1);
+            assertThat(session.getWordsLeft()).isEqualTo(1);
+        }
+
         @Test
         void whenSessionNotFound_throwsNotFoundException() {
             // Given
@@ -473,6 +554,7 @@ class RepeatingServiceTest {
 
             when(repeatSessionRepository.findByLanguageUuid(languageUuid)).thenReturn(Optional.of(session));
             when(wordRepository.save(any(Word.class))).thenReturn(word);
+            when(language.getName()).thenReturn("Spanish");
 
             final CheckAnswerForm form = new CheckAnswerForm(
                     Map.of("0", "Hola"),
@@ -490,6 +572,8 @@ class RepeatingServiceTest {
 
             verify(wordRepository).save(any(Word.class));
             verify(repeatSessionRepository).delete(session);
+            verify(eventFacade).publish(new WordAnsweredEvent(1L, languageUuid, TaskType.REPEAT_EXERCISE, true));
+            verify(eventFacade).publish(new SessionFinishedEvent(1L, languageUuid, "Spanish"));
         }
 
         @Test
@@ -517,7 +601,7 @@ class RepeatingServiceTest {
 
             when(repeatSessionRepository.findByLanguageUuid(languageUuid)).thenReturn(Optional.of(session));
             when(wordRepository.save(any(Word.class))).thenReturn(word);
-            when(repeatSessionRepository.save(any(RepeatSession.class))).thenReturn(session);
+            when(repeatSessionRepository.saveAndFlush(any(RepeatSession.class))).thenReturn(session);
 
             final CheckAnswerForm form = new CheckAnswerForm(
                     Map.of("0", "Wrong"),
@@ -534,8 +618,151 @@ class RepeatingServiceTest {
             assertThat(result.sessionActive()).isTrue();
 
             verify(wordRepository).save(any(Word.class));
-            verify(repeatSessionRepository).save(session);
+            verify(repeatSessionRepository).saveAndFlush(session);
             verify(repeatSessionRepository, never()).delete(any());
+            verify(eventFacade).publish(new WordAnsweredEvent(1L, languageUuid, TaskType.REPEAT_EXERCISE, false));
+            verify(eventFacade, never()).publish(any(SessionFinishedEvent.class));
+        }
+
+        @Test
+        void success_correctAnswer_decrementsStoredWordsLeft() {
+            // Given
+            doNothing().when(languageFacade).verifyLanguageOwnership(languageUuid);
+
+            final Word otherWord = new Word();
+            otherWord.setUuid(UUID.randomUUID());
+            otherWord.setAccepted(true);
+            otherWord.setChosen(false);
+            otherWord.addCategory(category);
+
+            final RepeatSession session = new RepeatSession();
+            session.setUuid(UUID.randomUUID());
+            session.setLanguage(language);
+            session.setMethod(CategoryMethod.QUESTION_TO_ANSWER);
+            session.setWordQueue(new ArrayList<>(List.of(word, otherWord)));
+            session.setWordsLeft(2);
+
+            final WordPart answerPart = new WordPart();
+            answerPart.setWord("Hola");
+            answerPart.setAnswer(true);
+            answerPart.setPosition(1);
+            word.addWordPart(answerPart);
+
+            when(repeatSessionRepository.findByLanguageUuid(languageUuid)).thenReturn(Optional.of(session));
+
+            final CheckAnswerForm form = new CheckAnswerForm(
+                    Map.of("0", "Hola"),
+                    WordMethod.QUESTION_TO_ANSWER
+            );
+
+            // When
+            final CheckAnswerResultDto result = repeatingService.checkAnswer(languageUuid, wordUuid, form);
+
+            // Then
+            assertThat(result.wordsLeft()).isEqualTo(1);
+            assertThat(result.sessionActive()).isTrue();
+            assertThat(session.getWordsLeft()).isEqualTo(1);
+            assertThat(session.getWordQueue()).containsExactly(otherWord);
+
+            verify(repeatSessionRepository).saveAndFlush(session);
+        }
+
+        @Test
+        void success_incorrectAnswer_keepsStoredWordsLeft() {
+            // Given
+            doNothing().when(languageFacade).verifyLanguageOwnership(languageUuid);
+
+            final RepeatSession session = new RepeatSession();
+            session.setUuid(UUID.randomUUID());
+            session.setLanguage(language);
+            session.setMethod(CategoryMethod.QUESTION_TO_ANSWER);
+            session.setWordQueue(new ArrayList<>(List.of(word)));
+            session.setWordsLeft(1);
+
+            final WordPart answerPart = new WordPart();
+            answerPart.setWord("Hola");
+            answerPart.setAnswer(true);
+            answerPart.setPosition(1);
+            word.addWordPart(answerPart);
+
+            when(repeatSessionRepository.findByLanguageUuid(languageUuid)).thenReturn(Optional.of(session));
+
+            final CheckAnswerForm form = new CheckAnswerForm(
+                    Map.of("0", "Wrong"),
+                    WordMethod.QUESTION_TO_ANSWER
+            );
+
+            // When
+            final CheckAnswerResultDto result = repeatingService.checkAnswer(languageUuid, wordUuid, form);
+
+            // Then
+            assertThat(result.wordsLeft()).isEqualTo(1);
+            assertThat(session.getWordsLeft()).isEqualTo(1);
+        }
+
+        @Test
+        void whenOptimisticLockConflict_retriesWithFreshSession() {
+            // Given
+            doNothing().when(languageFacade).verifyLanguageOwnership(languageUuid);
+
+            final RepeatSession session = new RepeatSession();
+            session.setUuid(UUID.randomUUID());
+            session.setLanguage(language);
+            session.setMethod(CategoryMethod.QUESTION_TO_ANSWER);
+            session.setWordQueue(new ArrayList<>(List.of(word)));
+            session.setWordsLeft(1);
+
+            final WordPart answerPart = new WordPart();
+            answerPart.setWord("Hola");
+            answerPart.setAnswer(true);
+            answerPart.setPosition(1);
+            word.addWordPart(answerPart);
+
+            when(repeatSessionRepository.findByLanguageUuid(languageUuid)).thenReturn(Optional.of(session));
+            when(repeatSessionRepository.saveAndFlush(session))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(RepeatSession.class, 1L))
+                    .thenReturn(session);
+
+            final CheckAnswerForm form = new CheckAnswerForm(
+                    Map.of("0", "Wrong"),
+                    WordMethod.QUESTION_TO_ANSWER
+            );
+
+            // When
+            final CheckAnswerResultDto result = repeatingService.checkAnswer(languageUuid, wordUuid, form);
+
+            // Then
+            assertThat(result.correct()).isFalse();
+            assertThat(result.sessionActive()).isTrue();
+
+            verify(repeatSessionRepository, times(2)).findByLanguageUuid(languageUuid);
+            verify(repeatSessionRepository, times(2)).saveAndFlush(session);
+        }
+
+        @Test
+        void whenOptimisticLockConflictPersists_rethrowsAfterRetries() {
+            // Given
+            doNothing().when(languageFacade).verifyLanguageOwnership(languageUuid);
+
+            final RepeatSession session = new RepeatSession();
+            session.setUuid(UUID.randomUUID());
+            session.setLanguage(language);
+            session.setMethod(CategoryMethod.QUESTION_TO_ANSWER);
+            session.setWordQueue(new ArrayList<>(List.of(word)));
+            session.setWordsLeft(1);
+
+            when(repeatSessionRepository.findByLanguageUuid(languageUuid)).thenReturn(Optional.of(session));
+            when(repeatSessionRepository.saveAndFlush(session))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(RepeatSession.class, 1L));
+
+            final CheckAnswerForm form = new CheckAnswerForm(
+                    Map.of("0", "Wrong"),
+                    WordMethod.QUESTION_TO_ANSWER
+            );
+
+            // When & Then
+            assertThatThrownBy(() -> repeatingService.checkAnswer(languageUuid, wordUuid, form))
+                    .isInstanceOf(ObjectOptimisticLockingFailureException.class);
         }
 
         @Test
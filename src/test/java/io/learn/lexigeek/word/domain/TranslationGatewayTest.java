@@ -0,0 +1,232 @@
+package io.learn.lexigeek.word.domain;
+
+import com.sun.net.httpserver.HttpServer;
+import io.learn.lexigeek.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TranslationGatewayTest {
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger throttledResponses = new AtomicInteger();
+    private volatile String retryAfter;
+    private volatile int status = 200;
+    private volatile String body = "{\"responseData\":{\"translatedText\":\"pies\"},\"responseStatus\":200}";
+    private HttpServer server;
+    private TranslationGateway gateway;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/get", exchange -> {
+            hits.incrementAndGet();
+            final boolean throttled = throttledResponses.getAndDecrement() > 0;
+            final byte[] response = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (throttled && retryAfter != null) {
+                exchange.getResponseHeaders().add("Retry-After", retryAfter);
+            }
+            exchange.sendResponseHeaders(throttled ? 429 : status, response.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(response);
+            }
+        });
+        server.start();
+        gateway = new TranslationGateway(new SimpleMeterRegistry(), Duration.ofSeconds(1), Duration.ofSeconds(2),
+                40, 1, Duration.ofHours(1), 3, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void get_returnsResponseBody() {
+        // When
+        final String response = gateway.get(uri()).join();
+
+        // Then
+        assertThat(response).contains("pies");
+        assertThat(gateway.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void tooManyRequests_retriesAtLoweredRate() {
+        // Given
+        throttledResponses.set(2);
+
+        // When
+        final String response = gateway.get(uri()).join();
+
+        // Then
+        assertThat(response).contains("pies");
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(gateway.getRate()).isEqualTo(10);
+        assertThat(gateway.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void tooManyRequests_waitsForRetryAfter() {
+        // Given
+        throttledResponses.set(1);
+        retryAfter = "1";
+        final long start = System.nanoTime();
+
+        // When
+        final String response = gateway.get(uri()).join();
+
+        // Then
+        assertThat(response).contains("pies");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(900));
+        assertThat(hits.get()).isEqualTo(2);
+    }
+
+    @Test
+    void persistentTooManyRequests_throwsOnceCircuitOpens() {
+        // Given
+        throttledResponses.set(Integer.MAX_VALUE);
+
+        // When / Then
+        assertThatThrownBy(() -> gateway.get(uri()).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(gateway.getRate()).isEqualTo(5);
+        assertThat(gateway.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void outcomeTimers_areRegisteredUpFront() {
+        // Given
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // When
+        final TranslationGateway freshGateway = new TranslationGateway(meterRegistry, Duration.ofSeconds(1),
+                Duration.ofSeconds(2), 40, 1, Duration.ofHours(1), 3, Duration.ofHours(1));
+
+        // Then
+        assertThat(meterRegistry.find("lexigeek.translation.provider.requests").timers())
+                .extracting(timer -> timer.getId().getTag("outcome"))
+                .containsExactlyInAnyOrder("success", "throttled", "error", "rejected");
+        freshGateway.shutdown();
+    }
+
+    @Test
+    void serverErrors_openCircuitAndStopCallingProvider() {
+        // Given
+        status = 503;
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> gateway.get(uri()).join()).isInstanceOf(CompletionException.class);
+        }
+
+        // Then
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(gateway.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Nested
+    class MyMemoryTests {
+
+        private MyMemoryTranslationService service;
+
+        @BeforeEach
+        void setUp() {
+            service = new MyMemoryTranslationService(gateway, JsonMapper.builder().build(), uri().toString());
+        }
+
+        @Test
+        void translate_readsTranslatedText() {
+            // When
+            final String translated = service.translate("dog", "en", "pl");
+
+            // Then
+            assertThat(translated).isEqualTo("pies");
+        }
+
+        @Test
+        void translate_propagatesProviderUnavailability() {
+            // Given
+            status = 500;
+
+            // When / Then
+            assertThatThrownBy(() -> service.translate("dog", "en", "pl"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        }
+
+        @Test
+        void translate_failsFastWhenCircuitIsOpen() {
+            // Given
+            status = 503;
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> service.translate("dog", "en", "pl"))
+                        .isInstanceOf(ServiceUnavailableException.class);
+            }
+
+            // When / Then
+            assertThatThrownBy(() -> service.translate("dog", "en", "pl"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+            assertThat(hits.get()).isEqualTo(3);
+        }
+
+        @Test
+        void translate_returnsNullForErrorReportedWithHttp200() {
+            // Given
+            body = "{\"responseData\":{\"translatedText\":\"MYMEMORY WARNING: YOU USED ALL AVAILABLE FREE TRANSLATIONS FOR TODAY\"},"
+                    + "\"responseStatus\":429,\"responseDetails\":\"MYMEMORY WARNING\"}";
+
+            // When
+            final String translated = service.translate("dog", "en", "pl");
+
+            // Then
+            assertThat(translated).isNull();
+        }
+
+        @Test
+        void translate_returnsNullForInvalidLanguagePair() {
+            // Given
+            body = "{\"responseData\":{\"translatedText\":\"'XX' IS AN INVALID TARGET LANGUAGE\"},\"responseStatus\":\"403\"}";
+
+            // When
+            final String translated = service.translate("dog", "en", "xx");
+
+            // Then
+            assertThat(translated).isNull();
+        }
+
+        @Test
+        void translate_returnsNullWhenResponseHasNoTranslation() {
+            // Given
+            body = "{\"responseData\":{},\"responseStatus\":200}";
+
+            // When
+            final String translated = service.translate("dog", "en", "pl");
+
+            // Then
+            assertThat(translated).isNull();
+        }
+    }
+
+    private URI uri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/get");
+    }
+}
@@ -0,0 +1,203 @@
+package io.learn.lexigeek.word.domain;
+
+import io.learn.lexigeek.account.AccountFacade;
+import io.learn.lexigeek.account.dto.AccountDto;
+import io.learn.lexigeek.common.exception.ServiceUnavailableException;
+import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.learn.lexigeek.word.WordFacade;
+import io.learn.lexigeek.word.dto.SourcePart;
+import io.learn.lexigeek.word.dto.TranslationJobStatus;
+import io.learn.lexigeek.word.dto.WordForm;
+import io.learn.lexigeek.word.dto.WordPartForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TranslationJobWorkerTest {
+
+    private static final UUID LANGUAGE_UUID = UUID.randomUUID();
+    private static final UUID CATEGORY_UUID = UUID.randomUUID();
+    private static final String LEASE_TOKEN = "lease-token";
+
+    private final TranslationJobRepository translationJobRepository = mock(TranslationJobRepository.class);
+    private final AccountFacade accountFacade = mock(AccountFacade.class);
+    private final WordFacade wordFacade = mock(WordFacade.class);
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final TranslationJobWorker worker = new TranslationJobWorker(translationJobRepository, accountFacade,
+            wordFacade, translationService, transactionManager, 1, 2, Duration.ofMinutes(2), Duration.ofMinutes(1));
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(accountFacade.getAccountById(1L))
+                .thenReturn(new AccountDto(1L, UUID.randomUUID(), "user", "user@test.com", "hash"));
+        when(translationService.translate(anyString(), eq("en"), eq("pl")))
+                .thenAnswer(invocation -> invocation.getArgument(0, String.class) + "-pl");
+        when(translationJobRepository.advance(any(), anyString(), anyInt(), anyInt(), anyInt(), any(), any(), any())).thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void run_createsWordsChunkByChunkAndCompletes() {
+        // Given
+        final TranslationJob job = job("dog cat bird", 0);
+
+        // When
+        worker.run(job);
+
+        // Then
+        verify(translationJobRepository).advance(any(), eq(LEASE_TOKEN), eq(0), eq(2), eq(2), any(), any(), any());
+        verify(translationJobRepository).advance(any(), eq(LEASE_TOKEN), eq(2), eq(3), eq(1), any(), any(), any());
+        verify(wordFacade, times(2)).createWords(eq(LANGUAGE_UUID), eq(CATEGORY_UUID), anyList());
+        verify(translationJobRepository).finish(any(), anyString(), eq(TranslationJobStatus.COMPLETED), isNull(), any());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void run_resumesFromPersistedProgress() {
+        // Given
+        final TranslationJob job = job("dog cat bird", 2);
+
+        // When
+        worker.run(job);
+
+        // Then
+        verify(translationService).translate("bird", "en", "pl");
+        verify(translationService, never()).translate("dog", "en", "pl");
+        verify(wordFacade).createWords(LANGUAGE_UUID, CATEGORY_UUID, List.of(new WordForm(null, WordMechanism.BASIC, List.of(
+                new WordPartForm(false, null, 0, false, false, null, "bird"),
+                new WordPartForm(true, null, 1, true, false, null, "bird-pl")))));
+    }
+
+    @Test
+    void run_stopsWhenCancelled() {
+        // Given
+        final TranslationJob job = job("dog cat bird", 0);
+        when(translationJobRepository.isCancelRequested(any())).thenReturn(true);
+
+        // When
+        worker.run(job);
+
+        // Then
+        verifyNoInteractions(translationService, wordFacade);
+        verify(translationJobRepository).finish(any(), anyString(), eq(TranslationJobStatus.CANCELLED), isNull(), any());
+    }
+
+    @Test
+    void run_abandonsJobWhenLeaseIsLost() {
+        // Given
+        final TranslationJob job = job("dog cat bird", 0);
+        when(translationJobRepository.advance(any(), anyString(), anyInt(), anyInt(), anyInt(), any(), any(), any())).thenReturn(0);
+
+        // When
+        worker.run(job);
+
+        // Then
+        verifyNoInteractions(wordFacade);
+        verify(translationJobRepository, never()).finish(any(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    void run_marksJobFailedWhenWordCannotBeCreated() {
+        // Given
+        final TranslationJob job = job("dog", 0);
+        when(wordFacade.createWords(any(), any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        // When
+        worker.run(job);
+
+        // Then
+        verify(translationJobRepository).finish(any(), anyString(), eq(TranslationJobStatus.FAILED), eq("boom"), any());
+    }
+
+    @Test
+    void run_postponesJobWhenProviderIsUnavailable() {
+        // Given
+        final TranslationJob job = job("dog cat bird", 0);
+        when(translationService.translate(anyString(), eq("en"), eq("pl")))
+                .thenThrow(new ServiceUnavailableException(ErrorCodes.EXTERNAL_SERVICE_ERROR, "circuit open"));
+
+        // When
+        worker.run(job);
+
+        // Then
+        verify(translationJobRepository, never()).advance(any(), anyString(), anyInt(), anyInt(), anyInt(), any(), any(), any());
+        verify(translationJobRepository, never()).finish(any(), anyString(), any(), any(), any());
+        verify(translationJobRepository).postpone(any(), eq(LEASE_TOKEN), any(), any());
+        verifyNoInteractions(wordFacade);
+    }
+
+    @Test
+    void run_renewsLeaseWhileChunkIsTranslated() {
+        // Given
+        final TranslationJobWorker shortLeaseWorker = new TranslationJobWorker(translationJobRepository, accountFacade,
+                wordFacade, translationService, transactionManager, 1, 2, Duration.ofMillis(30), Duration.ofMinutes(1));
+        when(translationService.translate("dog", "en", "pl")).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return "pies";
+        });
+
+        // When
+        try {
+            shortLeaseWorker.run(job("dog", 0));
+        } finally {
+            shortLeaseWorker.shutdown();
+        }
+
+        // Then
+        verify(translationJobRepository, atLeastOnce()).renewLease(any(), eq(LEASE_TOKEN), any(), eq(TranslationJobStatus.RUNNING));
+    }
+
+    @Test
+    void claim_usesFreshLeaseTokenForEveryClaim() {
+        // Given
+        when(translationJobRepository.findClaimableJobIds(any(), anyInt())).thenReturn(List.of(1L));
+        final ArgumentCaptor<String> tokens = ArgumentCaptor.forClass(String.class);
+
+        // When
+        worker.claim(LocalDateTime.of(2025, 1, 1, 12, 0), 1);
+        worker.claim(LocalDateTime.of(2025, 1, 1, 12, 5), 1);
+
+        // Then
+        verify(translationJobRepository, times(2)).leaseJobs(eq(List.of(1L)), tokens.capture(), any(), any(), any());
+        assertThat(tokens.getAllValues()).doesNotHaveDuplicates();
+    }
+
+    private static TranslationJob job(final String text, final int processedWords) {
+        final TranslationJob job = new TranslationJob();
+        job.setAccountId(1L);
+        job.setLeaseOwner(LEASE_TOKEN);
+        job.setLanguageUuid(LANGUAGE_UUID);
+        job.setCategoryUuid(CATEGORY_UUID);
+        job.setSourceLanguage("en");
+        job.setTargetLanguage("pl");
+        job.setSourcePart(SourcePart.QUESTION);
+        job.setText(text);
+        job.setStatus(TranslationJobStatus.RUNNING);
+        job.setTotalWords(AutomaticTranslationService.splitTextIntoWords(text).size());
+        job.setProcessedWords(processedWords);
+        job.setCreatedWords(0);
+        return job;
+    }
+}
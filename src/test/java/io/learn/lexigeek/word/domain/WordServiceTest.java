@@ -8,8 +8,11 @@ import io.learn.lexigeek.common.pageable.OrderString;
 import io.learn.lexigeek.common.pageable.PageDto;
 import io.learn.lexigeek.common.pageable.PageableRequest;
 import io.learn.lexigeek.common.validation.ErrorCodes;
+import io.learn.lexigeek.event.EventFacade;
+import io.learn.lexigeek.event.dto.WordAcceptedEvent;
+import io.learn.lexigeek.event.dto.WordCreatedEvent;
 import io.learn.lexigeek.language.LanguageFacade;
-import io.learn.lexigeek.task.TaskFacade;
+import io.learn.lexigeek.task.dto.TaskType;
 import io.learn.lexigeek.word.dto.UpdateWordCategoriesForm;
 import io.learn.lexigeek.word.dto.WordDto;
 import io.learn.lexigeek.word.dto.WordFilterForm;
@@ -23,33 +26,38 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class WordServiceTest {
 
     private final WordRepository wordRepository = mock(WordRepository.class);
-    private final WordStatsRepository wordStatsRepository = mock(WordStatsRepository.class);
     private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
     private final CategoryFacade categoryFacade = mock(CategoryFacade.class);
     private final LanguageFacade languageFacade = mock(LanguageFacade.class);
-    private final TaskFacade taskFacade = mock(TaskFacade.class);
-    private final WordService wordService = new WordService(wordRepository, wordStatsRepository, categoryRepository,
-            categoryFacade, languageFacade, taskFacade);
+    private final EventFacade eventFacade = mock(EventFacade.class);
+    private final WordBatchWriter wordBatchWriter = mock(WordBatchWriter.class);
+    private final WordService wordService = new WordService(wordRepository, categoryRepository,
+            categoryFacade, languageFacade, eventFacade, wordBatchWriter);
 
     private UUID languageUuid;
     private UUID categoryUuid;
@@ -218,6 +226,12 @@ class WordServiceTest {
                     new WordPartForm(true, null, 1, false, false, null, "hola")
             );
             wordForm = new WordForm("Test word", WordMechanism.BASIC, wordParts);
+
+            final Account account = mock(Account.class);
+            when(account.getId()).thenReturn(7L);
+            final Language language = mock(Language.class);
+            when(language.getAccount()).thenReturn(account);
+            when(category.getLanguage()).thenReturn(language);
         }
 
         @Test
@@ -246,6 +260,7 @@ class WordServiceTest {
             assertThat(saved.getComment()).isEqualTo("Test word");
             assertThat(saved.getCategories()).contains(category);
             assertThat(saved.getWordParts()).hasSize(2);
+            verify(eventFacade).publish(new WordCreatedEvent(7L, languageUuid));
         }
 
         @Test
@@ -284,6 +299,7 @@ class WordServiceTest {
             verify(wordRepository).save(captor.capture());
             final Word saved = captor.getValue();
             assertThat(saved.getCategories()).contains(category);
+            verify(eventFacade).publish(new WordCreatedEvent(7L, languageUuid));
         }
 
         @Test
@@ -327,6 +343,7 @@ class WordServiceTest {
             final Word saved = captor.getValue();
             assertThat(saved.getAccepted()).isFalse(); // Should be reset to false
             assertThat(saved.getCategories()).contains(category);
+            verify(eventFacade, never()).publish(any());
         }
 
         @Test
@@ -357,6 +374,115 @@ class WordServiceTest {
         }
     }
 
+    @Nested
+    class CreateWordsTests {
+
+        @BeforeEach
+        void setUp() {
+            final Account account = mock(Account.class);
+            when(account.getId()).thenReturn(7L);
+            final Language language = mock(Language.class);
+            when(language.getAccount()).thenReturn(account);
+            when(category.getLanguage()).thenReturn(language);
+            when(categoryRepository.findByUuid(categoryUuid)).thenReturn(Optional.of(category));
+        }
+
+        @Test
+        void exerciseCategory_insertsAllWordsInOneBatch() {
+            // Given
+            final List<WordForm> forms = List.of(form("dog", "pies"), form("cat", "kot"));
+
+            // When
+            final List<WordDto> result = wordService.createWords(languageUuid, categoryUuid, forms);
+
+            // Then
+            assertThat(result).hasSize(2);
+            final ArgumentCaptor<List<Word>> captor = ArgumentCaptor.captor();
+            verify(wordBatchWriter).insert(captor.capture());
+            assertThat(captor.getValue()).hasSize(2)
+                    .allSatisfy(word -> assertThat(word.getCategories()).containsExactly(category));
+            verify(wordRepository, never()).findByCategoryUuidsAndPartWords(anySet(), anySet(), anyBoolean());
+            verify(eventFacade, times(2)).publish(new WordCreatedEvent(7L, languageUuid));
+        }
+
+        @Test
+        void dictionaryCategory_dedupesBatchWithSingleQuery() {
+            // Given
+            when(category.getMode()).thenReturn(CategoryMode.DICTIONARY);
+            final PageDto<CategoryDto> categoriesPage = new PageDto<>();
+            categoriesPage.setItems(List.of(new CategoryDto(categoryUuid, null, "Cat1", null, null, 0)));
+            when(categoryFacade.getCategories(any(), any(), any())).thenReturn(categoriesPage);
+
+            final Word existingWord = mock(Word.class);
+            final WordPart existingPart = new WordPart();
+            existingPart.setWord("dog");
+            existingPart.setAnswer(false);
+            existingPart.setPosition(0);
+            when(existingWord.getId()).thenReturn(1L);
+            when(existingWord.getWordParts()).thenReturn(new ArrayList<>(List.of(existingPart)));
+            when(existingWord.getCategories()).thenReturn(new HashSet<>());
+            when(existingWord.getWordStats()).thenReturn(List.of());
+            when(wordRepository.findByCategoryUuidsAndPartWords(anySet(), anySet(), anyBoolean())).thenReturn(List.of(existingWord));
+
+            final List<WordForm> forms = List.of(form("dog", "pies"), form("cat", "kot"), form("cat", "kotek"));
+
+            // When
+            final List<WordDto> result = wordService.createWords(languageUuid, categoryUuid, forms);
+
+            // Then
+            assertThat(result).hasSize(2);
+            verify(wordRepository).findByCategoryUuidsAndPartWords(Set.of(categoryUuid), Set.of("dog", "pies", "cat", "kot", "kotek"), false);
+            verify(existingWord).setAccepted(false);
+            verify(wordRepository).saveAll(Set.of(existingWord));
+
+            final ArgumentCaptor<List<Word>> captor = ArgumentCaptor.captor();
+            verify(wordBatchWriter).insert(captor.capture());
+            assertThat(captor.getValue()).singleElement()
+                    .satisfies(word -> assertThat(word.getWordParts()).extracting(WordPart::getWord)
+                            .containsExactly("cat", "kot", "kotek"));
+            verify(eventFacade, times(1)).publish(new WordCreatedEvent(7L, languageUuid));
+        }
+
+        @Test
+        void dictionaryCategory_matchesExistingWordByNullPart() {
+            // Given
+            when(category.getMode()).thenReturn(CategoryMode.DICTIONARY);
+            final PageDto<CategoryDto> categoriesPage = new PageDto<>();
+            categoriesPage.setItems(List.of(new CategoryDto(categoryUuid, null, "Cat1", null, null, 0)));
+            when(categoryFacade.getCategories(any(), any(), any())).thenReturn(categoriesPage);
+
+            final Word existingWord = mock(Word.class);
+            final WordPart existingPart = new WordPart();
+            existingPart.setAnswer(true);
+            existingPart.setPosition(0);
+            when(existingWord.getId()).thenReturn(1L);
+            when(existingWord.getWordParts()).thenReturn(new ArrayList<>(List.of(existingPart)));
+            when(existingWord.getCategories()).thenReturn(new HashSet<>());
+            when(existingWord.getWordStats()).thenReturn(List.of());
+            when(wordRepository.findByCategoryUuidsAndPartWords(anySet(), anySet(), anyBoolean()))
+                    .thenReturn(List.of(existingWord));
+
+            final List<WordForm> forms = List.of(form("dog", null));
+
+            // When
+            final List<WordDto> result = wordService.createWords(languageUuid, categoryUuid, forms);
+
+            // Then
+            assertThat(result).hasSize(1);
+            verify(wordRepository).findByCategoryUuidsAndPartWords(Set.of(categoryUuid), Set.of("dog"), true);
+            verify(wordRepository).saveAll(Set.of(existingWord));
+            verify(wordBatchWriter).insert(List.of());
+            verify(eventFacade, never()).publish(any());
+        }
+
+        private WordForm form(final String question, final String answer) {
+            return new WordForm(null, WordMechanism.BASIC, List.of(
+                    new WordPartForm(false, null, 0, false, false, null, question),
+                    new WordPartForm(true, null, 1, true, false, null, answer)
+            ));
+        }
+    }
+
     @Nested
     class UpdateWordTests {
 
@@ -507,7 +633,11 @@ class WordServiceTest {
                     .thenReturn(Optional.of(existingWord));
             when(wordRepository.save(any(Word.class))).thenReturn(existingWord);
             when(categoryRepository.findByUuid(categoryUuid)).thenReturn(Optional.of(category));
-            doNothing().when(taskFacade).fillTask(any(), any(), any());
+            final Account account = mock(Account.class);
+            when(account.getId()).thenReturn(7L);
+            final Language language = mock(Language.class);
+            when(language.getAccount()).thenReturn(account);
+            when(category.getLanguage()).thenReturn(language);
 
             // When
             final WordDto result = wordService.acceptWord(languageUuid, categoryUuid, wordUuid);
@@ -519,7 +649,7 @@ class WordServiceTest {
             verify(wordRepository).save(captor.capture());
             final Word saved = captor.getValue();
             assertThat(saved.getAccepted()).isTrue();
-            verify(taskFacade).fillTask(any(), any(), any());
+            verify(eventFacade).publish(new WordAcceptedEvent(7L, languageUuid, TaskType.ADD_EXERCISE));
         }
 
         @Test